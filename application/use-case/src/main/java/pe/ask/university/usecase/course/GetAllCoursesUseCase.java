@@ -1,12 +1,20 @@
 package pe.ask.university.usecase.course;
 
 import pe.ask.university.model.course.Course;
+import pe.ask.university.model.utils.CountStrategy;
+import pe.ask.university.model.utils.Cursor;
 import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.Projection;
 import pe.ask.university.port.in.usecase.course.IGetAllCoursesUseCase;
 import pe.ask.university.port.out.persistence.ICourseRepository;
+import pe.ask.university.usecase.utils.CursorTokens;
 import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Use case for retrieving all courses with pagination.
  * <p>
@@ -40,15 +48,22 @@ public class GetAllCoursesUseCase implements IGetAllCoursesUseCase {
      * with the total count of courses to construct a {@link Pageable} object,
      * which includes pagination metadata such as total pages and total elements.
      * </p>
+     * <p>
+     * If a cursor is given, the courses are read with a keyset seek on {@code (createdAt, id)}
+     * and the {@code page} parameter is only echoed back. A full page always carries the cursor
+     * of its last row so the client can continue from there.
+     * </p>
      *
      * @param page The page number to retrieve (0-indexed).
      * @param size The number of courses per page.
+     * @param cursor The continuation token of the previous page, or {@code null} to use offset pagination.
+     * @param projection Which columns are read; {@link Projection#SUMMARY} leaves the other fields {@code null}.
      * @return A {@link Mono} emitting a {@link Pageable} object containing the
      *         list of courses and pagination information.
      */
     @Override
-    public Mono<Pageable<Course>> getAllCourses(int page, int size) {
-        return repository.getAllCourses(page, size)
+    public Mono<Pageable<Course>> getAllCourses(int page, int size, String cursor, Projection projection) {
+        return fetchPage(page, size, cursor, projection)
                 .collectList()
                 .zipWith(repository.countAll())
                 .map(tuple -> Pageable.<Course>builder()
@@ -57,7 +72,49 @@ public class GetAllCoursesUseCase implements IGetAllCoursesUseCase {
                         .content(tuple.getT1())
                         .totalElements(tuple.getT2())
                         .totalPages((int) Math.ceil((double) tuple.getT2() / size))
+                        .nextCursor(nextCursor(tuple.getT1(), size))
+                        .countStrategy(CountStrategy.EXACT)
                         .build()
                 );
     }
+
+    /**
+     * Fetches the requested courses either by offset or by seeking past the given cursor,
+     * with the columns of the given projection.
+     *
+     * @param page       The page number, used only in offset mode.
+     * @param size       The number of courses to fetch.
+     * @param cursor     The continuation token, or {@code null} for offset mode.
+     * @param projection Which columns to read.
+     * @return A {@link Flux} emitting the courses of the page.
+     * @throws InvalidCursorException if the cursor cannot be decoded.
+     */
+    private Flux<Course> fetchPage(int page, int size, String cursor, Projection projection) {
+        boolean summary = projection == Projection.SUMMARY;
+        if (cursor == null || cursor.isBlank()) {
+            return summary
+                    ? repository.getAllCourseSummaries(page, size)
+                    : repository.getAllCourses(page, size);
+        }
+        return CursorTokens.decode(cursor)
+                .flatMapMany(position -> summary
+                        ? repository.getAllCourseSummariesAfter(position.getCreatedAt(), position.getId(), size)
+                        : repository.getAllCoursesAfter(position.getCreatedAt(), position.getId(), size)
+                );
+    }
+
+    /**
+     * Builds the continuation token pointing after the last course of a full page.
+     *
+     * @param content The courses of the current page.
+     * @param size    The requested page size.
+     * @return The encoded cursor, or {@code null} when there is no following page.
+     */
+    private String nextCursor(List<Course> content, int size) {
+        if (content.isEmpty() || content.size() < size) {
+            return null;
+        }
+        Course last = content.get(content.size() - 1);
+        return last.getCreatedAt() == null ? null : Cursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
 }
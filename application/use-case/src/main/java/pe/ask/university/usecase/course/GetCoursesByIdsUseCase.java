@@ -0,0 +1,60 @@
+package pe.ask.university.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.utils.LookupResult;
+import pe.ask.university.port.in.usecase.course.IGetCoursesByIdsUseCase;
+import pe.ask.university.port.out.persistence.ICourseRepository;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for retrieving several courses by their IDs at once.
+ * <p>
+ * This class implements the {@link IGetCoursesByIdsUseCase} interface. The distinct IDs are
+ * resolved by the {@link ICourseRepository} in a single query and the results are then laid out
+ * in the order of the request.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class GetCoursesByIdsUseCase implements IGetCoursesByIdsUseCase {
+
+    private final ICourseRepository repository;
+
+    /**
+     * Constructs a new {@code GetCoursesByIdsUseCase}.
+     *
+     * @param repository The repository for course persistence operations.
+     */
+    public GetCoursesByIdsUseCase(ICourseRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retrieves the courses with the given IDs.
+     * <p>
+     * Repeated IDs are queried once but reported once per occurrence. IDs without a matching
+     * course produce a not-found result at their position instead of being dropped.
+     * </p>
+     *
+     * @param ids The UUIDs of the courses to retrieve.
+     * @return A {@link Flux} emitting one {@link LookupResult} per requested ID, in request order.
+     */
+    @Override
+    public Flux<LookupResult<Course>> getCoursesByIds(List<UUID> ids) {
+        return repository.getCoursesByIds(new LinkedHashSet<>(ids))
+                .collectMap(Course::getId)
+                .flatMapIterable(found -> ids.stream()
+                        .map(id -> found.containsKey(id)
+                                ? LookupResult.found(id, found.get(id))
+                                : LookupResult.<Course>notFound(id))
+                        .toList()
+                );
+    }
+}
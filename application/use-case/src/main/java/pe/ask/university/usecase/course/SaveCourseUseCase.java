@@ -3,6 +3,7 @@ package pe.ask.university.usecase.course;
 import pe.ask.university.model.course.Course;
 import pe.ask.university.port.in.usecase.course.ISaveCourseUseCase;
 import pe.ask.university.port.out.persistence.ICourseRepository;
+import pe.ask.university.port.out.persistence.ICourseSuggestionRepository;
 import pe.ask.university.usecase.utils.UseCase;
 import pe.ask.university.usecase.utils.exception.CourseAlreadyExistsException;
 import reactor.core.publisher.Mono;
@@ -13,7 +14,8 @@ import reactor.core.publisher.Mono;
  * This class implements the {@link ISaveCourseUseCase} interface and provides the
  * business logic for creating or updating a course. It interacts with the
  * {@link ICourseRepository} to persist course data and includes validation
- * to ensure uniqueness of course names.
+ * to ensure uniqueness of course names. Saved courses are handed to the
+ * {@link ICourseSuggestionRepository} so they can be autocompleted right away.
  * </p>
  *
  * @author Allan Sagastegui
@@ -23,14 +25,17 @@ import reactor.core.publisher.Mono;
 public class SaveCourseUseCase implements ISaveCourseUseCase {
 
     private final ICourseRepository repository;
+    private final ICourseSuggestionRepository suggestionRepository;
 
     /**
      * Constructs a new {@code SaveCourseUseCase}.
      *
      * @param repository The repository for course persistence operations.
+     * @param suggestionRepository The repository serving course autocomplete suggestions.
      */
-    public SaveCourseUseCase(ICourseRepository repository) {
+    public SaveCourseUseCase(ICourseRepository repository, ICourseSuggestionRepository suggestionRepository) {
         this.repository = repository;
+        this.suggestionRepository = suggestionRepository;
     }
 
     /**
@@ -38,7 +43,8 @@ public class SaveCourseUseCase implements ISaveCourseUseCase {
      * <p>
      * This method first validates that the course name is unique. If the name
      * already exists, it emits a {@link RuntimeException}. Otherwise, it proceeds
-     * to save the course using the {@link ICourseRepository}.
+     * to save the course using the {@link ICourseRepository} and adds the saved course to the
+     * suggestions.
      * </p>
      *
      * @param course The {@link Course} object to be saved.
@@ -47,7 +53,8 @@ public class SaveCourseUseCase implements ISaveCourseUseCase {
     @Override
     public Mono<Course> saveCourse(Course course) {
         return validateUniqueFields(course)
-                .then(repository.saveCourse(course));
+                .then(repository.saveCourse(course))
+                .flatMap(saved -> suggestionRepository.indexCourse(saved).thenReturn(saved));
     }
 
     /**
@@ -0,0 +1,52 @@
+package pe.ask.university.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import pe.ask.university.port.in.usecase.course.ISearchCoursesUseCase;
+import pe.ask.university.port.out.persistence.ICourseRepository;
+import pe.ask.university.usecase.utils.SearchQuery;
+import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidSearchQueryException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for searching courses by text.
+ * <p>
+ * This class implements the {@link ISearchCoursesUseCase} interface. It normalizes the query
+ * and bounds the page size with {@link SearchQuery}, then returns the {@link Flux} of the
+ * {@link ICourseRepository} as is, so matches are emitted as the database produces them.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class SearchCoursesUseCase implements ISearchCoursesUseCase {
+
+    private final ICourseRepository repository;
+
+    /**
+     * Constructs a new {@code SearchCoursesUseCase}.
+     *
+     * @param repository The repository for course persistence operations.
+     */
+    public SearchCoursesUseCase(ICourseRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Searches courses by text.
+     *
+     * @param query The text to look for.
+     * @param page The page number to retrieve (0-indexed). Pages past {@link SearchQuery#MAX_PAGE} are empty.
+     * @param size The maximum number of courses to emit, clamped to {@link SearchQuery#MAX_SIZE}.
+     * @return A {@link Flux} emitting the matching courses, best match first. It fails with an
+     *         {@link InvalidSearchQueryException} if the query is too short or too long.
+     */
+    @Override
+    public Flux<Course> searchCourses(String query, int page, int size) {
+        return Mono.fromCallable(() -> SearchQuery.normalize(query))
+                .filter(normalized -> SearchQuery.isSearchablePage(page))
+                .flatMapMany(normalized -> repository.searchCourses(normalized, SearchQuery.boundedPage(page), SearchQuery.boundedSize(size)));
+    }
+}
@@ -0,0 +1,53 @@
+package pe.ask.university.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import pe.ask.university.port.in.usecase.course.IStreamAllCoursesUseCase;
+import pe.ask.university.port.out.persistence.ICourseRepository;
+import pe.ask.university.usecase.utils.CursorTokens;
+import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Flux;
+
+/**
+ * Use case for streaming all courses.
+ * <p>
+ * This class implements the {@link IStreamAllCoursesUseCase} interface. It returns the
+ * {@link Flux} of the {@link ICourseRepository} as is, so rows are emitted as the database
+ * produces them and demand from the subscriber is propagated to the query.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class StreamAllCoursesUseCase implements IStreamAllCoursesUseCase {
+
+    private final ICourseRepository repository;
+
+    /**
+     * Constructs a new {@code StreamAllCoursesUseCase}.
+     *
+     * @param repository The repository for course persistence operations.
+     */
+    public StreamAllCoursesUseCase(ICourseRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Streams the courses of the requested page, either by offset or by seeking past the cursor.
+     *
+     * @param page The page number to retrieve (0-indexed), ignored when a cursor is supplied.
+     * @param size The maximum number of courses to emit.
+     * @param cursor The continuation token, or {@code null} to use offset pagination.
+     * @return A {@link Flux} emitting the courses. It fails with an {@link InvalidCursorException}
+     *         if the cursor cannot be decoded.
+     */
+    @Override
+    public Flux<Course> streamAllCourses(int page, int size, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return repository.getAllCourses(page, size);
+        }
+        return CursorTokens.decode(cursor)
+                .flatMapMany(position -> repository.getAllCoursesAfter(position.getCreatedAt(), position.getId(), size));
+    }
+}
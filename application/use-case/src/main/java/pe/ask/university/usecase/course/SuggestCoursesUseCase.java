@@ -0,0 +1,49 @@
+package pe.ask.university.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import pe.ask.university.port.in.usecase.course.ISuggestCoursesUseCase;
+import pe.ask.university.port.out.persistence.ICourseSuggestionRepository;
+import pe.ask.university.usecase.utils.SearchQuery;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for autocompleting courses.
+ * <p>
+ * This class implements the {@link ISuggestCoursesUseCase} interface. It normalizes the prefix
+ * and bounds the number of suggestions with {@link SearchQuery}, then asks the
+ * {@link ICourseSuggestionRepository}. A blank prefix emits nothing.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class SuggestCoursesUseCase implements ISuggestCoursesUseCase {
+
+    private final ICourseSuggestionRepository repository;
+
+    /**
+     * Constructs a new {@code SuggestCoursesUseCase}.
+     *
+     * @param repository The repository answering the prefix lookups.
+     */
+    public SuggestCoursesUseCase(ICourseSuggestionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Suggests courses for a prefix.
+     *
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of courses to emit, clamped to {@link SearchQuery#MAX_SUGGESTIONS}.
+     * @return A {@link Flux} emitting the suggested courses, or nothing for a blank prefix.
+     */
+    @Override
+    public Flux<Course> suggestCourses(String prefix, int limit) {
+        return Mono.fromCallable(() -> SearchQuery.normalizePrefix(prefix))
+                .filter(normalized -> !normalized.isEmpty())
+                .flatMapMany(normalized -> repository.suggestCourses(normalized, SearchQuery.boundedSuggestions(limit)));
+    }
+}
@@ -1,12 +1,19 @@
 package pe.ask.university.usecase.enrollment;
 
 import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.CountStrategy;
+import pe.ask.university.model.utils.Cursor;
 import pe.ask.university.model.utils.Pageable;
 import pe.ask.university.port.in.usecase.enrollment.IGetAllEnrollmentsUseCase;
 import pe.ask.university.port.out.persistence.IEnrollmentRepository;
+import pe.ask.university.usecase.utils.CursorTokens;
 import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Use case for retrieving all enrollments with pagination.
  * <p>
@@ -21,6 +28,8 @@ import reactor.core.publisher.Mono;
 @UseCase
 public class GetAllEnrollmentsUseCase implements IGetAllEnrollmentsUseCase {
 
+    private static final long UNKNOWN_TOTAL = -1L;
+
     private final IEnrollmentRepository repository;
 
     /**
@@ -40,24 +49,95 @@ public class GetAllEnrollmentsUseCase implements IGetAllEnrollmentsUseCase {
      * with the total count of enrollments to construct a {@link Pageable} object,
      * which includes pagination metadata such as total pages and total elements.
      * </p>
+     * <p>
+     * If a cursor is given, the enrollments are read with a keyset seek on {@code (createdAt, id)}
+     * and the {@code page} parameter is only echoed back. A full page always carries the cursor
+     * of its last row so the client can continue from there.
+     * </p>
+     * <p>
+     * The total is computed according to the requested {@link CountStrategy}. With
+     * {@link CountStrategy#NONE} no count query is issued and both totals are {@code -1}.
+     * </p>
      *
      * @param page The page number to retrieve (0-indexed).
      * @param size The number of enrollments per page.
+     * @param cursor The continuation token of the previous page, or {@code null} to use offset pagination.
+     * @param countStrategy How the total number of elements is obtained.
      * @return A {@link Mono} emitting a {@link Pageable} object containing the
      *         list of enrollments and pagination information.
      */
     @Override
-    public Mono<Pageable<Enrollment>> getAllEnrollments(int page, int size) {
-        return repository.getAllEnrollments(page, size)
+    public Mono<Pageable<Enrollment>> getAllEnrollments(int page, int size, String cursor, CountStrategy countStrategy) {
+        return fetchPage(page, size, cursor)
                 .collectList()
-                .zipWith(repository.countAll())
+                .zipWith(count(countStrategy))
                 .map(tuple -> Pageable.<Enrollment>builder()
                         .size(size)
                         .page(page)
                         .content(tuple.getT1())
                         .totalElements(tuple.getT2())
-                        .totalPages((int) Math.ceil((double) tuple.getT2() / size))
+                        .totalPages(totalPages(tuple.getT2(), size))
+                        .nextCursor(nextCursor(tuple.getT1(), size))
+                        .countStrategy(countStrategy)
                         .build()
                 );
     }
+
+    /**
+     * Fetches the requested enrollments either by offset or by seeking past the given cursor.
+     *
+     * @param page   The page number, used only in offset mode.
+     * @param size   The number of enrollments to fetch.
+     * @param cursor The continuation token, or {@code null} for offset mode.
+     * @return A {@link Flux} emitting the enrollments of the page.
+     * @throws InvalidCursorException if the cursor cannot be decoded.
+     */
+    private Flux<Enrollment> fetchPage(int page, int size, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return repository.getAllEnrollments(page, size);
+        }
+        return CursorTokens.decode(cursor)
+                .flatMapMany(position -> repository.getAllEnrollmentsAfter(position.getCreatedAt(), position.getId(), size));
+    }
+
+    /**
+     * Builds the continuation token pointing after the last enrollment of a full page.
+     *
+     * @param content The enrollments of the current page.
+     * @param size    The requested page size.
+     * @return The encoded cursor, or {@code null} when there is no following page.
+     */
+    private String nextCursor(List<Enrollment> content, int size) {
+        if (content.isEmpty() || content.size() < size) {
+            return null;
+        }
+        Enrollment last = content.get(content.size() - 1);
+        return last.getCreatedAt() == null ? null : Cursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    /**
+     * Resolves the total number of enrollments with the given strategy.
+     *
+     * @param countStrategy The strategy to apply.
+     * @return A {@link Mono} emitting the total, or {@code -1} when counting is skipped.
+     */
+    private Mono<Long> count(CountStrategy countStrategy) {
+        return switch (countStrategy) {
+            case EXACT -> repository.countAll();
+            case CACHED -> repository.countAllCached();
+            case ESTIMATED -> repository.estimateCountAll();
+            case NONE -> Mono.just(UNKNOWN_TOTAL);
+        };
+    }
+
+    /**
+     * Computes the number of pages for a total, keeping {@code -1} when the total is unknown.
+     *
+     * @param total The total number of enrollments.
+     * @param size  The page size.
+     * @return The number of pages, or {@code -1} if the total is unknown.
+     */
+    private int totalPages(long total, int size) {
+        return total < 0 ? -1 : (int) Math.ceil((double) total / size);
+    }
 }
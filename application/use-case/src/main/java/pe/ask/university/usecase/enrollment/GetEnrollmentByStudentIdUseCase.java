@@ -5,7 +5,6 @@ import pe.ask.university.model.utils.Pageable;
 import pe.ask.university.port.in.usecase.enrollment.IGetEnrollmentByStudentIdUseCase;
 import pe.ask.university.port.out.persistence.IEnrollmentRepository;
 import pe.ask.university.usecase.utils.UseCase;
-import pe.ask.university.usecase.utils.exception.EnrollmentNotFoundException;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -14,7 +13,7 @@ import java.util.UUID;
  * Use case for retrieving enrollments by a student's ID.
  * <p>
  * This class implements the {@link IGetEnrollmentByStudentIdUseCase} interface and provides the
- * business logic for fetching all enrollments associated with a specific student.
+ * business logic for fetching the enrollments associated with a specific student, page by page.
  * It interacts with the {@link IEnrollmentRepository} to retrieve enrollment data.
  * </p>
  *
@@ -36,26 +35,32 @@ public class GetEnrollmentByStudentIdUseCase implements IGetEnrollmentByStudentI
     }
 
     /**
-     * Retrieves all enrollments associated with a given student ID.
+     * Retrieves a page of the enrollments associated with a given student ID.
      * <p>
-     * This method fetches all enrollments for a student from the {@link IEnrollmentRepository}
-     * using the provided student ID. It then packages the results into a {@link Pageable} object.
+     * This method fetches one page of enrollments for a student from the {@link IEnrollmentRepository},
+     * optionally restricted to a period, and combines it with the number of matching enrollments
+     * to build a {@link Pageable} with the real pagination metadata. Only the requested page is
+     * loaded, regardless of how many enrollments the student has.
      * </p>
      *
      * @param studentId The UUID of the student whose enrollments are to be retrieved.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @param page      The page number to retrieve (0-indexed).
+     * @param size      The number of enrollments per page.
      * @return A {@link Mono} emitting a {@link Pageable} object containing the list of
      *         enrollments and pagination information.
      */
     @Override
-    public Mono<Pageable<Enrollment>> getEnrollmentByStudentId(UUID studentId) {
-        return repository.getEnrollmentByStudentId(studentId)
+    public Mono<Pageable<Enrollment>> getEnrollmentByStudentId(UUID studentId, UUID periodId, int page, int size) {
+        return repository.getEnrollmentByStudentId(studentId, periodId, page, size)
                 .collectList()
-                .map(enrollments -> Pageable.<Enrollment>builder()
-                        .size(enrollments.size())
-                        .page(1)
-                        .totalPages(1)
-                        .totalElements(enrollments.size())
-                        .content(enrollments)
+                .zipWith(repository.countByStudentId(studentId, periodId))
+                .map(tuple -> Pageable.<Enrollment>builder()
+                        .size(size)
+                        .page(page)
+                        .content(tuple.getT1())
+                        .totalElements(tuple.getT2())
+                        .totalPages((int) Math.ceil((double) tuple.getT2() / size))
                         .build()
                 );
     }
@@ -0,0 +1,66 @@
+package pe.ask.university.usecase.enrollment;
+
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.port.in.usecase.enrollment.IGetEnrollmentDetailByStudentIdUseCase;
+import pe.ask.university.port.out.persistence.IEnrollmentRepository;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Use case for retrieving the enrollments of a student with their course and period.
+ * <p>
+ * This class implements the {@link IGetEnrollmentDetailByStudentIdUseCase} interface. It reads
+ * one page of {@link EnrollmentDetail} from the {@link IEnrollmentRepository}, where course and
+ * period data are joined in the same query, so rendering a student's enrollments does not need
+ * an extra lookup per row.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class GetEnrollmentDetailByStudentIdUseCase implements IGetEnrollmentDetailByStudentIdUseCase {
+
+    private final IEnrollmentRepository repository;
+
+    /**
+     * Constructs a new {@code GetEnrollmentDetailByStudentIdUseCase}.
+     *
+     * @param repository The repository for enrollment persistence operations.
+     */
+    public GetEnrollmentDetailByStudentIdUseCase(IEnrollmentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retrieves a page of the enrollment details of a student.
+     * <p>
+     * The page is combined with the number of matching enrollments to build a {@link Pageable}
+     * with the pagination metadata.
+     * </p>
+     *
+     * @param studentId The UUID of the student whose enrollments are to be retrieved.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @param page      The page number to retrieve (0-indexed).
+     * @param size      The number of enrollments per page.
+     * @return A {@link Mono} emitting a {@link Pageable} object containing the enrollment
+     *         details and pagination information.
+     */
+    @Override
+    public Mono<Pageable<EnrollmentDetail>> getEnrollmentDetailByStudentId(UUID studentId, UUID periodId, int page, int size) {
+        return repository.getEnrollmentDetailByStudentId(studentId, periodId, page, size)
+                .collectList()
+                .zipWith(repository.countByStudentId(studentId, periodId))
+                .map(tuple -> Pageable.<EnrollmentDetail>builder()
+                        .size(size)
+                        .page(page)
+                        .content(tuple.getT1())
+                        .totalElements(tuple.getT2())
+                        .totalPages((int) Math.ceil((double) tuple.getT2() / size))
+                        .build()
+                );
+    }
+}
@@ -0,0 +1,46 @@
+package pe.ask.university.usecase.enrollment;
+
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.LoadProgress;
+import pe.ask.university.port.in.usecase.enrollment.ILoadEnrollmentsUseCase;
+import pe.ask.university.port.out.persistence.IEnrollmentLoader;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Flux;
+
+/**
+ * Use case for bulk-loading historical enrollments.
+ * <p>
+ * This class implements the {@link ILoadEnrollmentsUseCase} interface and hands the stream
+ * to the {@link IEnrollmentLoader}, which writes it in large chunks. Referential integrity is
+ * left to the database foreign keys, so a chunk that references an unknown student, course
+ * or period is rejected as a whole.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class LoadEnrollmentsUseCase implements ILoadEnrollmentsUseCase {
+
+    private final IEnrollmentLoader loader;
+
+    /**
+     * Constructs a new {@code LoadEnrollmentsUseCase}.
+     *
+     * @param loader The loader used to write enrollments in bulk.
+     */
+    public LoadEnrollmentsUseCase(IEnrollmentLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Loads a stream of enrollments.
+     *
+     * @param enrollments The enrollments to load.
+     * @return A {@link Flux} emitting a {@link LoadProgress} after each committed chunk.
+     */
+    @Override
+    public Flux<LoadProgress> loadEnrollments(Flux<Enrollment> enrollments) {
+        return loader.load(enrollments);
+    }
+}
@@ -1,9 +1,16 @@
 package pe.ask.university.usecase.enrollment;
 
+import pe.ask.university.model.course.Course;
 import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
 import pe.ask.university.port.in.usecase.enrollment.ISaveEnrollmentUseCase;
+import pe.ask.university.port.out.persistence.ICourseRepository;
 import pe.ask.university.port.out.persistence.IEnrollmentRepository;
+import pe.ask.university.port.out.persistence.ISeatRepository;
 import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.CourseCapacityReachedException;
+import pe.ask.university.usecase.utils.exception.CourseNotFoundException;
+import pe.ask.university.usecase.utils.exception.EnrollmentAlreadyExistsException;
 import reactor.core.publisher.Mono;
 
 /**
@@ -13,6 +20,13 @@ import reactor.core.publisher.Mono;
  * business logic for creating or updating an enrollment. It interacts with the
  * {@link IEnrollmentRepository} to persist enrollment data.
  * </p>
+ * <p>
+ * When the course has a capacity, a seat is reserved through the {@link ISeatRepository}
+ * before the enrollment is stored, and given back if storing it fails. A seat is not given back
+ * when the caller cancels, since the insert may already be committed and releasing it would
+ * overbook the course; the counter is corrected when the seats are reconciled on startup.
+ * Courses without a capacity accept any number of enrollments.
+ * </p>
  *
  * @author Allan Sagastegui
  * @version 1.0
@@ -21,21 +35,31 @@ import reactor.core.publisher.Mono;
 public class SaveEnrollmentUseCase implements ISaveEnrollmentUseCase {
 
     private final IEnrollmentRepository repository;
+    private final ICourseRepository courseRepository;
+    private final ISeatRepository seatRepository;
 
     /**
      * Constructs a new {@code SaveEnrollmentUseCase}.
      *
-     * @param repository The repository for enrollment persistence operations.
+     * @param repository       The repository for enrollment persistence operations.
+     * @param courseRepository The repository used to read the capacity of the course.
+     * @param seatRepository   The repository that keeps track of the seats taken.
      */
-    public SaveEnrollmentUseCase(IEnrollmentRepository repository) {
+    public SaveEnrollmentUseCase(IEnrollmentRepository repository, ICourseRepository courseRepository, ISeatRepository seatRepository) {
         this.repository = repository;
+        this.courseRepository = courseRepository;
+        this.seatRepository = seatRepository;
     }
 
     /**
      * Saves a given enrollment.
      * <p>
      * This method takes an {@link Enrollment} object and returns a {@link Mono} that
-     * emits the saved enrollment upon successful completion.
+     * emits the saved enrollment upon successful completion. If the course does not exist,
+     * it emits a {@link CourseNotFoundException}; if the course has no seat left for the
+     * period, it emits a {@link CourseCapacityReachedException}. If the student is already
+     * enrolled in the course for the period, it emits an {@link EnrollmentAlreadyExistsException}
+     * carrying the ID of the existing enrollment, and the seat reserved for the attempt is given back.
      * </p>
      *
      * @param enrollment The enrollment to be saved.
@@ -43,6 +67,23 @@ public class SaveEnrollmentUseCase implements ISaveEnrollmentUseCase {
      */
     @Override
     public Mono<Enrollment> saveEnrollment(Enrollment enrollment) {
-        return repository.saveEnrollment(enrollment);
+        return courseRepository.getCourseById(enrollment.getCourseId())
+                .switchIfEmpty(Mono.error(CourseNotFoundException::new))
+                .flatMap(course -> course.getCapacity() == null
+                        ? repository.saveEnrollment(enrollment)
+                        : saveWithinCapacity(course, enrollment)
+                )
+                .onErrorMap(DuplicateValueException.class, ex -> new EnrollmentAlreadyExistsException(ex.getExistingId()));
+    }
+
+    private Mono<Enrollment> saveWithinCapacity(Course course, Enrollment enrollment) {
+        return seatRepository.reserve(course.getId(), enrollment.getPeriodId(), course.getCapacity())
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(CourseCapacityReachedException::new))
+                .flatMap(reserved -> repository.saveEnrollment(enrollment)
+                        .onErrorResume(ex -> seatRepository.release(course.getId(), enrollment.getPeriodId())
+                                .then(Mono.error(ex))
+                        )
+                );
     }
 }
@@ -0,0 +1,53 @@
+package pe.ask.university.usecase.enrollment;
+
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.port.in.usecase.enrollment.IStreamAllEnrollmentsUseCase;
+import pe.ask.university.port.out.persistence.IEnrollmentRepository;
+import pe.ask.university.usecase.utils.CursorTokens;
+import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Flux;
+
+/**
+ * Use case for streaming all enrollments.
+ * <p>
+ * This class implements the {@link IStreamAllEnrollmentsUseCase} interface. It returns the
+ * {@link Flux} of the {@link IEnrollmentRepository} as is, so rows are emitted as the database
+ * produces them and demand from the subscriber is propagated to the query.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class StreamAllEnrollmentsUseCase implements IStreamAllEnrollmentsUseCase {
+
+    private final IEnrollmentRepository repository;
+
+    /**
+     * Constructs a new {@code StreamAllEnrollmentsUseCase}.
+     *
+     * @param repository The repository for enrollment persistence operations.
+     */
+    public StreamAllEnrollmentsUseCase(IEnrollmentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Streams the enrollments of the requested page, either by offset or by seeking past the cursor.
+     *
+     * @param page The page number to retrieve (0-indexed), ignored when a cursor is supplied.
+     * @param size The maximum number of enrollments to emit.
+     * @param cursor The continuation token, or {@code null} to use offset pagination.
+     * @return A {@link Flux} emitting the enrollments. It fails with an {@link InvalidCursorException}
+     *         if the cursor cannot be decoded.
+     */
+    @Override
+    public Flux<Enrollment> streamAllEnrollments(int page, int size, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return repository.getAllEnrollments(page, size);
+        }
+        return CursorTokens.decode(cursor)
+                .flatMapMany(position -> repository.getAllEnrollmentsAfter(position.getCreatedAt(), position.getId(), size));
+    }
+}
@@ -1,12 +1,20 @@
 package pe.ask.university.usecase.student;
 
 import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.CountStrategy;
+import pe.ask.university.model.utils.Cursor;
 import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.Projection;
 import pe.ask.university.port.in.usecase.student.IGetAllStudentsUseCase;
 import pe.ask.university.port.out.persistence.IStudentRepository;
+import pe.ask.university.usecase.utils.CursorTokens;
 import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Use case for retrieving all students with pagination.
  * <p>
@@ -21,6 +29,8 @@ import reactor.core.publisher.Mono;
 @UseCase
 public class GetAllStudentsUseCase implements IGetAllStudentsUseCase {
 
+    private static final long UNKNOWN_TOTAL = -1L;
+
     private final IStudentRepository repository;
 
     /**
@@ -40,24 +50,104 @@ public class GetAllStudentsUseCase implements IGetAllStudentsUseCase {
      * with the total count of students to construct a {@link Pageable} object,
      * which includes pagination metadata such as total pages and total elements.
      * </p>
+     * <p>
+     * If a cursor is given, the students are read with a keyset seek on {@code (createdAt, id)}
+     * and the {@code page} parameter is only echoed back. A full page always carries the cursor
+     * of its last row so the client can continue from there.
+     * </p>
+     * <p>
+     * The total is computed according to the requested {@link CountStrategy}. With
+     * {@link CountStrategy#NONE} no count query is issued and both totals are {@code -1}.
+     * </p>
      *
      * @param page The page number to retrieve (0-indexed).
      * @param size The number of students per page.
+     * @param cursor The continuation token of the previous page, or {@code null} to use offset pagination.
+     * @param countStrategy How the total number of elements is obtained.
+     * @param projection Which columns are read; {@link Projection#SUMMARY} leaves the other fields {@code null}.
      * @return A {@link Mono} emitting a {@link Pageable} object containing the
      *         list of students and pagination information.
      */
     @Override
-    public Mono<Pageable<Student>> getAllStudents(int page, int size) {
-        return repository.getAllStudents(page, size)
+    public Mono<Pageable<Student>> getAllStudents(int page, int size, String cursor, CountStrategy countStrategy, Projection projection) {
+        return fetchPage(page, size, cursor, projection)
                 .collectList()
-                .zipWith(repository.countAll())
+                .zipWith(count(countStrategy))
                 .map(tuple -> Pageable.<Student>builder()
                         .size(size)
                         .page(page)
                         .content(tuple.getT1())
                         .totalElements(tuple.getT2())
-                        .totalPages((int) Math.ceil((double) tuple.getT2() / size))
+                        .totalPages(totalPages(tuple.getT2(), size))
+                        .nextCursor(nextCursor(tuple.getT1(), size))
+                        .countStrategy(countStrategy)
                         .build()
                 );
     }
+
+    /**
+     * Fetches the requested students either by offset or by seeking past the given cursor,
+     * with the columns of the given projection.
+     *
+     * @param page       The page number, used only in offset mode.
+     * @param size       The number of students to fetch.
+     * @param cursor     The continuation token, or {@code null} for offset mode.
+     * @param projection Which columns to read.
+     * @return A {@link Flux} emitting the students of the page.
+     * @throws InvalidCursorException if the cursor cannot be decoded.
+     */
+    private Flux<Student> fetchPage(int page, int size, String cursor, Projection projection) {
+        boolean summary = projection == Projection.SUMMARY;
+        if (cursor == null || cursor.isBlank()) {
+            return summary
+                    ? repository.getAllStudentSummaries(page, size)
+                    : repository.getAllStudents(page, size);
+        }
+        return CursorTokens.decode(cursor)
+                .flatMapMany(position -> summary
+                        ? repository.getAllStudentSummariesAfter(position.getCreatedAt(), position.getId(), size)
+                        : repository.getAllStudentsAfter(position.getCreatedAt(), position.getId(), size)
+                );
+    }
+
+    /**
+     * Builds the continuation token pointing after the last student of a full page.
+     *
+     * @param content The students of the current page.
+     * @param size    The requested page size.
+     * @return The encoded cursor, or {@code null} when there is no following page.
+     */
+    private String nextCursor(List<Student> content, int size) {
+        if (content.isEmpty() || content.size() < size) {
+            return null;
+        }
+        Student last = content.get(content.size() - 1);
+        return last.getCreatedAt() == null ? null : Cursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    /**
+     * Resolves the total number of students with the given strategy.
+     *
+     * @param countStrategy The strategy to apply.
+     * @return A {@link Mono} emitting the total, or {@code -1} when counting is skipped.
+     */
+    private Mono<Long> count(CountStrategy countStrategy) {
+        return switch (countStrategy) {
+            case EXACT -> repository.countAll();
+            case CACHED -> repository.countAllCached();
+            case ESTIMATED -> repository.estimateCountAll();
+            case NONE -> Mono.just(UNKNOWN_TOTAL);
+        };
+    }
+
+    /**
+     * Computes the number of pages for a total, keeping {@code -1} when the total is unknown.
+     *
+     * @param total The total number of students.
+     * @param size  The page size.
+     * @return The number of pages, or {@code -1} if the total is unknown.
+     */
+    private int totalPages(long total, int size) {
+        return total < 0 ? -1 : (int) Math.ceil((double) total / size);
+    }
 }
@@ -0,0 +1,60 @@
+package pe.ask.university.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.LookupResult;
+import pe.ask.university.port.in.usecase.student.IGetStudentsByIdsUseCase;
+import pe.ask.university.port.out.persistence.IStudentRepository;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for retrieving several students by their IDs at once.
+ * <p>
+ * This class implements the {@link IGetStudentsByIdsUseCase} interface. The distinct IDs are
+ * resolved by the {@link IStudentRepository} in a single query and the results are then laid out
+ * in the order of the request.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class GetStudentsByIdsUseCase implements IGetStudentsByIdsUseCase {
+
+    private final IStudentRepository repository;
+
+    /**
+     * Constructs a new {@code GetStudentsByIdsUseCase}.
+     *
+     * @param repository The repository for student persistence operations.
+     */
+    public GetStudentsByIdsUseCase(IStudentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retrieves the students with the given IDs.
+     * <p>
+     * Repeated IDs are queried once but reported once per occurrence. IDs without a matching
+     * student produce a not-found result at their position instead of being dropped.
+     * </p>
+     *
+     * @param ids The UUIDs of the students to retrieve.
+     * @return A {@link Flux} emitting one {@link LookupResult} per requested ID, in request order.
+     */
+    @Override
+    public Flux<LookupResult<Student>> getStudentsByIds(List<UUID> ids) {
+        return repository.getStudentsByIds(new LinkedHashSet<>(ids))
+                .collectMap(Student::getId)
+                .flatMapIterable(found -> ids.stream()
+                        .map(id -> found.containsKey(id)
+                                ? LookupResult.found(id, found.get(id))
+                                : LookupResult.<Student>notFound(id))
+                        .toList()
+                );
+    }
+}
@@ -0,0 +1,139 @@
+package pe.ask.university.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.ImportResult;
+import pe.ask.university.model.utils.ImportRow;
+import pe.ask.university.port.in.usecase.student.IImportStudentsUseCase;
+import pe.ask.university.port.out.persistence.IStudentRepository;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Flux;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case for importing students in bulk.
+ * <p>
+ * This class implements the {@link IImportStudentsUseCase} interface. It screens rows for
+ * duplicated emails and DNIs in memory, groups the remaining ones into batches and hands each
+ * batch to the {@link IStudentRepository} as a single multi-row insert. A few batches are
+ * written concurrently while results are still emitted in input order.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class ImportStudentsUseCase implements IImportStudentsUseCase {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int CONCURRENT_BATCHES = 4;
+
+    private final IStudentRepository repository;
+
+    /**
+     * Constructs a new {@code ImportStudentsUseCase}.
+     *
+     * @param repository The repository for student persistence operations.
+     */
+    public ImportStudentsUseCase(IStudentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Imports a stream of students.
+     * <p>
+     * Each subscription keeps its own set of seen emails and DNIs, so a value repeated later
+     * in the same import is reported as duplicated without touching the database. Rows that
+     * collide with students already stored are detected by the repository and reported as
+     * duplicated as well.
+     * </p>
+     *
+     * @param rows The parsed and validated rows to import.
+     * @return A {@link Flux} emitting one {@link ImportResult} per row, in input order.
+     */
+    @Override
+    public Flux<ImportResult> importStudents(Flux<ImportRow<Student>> rows) {
+        return Flux.defer(() -> {
+            Set<String> seenEmails = new HashSet<>();
+            Set<String> seenDnis = new HashSet<>();
+            return rows
+                    .map(row -> screen(row, seenEmails, seenDnis))
+                    .buffer(BATCH_SIZE)
+                    .flatMapSequential(this::persistBatch, CONCURRENT_BATCHES);
+        });
+    }
+
+    /**
+     * Resolves the rows that can be decided without the database.
+     *
+     * @param row        The row to screen.
+     * @param seenEmails The emails already accepted in this import.
+     * @param seenDnis   The DNIs already accepted in this import.
+     * @return The screened row, with its final result when it is invalid or a repeated value.
+     */
+    private Screened screen(ImportRow<Student> row, Set<String> seenEmails, Set<String> seenDnis) {
+        if (!row.isValid()) {
+            return new Screened(row, ImportResult.invalid(row.getIndex(), row.getErrors()));
+        }
+        Student student = row.getValue();
+        if (seenEmails.contains(student.getEmail())) {
+            return new Screened(row, ImportResult.duplicated(row.getIndex(), Map.of("email", "Repeated in this import")));
+        }
+        if (seenDnis.contains(student.getDni())) {
+            return new Screened(row, ImportResult.duplicated(row.getIndex(), Map.of("dni", "Repeated in this import")));
+        }
+        seenEmails.add(student.getEmail());
+        seenDnis.add(student.getDni());
+        return new Screened(row, null);
+    }
+
+    /**
+     * Writes the pending rows of a batch and builds the results for the whole batch.
+     * <p>
+     * The repository only returns the rows it inserted. Since emails are unique, pending rows
+     * whose email is missing from the returned rows conflicted with an existing student.
+     * </p>
+     *
+     * @param batch The screened rows of the batch.
+     * @return A {@link Flux} emitting the results of the batch in input order.
+     */
+    private Flux<ImportResult> persistBatch(List<Screened> batch) {
+        List<Student> pending = batch.stream()
+                .filter(screened -> screened.result() == null)
+                .map(screened -> screened.row().getValue())
+                .toList();
+
+        if (pending.isEmpty()) {
+            return Flux.fromIterable(batch).map(Screened::result);
+        }
+
+        return repository.saveAllStudents(Flux.fromIterable(pending))
+                .collectMap(Student::getEmail, Student::getId)
+                .flatMapIterable(created -> batch.stream()
+                        .map(screened -> screened.result() != null
+                                ? screened.result()
+                                : resolve(screened.row(), created))
+                        .toList()
+                );
+    }
+
+    private ImportResult resolve(ImportRow<Student> row, Map<String, UUID> created) {
+        UUID id = created.get(row.getValue().getEmail());
+        return id != null
+                ? ImportResult.created(row.getIndex(), id)
+                : ImportResult.duplicated(row.getIndex(), Map.of("student", "Email or DNI is already registered"));
+    }
+
+    /**
+     * A row together with its result when it was decided before reaching the database.
+     *
+     * @param row    The imported row.
+     * @param result The final result, or {@code null} if the row still has to be written.
+     */
+    private record Screened(ImportRow<Student> row, ImportResult result) {
+    }
+}
@@ -0,0 +1,52 @@
+package pe.ask.university.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import pe.ask.university.port.in.usecase.student.ISearchStudentsUseCase;
+import pe.ask.university.port.out.persistence.IStudentRepository;
+import pe.ask.university.usecase.utils.SearchQuery;
+import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidSearchQueryException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for searching students by text.
+ * <p>
+ * This class implements the {@link ISearchStudentsUseCase} interface. It normalizes the query
+ * and bounds the page size with {@link SearchQuery}, then returns the {@link Flux} of the
+ * {@link IStudentRepository} as is, so matches are emitted as the database produces them.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class SearchStudentsUseCase implements ISearchStudentsUseCase {
+
+    private final IStudentRepository repository;
+
+    /**
+     * Constructs a new {@code SearchStudentsUseCase}.
+     *
+     * @param repository The repository for student persistence operations.
+     */
+    public SearchStudentsUseCase(IStudentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Searches students by text.
+     *
+     * @param query The text to look for.
+     * @param page The page number to retrieve (0-indexed). Pages past {@link SearchQuery#MAX_PAGE} are empty.
+     * @param size The maximum number of students to emit, clamped to {@link SearchQuery#MAX_SIZE}.
+     * @return A {@link Flux} emitting the matching students, best match first. It fails with an
+     *         {@link InvalidSearchQueryException} if the query is too short or too long.
+     */
+    @Override
+    public Flux<Student> searchStudents(String query, int page, int size) {
+        return Mono.fromCallable(() -> SearchQuery.normalize(query))
+                .filter(normalized -> SearchQuery.isSearchablePage(page))
+                .flatMapMany(normalized -> repository.searchStudents(normalized, SearchQuery.boundedPage(page), SearchQuery.boundedSize(size)));
+    }
+}
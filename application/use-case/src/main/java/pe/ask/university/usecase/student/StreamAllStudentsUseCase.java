@@ -0,0 +1,53 @@
+package pe.ask.university.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import pe.ask.university.port.in.usecase.student.IStreamAllStudentsUseCase;
+import pe.ask.university.port.out.persistence.IStudentRepository;
+import pe.ask.university.usecase.utils.CursorTokens;
+import pe.ask.university.usecase.utils.UseCase;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Flux;
+
+/**
+ * Use case for streaming all students.
+ * <p>
+ * This class implements the {@link IStreamAllStudentsUseCase} interface. It returns the
+ * {@link Flux} of the {@link IStudentRepository} as is, so rows are emitted as the database
+ * produces them and demand from the subscriber is propagated to the query.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@UseCase
+public class StreamAllStudentsUseCase implements IStreamAllStudentsUseCase {
+
+    private final IStudentRepository repository;
+
+    /**
+     * Constructs a new {@code StreamAllStudentsUseCase}.
+     *
+     * @param repository The repository for student persistence operations.
+     */
+    public StreamAllStudentsUseCase(IStudentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Streams the students of the requested page, either by offset or by seeking past the cursor.
+     *
+     * @param page The page number to retrieve (0-indexed), ignored when a cursor is supplied.
+     * @param size The maximum number of students to emit.
+     * @param cursor The continuation token, or {@code null} to use offset pagination.
+     * @return A {@link Flux} emitting the students. It fails with an {@link InvalidCursorException}
+     *         if the cursor cannot be decoded.
+     */
+    @Override
+    public Flux<Student> streamAllStudents(int page, int size, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return repository.getAllStudents(page, size);
+        }
+        return CursorTokens.decode(cursor)
+                .flatMapMany(position -> repository.getAllStudentsAfter(position.getCreatedAt(), position.getId(), size));
+    }
+}
@@ -0,0 +1,29 @@
+package pe.ask.university.usecase.utils;
+
+import pe.ask.university.model.utils.Cursor;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decodes the cursor tokens sent by clients to the listing use cases.
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class CursorTokens {
+
+    private CursorTokens() {
+    }
+
+    /**
+     * Decodes a cursor token when subscribed.
+     *
+     * @param token The token sent by the client.
+     * @return A {@link Mono} emitting the decoded {@link Cursor}. It fails with an
+     *         {@link InvalidCursorException} if the token cannot be decoded.
+     */
+    public static Mono<Cursor> decode(String token) {
+        return Mono.fromCallable(() -> Cursor.decode(token))
+                .onErrorMap(IllegalArgumentException.class, ex -> new InvalidCursorException());
+    }
+}
@@ -0,0 +1,104 @@
+package pe.ask.university.usecase.utils;
+
+import pe.ask.university.model.utils.SearchText;
+import pe.ask.university.usecase.utils.exception.InvalidSearchQueryException;
+
+/**
+ * Normalizes and bounds the input of the search use cases.
+ * <p>
+ * Queries are trimmed, runs of whitespace are collapsed and the text is lower-cased, which is
+ * the form the trigram indexes are built on. Fewer than {@value #MIN_LENGTH} characters produce
+ * no trigram the index can use, so such queries are rejected instead of scanning the table.
+ * </p>
+ * <p>
+ * Autocomplete prefixes get the same normalization but any length is accepted, since they are
+ * answered from memory. A blank prefix simply matches nothing.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class SearchQuery {
+
+    public static final int MIN_LENGTH = 3;
+    public static final int MAX_LENGTH = 100;
+    public static final int MAX_SIZE = 50;
+    public static final int MAX_PAGE = 19;
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private SearchQuery() {
+    }
+
+    /**
+     * Normalizes a raw search text.
+     *
+     * @param query The text sent by the client.
+     * @return The trimmed, lower-cased text with single spaces.
+     * @throws InvalidSearchQueryException if the text is missing or its length is out of bounds.
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            throw new InvalidSearchQueryException();
+        }
+        String normalized = SearchText.normalize(query);
+        if (normalized.length() < MIN_LENGTH || normalized.length() > MAX_LENGTH) {
+            throw new InvalidSearchQueryException();
+        }
+        return normalized;
+    }
+
+    /**
+     * Clamps a requested page size to {@code [1, MAX_SIZE]}.
+     *
+     * @param size The requested page size.
+     * @return The page size actually used.
+     */
+    public static int boundedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Tells whether a page can hold results.
+     * <p>
+     * Together with {@link #MAX_SIZE}, {@link #MAX_PAGE} keeps the offset within the 1000
+     * candidate rows the search queries rank. Pages past it are answered as empty, so a client
+     * paging until it gets an empty page stops there.
+     * </p>
+     *
+     * @param page The requested page number (0-indexed).
+     * @return {@code true} if the page is not past {@link #MAX_PAGE}.
+     */
+    public static boolean isSearchablePage(int page) {
+        return page <= MAX_PAGE;
+    }
+
+    /**
+     * Clamps a requested page number to {@code [0, MAX_PAGE]}, so the offset cannot overflow.
+     *
+     * @param page The requested page number (0-indexed).
+     * @return The page number actually used.
+     */
+    public static int boundedPage(int page) {
+        return Math.max(0, Math.min(page, MAX_PAGE));
+    }
+
+    /**
+     * Normalizes a raw autocomplete prefix.
+     *
+     * @param prefix The text typed so far, or {@code null}.
+     * @return The trimmed, lower-cased text with single spaces, empty if nothing was typed.
+     */
+    public static String normalizePrefix(String prefix) {
+        return prefix == null ? "" : SearchText.normalize(prefix);
+    }
+
+    /**
+     * Clamps a requested number of suggestions to {@code [1, MAX_SUGGESTIONS]}.
+     *
+     * @param limit The requested number of suggestions.
+     * @return The number of suggestions actually returned at most.
+     */
+    public static int boundedSuggestions(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+    }
+}
@@ -0,0 +1,16 @@
+package pe.ask.university.usecase.utils.exception;
+
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.model.utils.exception.ErrorCatalog;
+
+public class CourseCapacityReachedException extends BaseException {
+    public CourseCapacityReachedException() {
+        super(
+                ErrorCatalog.COURSE_CAPACITY_REACHED.getErrorCode(),
+                ErrorCatalog.COURSE_CAPACITY_REACHED.getExceptionName(),
+                ErrorCatalog.COURSE_CAPACITY_REACHED.getMessage(),
+                ErrorCatalog.COURSE_CAPACITY_REACHED.getStatus(),
+                ErrorCatalog.COURSE_CAPACITY_REACHED.getErrors()
+        );
+    }
+}
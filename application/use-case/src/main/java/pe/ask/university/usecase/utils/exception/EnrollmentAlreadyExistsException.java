@@ -0,0 +1,31 @@
+package pe.ask.university.usecase.utils.exception;
+
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.model.utils.exception.ErrorCatalog;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class EnrollmentAlreadyExistsException extends BaseException {
+    public EnrollmentAlreadyExistsException() {
+        super(
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getErrorCode(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getExceptionName(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getMessage(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getStatus(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getErrors()
+        );
+    }
+
+    public EnrollmentAlreadyExistsException(UUID enrollmentId) {
+        super(
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getErrorCode(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getExceptionName(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getMessage(),
+                ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getStatus(),
+                enrollmentId == null
+                        ? ErrorCatalog.ENROLLMENT_ALREADY_EXISTS.getErrors()
+                        : Map.of("enrollmentId", enrollmentId.toString())
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package pe.ask.university.usecase.utils.exception;
+
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.model.utils.exception.ErrorCatalog;
+
+public class InvalidCursorException extends BaseException {
+    public InvalidCursorException() {
+        super(
+                ErrorCatalog.INVALID_CURSOR.getErrorCode(),
+                ErrorCatalog.INVALID_CURSOR.getExceptionName(),
+                ErrorCatalog.INVALID_CURSOR.getMessage(),
+                ErrorCatalog.INVALID_CURSOR.getStatus(),
+                ErrorCatalog.INVALID_CURSOR.getErrors()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package pe.ask.university.usecase.utils.exception;
+
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.model.utils.exception.ErrorCatalog;
+
+public class InvalidSearchQueryException extends BaseException {
+    public InvalidSearchQueryException() {
+        super(
+                ErrorCatalog.INVALID_SEARCH_QUERY.getErrorCode(),
+                ErrorCatalog.INVALID_SEARCH_QUERY.getExceptionName(),
+                ErrorCatalog.INVALID_SEARCH_QUERY.getMessage(),
+                ErrorCatalog.INVALID_SEARCH_QUERY.getStatus(),
+                ErrorCatalog.INVALID_SEARCH_QUERY.getErrors()
+        );
+    }
+}
@@ -3,6 +3,8 @@ package pe.ask.university.usecase.utils.exception;
 import pe.ask.university.model.utils.exception.BaseException;
 import pe.ask.university.model.utils.exception.ErrorCatalog;
 
+import java.util.Map;
+
 public class StudentAlreadyExistsException extends BaseException {
     public StudentAlreadyExistsException() {
         super(
@@ -13,4 +15,16 @@ public class StudentAlreadyExistsException extends BaseException {
                 ErrorCatalog.STUDENT_ALREADY_EXISTS.getErrors()
         );
     }
+
+    public StudentAlreadyExistsException(String field) {
+        super(
+                ErrorCatalog.STUDENT_ALREADY_EXISTS.getErrorCode(),
+                ErrorCatalog.STUDENT_ALREADY_EXISTS.getExceptionName(),
+                ErrorCatalog.STUDENT_ALREADY_EXISTS.getMessage(),
+                ErrorCatalog.STUDENT_ALREADY_EXISTS.getStatus(),
+                field == null
+                        ? ErrorCatalog.STUDENT_ALREADY_EXISTS.getErrors()
+                        : Map.of(field, "This " + field + " is already registered to another student")
+        );
+    }
 }
@@ -0,0 +1,167 @@
+package pe.ask.university.usecase.enrollment;
+
+import org.junit.jupiter.api.Test;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
+import pe.ask.university.port.out.persistence.ICourseRepository;
+import pe.ask.university.port.out.persistence.IEnrollmentRepository;
+import pe.ask.university.port.out.persistence.ISeatRepository;
+import pe.ask.university.usecase.utils.exception.CourseCapacityReachedException;
+import pe.ask.university.usecase.utils.exception.CourseNotFoundException;
+import pe.ask.university.usecase.utils.exception.EnrollmentAlreadyExistsException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SaveEnrollmentUseCaseTest {
+
+    private static final UUID COURSE_ID = UUID.randomUUID();
+    private static final UUID PERIOD_ID = UUID.randomUUID();
+
+    private final IEnrollmentRepository repository = mock(IEnrollmentRepository.class);
+    private final ICourseRepository courseRepository = mock(ICourseRepository.class);
+    private final ISeatRepository seatRepository = mock(ISeatRepository.class);
+    private final SaveEnrollmentUseCase useCase = new SaveEnrollmentUseCase(repository, courseRepository, seatRepository);
+
+    private final Enrollment enrollment = new Enrollment(null, UUID.randomUUID(), COURSE_ID, PERIOD_ID, null);
+
+    @Test
+    void savesWithoutReservingWhenCourseHasNoCapacity() {
+        givenCourse(null);
+        when(repository.saveEnrollment(enrollment)).thenReturn(Mono.just(enrollment));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .expectNext(enrollment)
+                .verifyComplete();
+
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    void reportsMissingCourse() {
+        when(courseRepository.getCourseById(COURSE_ID)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .verifyError(CourseNotFoundException.class);
+
+        verifyNoInteractions(seatRepository, repository);
+    }
+
+    @Test
+    void reportsDuplicateWithIdOfExistingEnrollment() {
+        UUID existingId = UUID.randomUUID();
+        givenCourse(null);
+        when(repository.saveEnrollment(enrollment))
+                .thenReturn(Mono.error(new DuplicateValueException("enrollment", existingId)));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .expectErrorSatisfies(ex -> {
+                    assertThat(ex).isInstanceOf(EnrollmentAlreadyExistsException.class);
+                    assertThat(((EnrollmentAlreadyExistsException) ex).getErrors())
+                            .containsOnly(entry("enrollmentId", existingId.toString()));
+                })
+                .verify();
+    }
+
+    @Test
+    void reportsDuplicateWhoseExistingEnrollmentIsGone() {
+        givenCourse(null);
+        when(repository.saveEnrollment(enrollment))
+                .thenReturn(Mono.error(new DuplicateValueException("enrollment", (UUID) null)));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .expectErrorSatisfies(ex -> {
+                    assertThat(ex).isInstanceOf(EnrollmentAlreadyExistsException.class);
+                    assertThat(((EnrollmentAlreadyExistsException) ex).getErrors()).containsOnlyKeys("enrollment");
+                })
+                .verify();
+    }
+
+    @Test
+    void keepsSeatWhenEnrollmentIsSaved() {
+        givenCourse(30);
+        when(seatRepository.reserve(COURSE_ID, PERIOD_ID, 30)).thenReturn(Mono.just(true));
+        when(repository.saveEnrollment(enrollment)).thenReturn(Mono.just(enrollment));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .expectNext(enrollment)
+                .verifyComplete();
+
+        verify(seatRepository, never()).release(any(), any());
+    }
+
+    @Test
+    void rejectsEnrollmentWhenCourseIsFull() {
+        givenCourse(30);
+        when(seatRepository.reserve(COURSE_ID, PERIOD_ID, 30)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .verifyError(CourseCapacityReachedException.class);
+
+        verify(repository, never()).saveEnrollment(any());
+    }
+
+    @Test
+    void releasesSeatWhenEnrollmentIsDuplicate() {
+        UUID existingId = UUID.randomUUID();
+        givenCourse(30);
+        when(seatRepository.reserve(COURSE_ID, PERIOD_ID, 30)).thenReturn(Mono.just(true));
+        when(seatRepository.release(COURSE_ID, PERIOD_ID)).thenReturn(Mono.empty());
+        when(repository.saveEnrollment(enrollment))
+                .thenReturn(Mono.error(new DuplicateValueException("enrollment", existingId)));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .expectErrorSatisfies(ex -> {
+                    assertThat(ex).isInstanceOf(EnrollmentAlreadyExistsException.class);
+                    assertThat(((EnrollmentAlreadyExistsException) ex).getErrors())
+                            .containsEntry("enrollmentId", existingId.toString());
+                })
+                .verify();
+
+        verify(seatRepository).release(COURSE_ID, PERIOD_ID);
+    }
+
+    @Test
+    void releasesSeatWhenSaveFails() {
+        IllegalStateException failure = new IllegalStateException("connection lost");
+        givenCourse(30);
+        when(seatRepository.reserve(COURSE_ID, PERIOD_ID, 30)).thenReturn(Mono.just(true));
+        when(seatRepository.release(COURSE_ID, PERIOD_ID)).thenReturn(Mono.empty());
+        when(repository.saveEnrollment(enrollment)).thenReturn(Mono.error(failure));
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .verifyErrorMatches(failure::equals);
+
+        verify(seatRepository).release(COURSE_ID, PERIOD_ID);
+    }
+
+    @Test
+    void keepsSeatWhenSaveIsCancelled() {
+        givenCourse(30);
+        when(seatRepository.reserve(COURSE_ID, PERIOD_ID, 30)).thenReturn(Mono.just(true));
+        when(repository.saveEnrollment(enrollment)).thenReturn(Mono.never());
+
+        StepVerifier.create(useCase.saveEnrollment(enrollment))
+                .thenCancel()
+                .verify();
+
+        verify(seatRepository, never()).release(any(), any());
+    }
+
+    private void givenCourse(Integer capacity) {
+        when(courseRepository.getCourseById(COURSE_ID))
+                .thenReturn(Mono.just(new Course(COURSE_ID, "Algorithms", "CS-201", null, capacity, LocalDateTime.now())));
+    }
+}
@@ -0,0 +1,43 @@
+package pe.ask.university.usecase.student;
+
+import org.junit.jupiter.api.Test;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
+import pe.ask.university.port.out.persistence.IStudentRepository;
+import pe.ask.university.usecase.utils.exception.StudentAlreadyExistsException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SaveStudentUseCaseTest {
+
+    private final IStudentRepository repository = mock(IStudentRepository.class);
+    private final SaveStudentUseCase useCase = new SaveStudentUseCase(repository);
+
+    @Test
+    void savesStudent() {
+        Student student = new Student();
+        when(repository.saveStudent(student)).thenReturn(Mono.just(student));
+
+        StepVerifier.create(useCase.saveStudent(student))
+                .expectNext(student)
+                .verifyComplete();
+    }
+
+    @Test
+    void reportsConflictingFieldOfDuplicate() {
+        Student student = new Student();
+        when(repository.saveStudent(student))
+                .thenReturn(Mono.error(new DuplicateValueException("email", new IllegalStateException("23505"))));
+
+        StepVerifier.create(useCase.saveStudent(student))
+                .expectErrorSatisfies(ex -> {
+                    assertThat(ex).isInstanceOf(StudentAlreadyExistsException.class);
+                    assertThat(((StudentAlreadyExistsException) ex).getErrors()).containsOnlyKeys("email");
+                })
+                .verify();
+    }
+}
@@ -0,0 +1,35 @@
+package pe.ask.university.usecase.utils;
+
+import org.junit.jupiter.api.Test;
+import pe.ask.university.model.utils.Cursor;
+import pe.ask.university.usecase.utils.exception.InvalidCursorException;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class CursorTokensTest {
+
+    @Test
+    void decodesValidToken() {
+        Cursor cursor = Cursor.of(LocalDateTime.of(2024, 3, 1, 10, 15), UUID.randomUUID());
+
+        StepVerifier.create(CursorTokens.decode(cursor.encode()))
+                .expectNextMatches(decoded -> decoded.getCreatedAt().equals(cursor.getCreatedAt())
+                        && decoded.getId().equals(cursor.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void reportsMalformedTokenAsInvalidCursor() {
+        StepVerifier.create(CursorTokens.decode("not a cursor!"))
+                .verifyError(InvalidCursorException.class);
+    }
+
+    @Test
+    void decodesOnlyWhenSubscribed() {
+        assertThatNoException().isThrownBy(() -> CursorTokens.decode("not a cursor!"));
+    }
+}
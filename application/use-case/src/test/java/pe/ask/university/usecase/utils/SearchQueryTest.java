@@ -0,0 +1,71 @@
+package pe.ask.university.usecase.utils;
+
+import org.junit.jupiter.api.Test;
+import pe.ask.university.usecase.utils.exception.InvalidSearchQueryException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchQueryTest {
+
+    @Test
+    void normalizesWhitespaceAndCase() {
+        assertThat(SearchQuery.normalize("  Ana \t  MARIA\n")).isEqualTo("ana maria");
+    }
+
+    @Test
+    void acceptsQueriesAtTheLengthBounds() {
+        assertThat(SearchQuery.normalize("abc")).hasSize(SearchQuery.MIN_LENGTH);
+        assertThat(SearchQuery.normalize("a".repeat(SearchQuery.MAX_LENGTH))).hasSize(SearchQuery.MAX_LENGTH);
+    }
+
+    @Test
+    void rejectsQueriesOutsideTheLengthBounds() {
+        assertThatThrownBy(() -> SearchQuery.normalize(null)).isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> SearchQuery.normalize("  ab  ")).isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> SearchQuery.normalize("a".repeat(SearchQuery.MAX_LENGTH + 1)))
+                .isInstanceOf(InvalidSearchQueryException.class);
+    }
+
+    @Test
+    void clampsSizeToBounds() {
+        assertThat(SearchQuery.boundedSize(0)).isEqualTo(1);
+        assertThat(SearchQuery.boundedSize(-5)).isEqualTo(1);
+        assertThat(SearchQuery.boundedSize(10)).isEqualTo(10);
+        assertThat(SearchQuery.boundedSize(Integer.MAX_VALUE)).isEqualTo(SearchQuery.MAX_SIZE);
+    }
+
+    @Test
+    void answersPagesPastTheLastOneAsEmpty() {
+        assertThat(SearchQuery.isSearchablePage(0)).isTrue();
+        assertThat(SearchQuery.isSearchablePage(SearchQuery.MAX_PAGE)).isTrue();
+        assertThat(SearchQuery.isSearchablePage(SearchQuery.MAX_PAGE + 1)).isFalse();
+        assertThat(SearchQuery.isSearchablePage(Integer.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void keepsLastPageWithinRankedCandidates() {
+        assertThat((SearchQuery.MAX_PAGE + 1) * SearchQuery.MAX_SIZE).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    void clampsPageToBounds() {
+        assertThat(SearchQuery.boundedPage(-1)).isZero();
+        assertThat(SearchQuery.boundedPage(7)).isEqualTo(7);
+        assertThat(SearchQuery.boundedPage(Integer.MAX_VALUE)).isEqualTo(SearchQuery.MAX_PAGE);
+    }
+
+    @Test
+    void normalizesAnyPrefix() {
+        assertThat(SearchQuery.normalizePrefix(null)).isEmpty();
+        assertThat(SearchQuery.normalizePrefix("  ")).isEmpty();
+        assertThat(SearchQuery.normalizePrefix(" Al  G ")).isEqualTo("al g");
+    }
+
+    @Test
+    void clampsSuggestionsToBounds() {
+        assertThat(SearchQuery.boundedSuggestions(0)).isEqualTo(1);
+        assertThat(SearchQuery.boundedSuggestions(5)).isEqualTo(5);
+        assertThat(SearchQuery.boundedSuggestions(1000)).isEqualTo(SearchQuery.MAX_SUGGESTIONS);
+    }
+}
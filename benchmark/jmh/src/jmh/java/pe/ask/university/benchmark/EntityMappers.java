@@ -0,0 +1,173 @@
+package pe.ask.university.benchmark;
+
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.period.Period;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.persistence.entity.CourseEntity;
+import pe.ask.university.persistence.entity.EnrollmentEntity;
+import pe.ask.university.persistence.entity.PeriodEntity;
+import pe.ask.university.persistence.entity.StudentEntity;
+import pe.ask.university.persistence.mapper.ICourseEntityMapper;
+import pe.ask.university.persistence.mapper.ICourseEntityMapperImpl;
+import pe.ask.university.persistence.mapper.IEnrollmentEntityMapper;
+import pe.ask.university.persistence.mapper.IEnrollmentEntityMapperImpl;
+import pe.ask.university.persistence.mapper.IPeriodEntityMapper;
+import pe.ask.university.persistence.mapper.IPeriodEntityMapperImpl;
+import pe.ask.university.persistence.mapper.IStudentEntityMapper;
+import pe.ask.university.persistence.mapper.IStudentEntityMapperImpl;
+
+/**
+ * The domain to entity conversions compared by the persistence benchmarks.
+ * <p>
+ * {@code reflection} is the {@code ObjectMapperImp} the adapters used before the generated
+ * mappers, kept here only as the reference point. {@code generated} is the set of MapStruct
+ * mappers of the {@code persistence.mapper} package.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+interface EntityMappers {
+
+    StudentEntity studentToData(Student student);
+
+    Student studentToDomain(StudentEntity studentEntity);
+
+    CourseEntity courseToData(Course course);
+
+    Course courseToDomain(CourseEntity courseEntity);
+
+    PeriodEntity periodToData(Period period);
+
+    Period periodToDomain(PeriodEntity periodEntity);
+
+    EnrollmentEntity enrollmentToData(Enrollment enrollment);
+
+    Enrollment enrollmentToDomain(EnrollmentEntity enrollmentEntity);
+
+    /**
+     * Returns the mappers for a benchmark parameter value.
+     *
+     * @param name {@code reflection} or {@code generated}.
+     * @return the matching mappers.
+     */
+    static EntityMappers named(String name) {
+        return switch (name) {
+            case "reflection" -> new Reflection(new ObjectMapperImp());
+            case "generated" -> new Generated(
+                    new IStudentEntityMapperImpl(),
+                    new ICourseEntityMapperImpl(),
+                    new IPeriodEntityMapperImpl(),
+                    new IEnrollmentEntityMapperImpl()
+            );
+            default -> throw new IllegalArgumentException("Unknown mapper: " + name);
+        };
+    }
+
+    /**
+     * Maps by reflection, matching fields by name on every call.
+     *
+     * @param mapper the reflection-based mapper.
+     */
+    record Reflection(ObjectMapper mapper) implements EntityMappers {
+
+        @Override
+        public StudentEntity studentToData(Student student) {
+            return mapper.map(student, StudentEntity.class);
+        }
+
+        @Override
+        public Student studentToDomain(StudentEntity studentEntity) {
+            return mapper.map(studentEntity, Student.class);
+        }
+
+        @Override
+        public CourseEntity courseToData(Course course) {
+            return mapper.map(course, CourseEntity.class);
+        }
+
+        @Override
+        public Course courseToDomain(CourseEntity courseEntity) {
+            return mapper.map(courseEntity, Course.class);
+        }
+
+        @Override
+        public PeriodEntity periodToData(Period period) {
+            return mapper.map(period, PeriodEntity.class);
+        }
+
+        @Override
+        public Period periodToDomain(PeriodEntity periodEntity) {
+            return mapper.map(periodEntity, Period.class);
+        }
+
+        @Override
+        public EnrollmentEntity enrollmentToData(Enrollment enrollment) {
+            return mapper.map(enrollment, EnrollmentEntity.class);
+        }
+
+        @Override
+        public Enrollment enrollmentToDomain(EnrollmentEntity enrollmentEntity) {
+            return mapper.map(enrollmentEntity, Enrollment.class);
+        }
+    }
+
+    /**
+     * Maps with the plain getter and builder calls generated by MapStruct.
+     *
+     * @param students    the student mapper.
+     * @param courses     the course mapper.
+     * @param periods     the period mapper.
+     * @param enrollments the enrollment mapper.
+     */
+    record Generated(
+            IStudentEntityMapper students,
+            ICourseEntityMapper courses,
+            IPeriodEntityMapper periods,
+            IEnrollmentEntityMapper enrollments
+    ) implements EntityMappers {
+
+        @Override
+        public StudentEntity studentToData(Student student) {
+            return students.toData(student);
+        }
+
+        @Override
+        public Student studentToDomain(StudentEntity studentEntity) {
+            return students.toDomain(studentEntity);
+        }
+
+        @Override
+        public CourseEntity courseToData(Course course) {
+            return courses.toData(course);
+        }
+
+        @Override
+        public Course courseToDomain(CourseEntity courseEntity) {
+            return courses.toDomain(courseEntity);
+        }
+
+        @Override
+        public PeriodEntity periodToData(Period period) {
+            return periods.toData(period);
+        }
+
+        @Override
+        public Period periodToDomain(PeriodEntity periodEntity) {
+            return periods.toDomain(periodEntity);
+        }
+
+        @Override
+        public EnrollmentEntity enrollmentToData(Enrollment enrollment) {
+            return enrollments.toData(enrollment);
+        }
+
+        @Override
+        public Enrollment enrollmentToDomain(EnrollmentEntity enrollmentEntity) {
+            return enrollments.toDomain(enrollmentEntity);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package pe.ask.university.benchmark;
+
+import pe.ask.university.api.dto.request.CourseRequest;
+import pe.ask.university.api.dto.request.EnrollmentRequest;
+import pe.ask.university.api.dto.request.PeriodRequest;
+import pe.ask.university.api.dto.request.StudentRequest;
+import pe.ask.university.api.dto.response.StudentResponse;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.period.Period;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.CountStrategy;
+import pe.ask.university.model.utils.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Sample payloads shared by the benchmarks.
+ * <p>
+ * Values are fixed so that runs are comparable; only the IDs are random.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+final class Fixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 15, 30);
+
+    private Fixtures() {
+    }
+
+    static StudentRequest validStudentRequest() {
+        return new StudentRequest("John", "Doe", "12345678A", "john.doe@example.com", "123456789", "123 Main St", new Date(631152000000L));
+    }
+
+    static StudentRequest invalidStudentRequest() {
+        return new StudentRequest("", null, " ", "not-an-email", "123456789", "123 Main St", new Date(4102444800000L));
+    }
+
+    static CourseRequest validCourseRequest() {
+        return new CourseRequest("Mathematics", "MATH-101", "An introductory course to mathematics", 40);
+    }
+
+    static CourseRequest invalidCourseRequest() {
+        return new CourseRequest(" ", "", "An introductory course to mathematics", -1);
+    }
+
+    static PeriodRequest validPeriodRequest() {
+        return new PeriodRequest("2024-1");
+    }
+
+    static PeriodRequest invalidPeriodRequest() {
+        return new PeriodRequest("");
+    }
+
+    static EnrollmentRequest validEnrollmentRequest() {
+        return new EnrollmentRequest(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    static EnrollmentRequest invalidEnrollmentRequest() {
+        return new EnrollmentRequest(null, UUID.randomUUID(), null);
+    }
+
+    static Student student(int i) {
+        return Student.builder()
+                .id(UUID.randomUUID())
+                .name("John " + i)
+                .surname("Doe")
+                .dni(String.format("%08d", i))
+                .email("john.doe" + i + "@example.com")
+                .phone("123456789")
+                .address("123 Main St")
+                .birthdate(LocalDate.of(1990, 1, 1))
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    static Course course(int i) {
+        return Course.builder()
+                .id(UUID.randomUUID())
+                .name("Mathematics " + i)
+                .code("MATH-" + i)
+                .description("An introductory course to mathematics")
+                .capacity(40)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    static Period period(int i) {
+        return Period.builder()
+                .id(UUID.randomUUID())
+                .name("2024-" + i)
+                .build();
+    }
+
+    static Enrollment enrollment(int i) {
+        return Enrollment.builder()
+                .id(UUID.randomUUID())
+                .studentId(UUID.randomUUID())
+                .courseId(UUID.randomUUID())
+                .periodId(UUID.randomUUID())
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    static <T> List<T> listOf(int size, IntFunction<T> factory) {
+        return IntStream.range(0, size).mapToObj(factory).toList();
+    }
+
+    static Pageable<StudentResponse> studentPage(int size) {
+        List<StudentResponse> content = listOf(size, i -> new StudentResponse(
+                "John " + i, "Doe", String.format("%08d", i), "john.doe" + i + "@example.com",
+                "123456789", "123 Main St", LocalDate.of(1990, 1, 1)
+        ));
+        return Pageable.<StudentResponse>builder()
+                .page(0)
+                .size(size)
+                .totalElements(10_000L)
+                .totalPages(10_000 / Math.max(size, 1))
+                .content(content)
+                .nextCursor("MjAyNC0wMy0wMVQxMDoxNTozMHw0ZjI0")
+                .countStrategy(CountStrategy.CACHED)
+                .build();
+    }
+}
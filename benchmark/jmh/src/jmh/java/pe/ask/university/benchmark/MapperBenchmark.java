@@ -0,0 +1,146 @@
+package pe.ask.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import pe.ask.university.api.dto.request.CourseRequest;
+import pe.ask.university.api.dto.request.EnrollmentRequest;
+import pe.ask.university.api.dto.request.PeriodRequest;
+import pe.ask.university.api.dto.request.StudentRequest;
+import pe.ask.university.api.dto.response.CourseResponse;
+import pe.ask.university.api.dto.response.EnrollmentResponse;
+import pe.ask.university.api.dto.response.PeriodResponse;
+import pe.ask.university.api.dto.response.StudentResponse;
+import pe.ask.university.api.mapper.ICourseMapper;
+import pe.ask.university.api.mapper.ICourseMapperImpl;
+import pe.ask.university.api.mapper.IEnrollmentMapper;
+import pe.ask.university.api.mapper.IEnrollmentMapperImpl;
+import pe.ask.university.api.mapper.IPeriodMapper;
+import pe.ask.university.api.mapper.IPeriodMapperImpl;
+import pe.ask.university.api.mapper.IStudentMapper;
+import pe.ask.university.api.mapper.IStudentMapperImpl;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.period.Period;
+import pe.ask.university.model.student.Student;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct mappers of the web layer, request to domain and domain to response.
+ * <p>
+ * Single objects and lists of {@code listSize} elements are mapped for every entity, the list
+ * case matching what the listing handlers do for one page.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    private int listSize;
+
+    private final IStudentMapper studentMapper = new IStudentMapperImpl();
+    private final ICourseMapper courseMapper = new ICourseMapperImpl();
+    private final IPeriodMapper periodMapper = new IPeriodMapperImpl();
+    private final IEnrollmentMapper enrollmentMapper = new IEnrollmentMapperImpl();
+
+    private StudentRequest studentRequest;
+    private CourseRequest courseRequest;
+    private PeriodRequest periodRequest;
+    private EnrollmentRequest enrollmentRequest;
+    private Student student;
+    private Course course;
+    private Period period;
+    private Enrollment enrollment;
+    private List<Student> students;
+    private List<Course> courses;
+    private List<Period> periods;
+    private List<Enrollment> enrollments;
+
+    @Setup
+    public void setUp() {
+        studentRequest = Fixtures.validStudentRequest();
+        courseRequest = Fixtures.validCourseRequest();
+        periodRequest = Fixtures.validPeriodRequest();
+        enrollmentRequest = Fixtures.validEnrollmentRequest();
+        student = Fixtures.student(1);
+        course = Fixtures.course(1);
+        period = Fixtures.period(1);
+        enrollment = Fixtures.enrollment(1);
+        students = Fixtures.listOf(listSize, Fixtures::student);
+        courses = Fixtures.listOf(listSize, Fixtures::course);
+        periods = Fixtures.listOf(listSize, Fixtures::period);
+        enrollments = Fixtures.listOf(listSize, Fixtures::enrollment);
+    }
+
+    @Benchmark
+    public Student studentToDomain() {
+        return studentMapper.toDomain(studentRequest);
+    }
+
+    @Benchmark
+    public StudentResponse studentToResponse() {
+        return studentMapper.toResponse(student);
+    }
+
+    @Benchmark
+    public List<StudentResponse> studentListToResponse() {
+        return students.stream().map(studentMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public Course courseToDomain() {
+        return courseMapper.toDomain(courseRequest);
+    }
+
+    @Benchmark
+    public CourseResponse courseToResponse() {
+        return courseMapper.toResponse(course);
+    }
+
+    @Benchmark
+    public List<CourseResponse> courseListToResponse() {
+        return courses.stream().map(courseMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public Period periodToDomain() {
+        return periodMapper.toDomain(periodRequest);
+    }
+
+    @Benchmark
+    public PeriodResponse periodToResponse() {
+        return periodMapper.toResponse(period);
+    }
+
+    @Benchmark
+    public List<PeriodResponse> periodListToResponse() {
+        return periods.stream().map(periodMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public Enrollment enrollmentToDomain() {
+        return enrollmentMapper.toDomain(enrollmentRequest);
+    }
+
+    @Benchmark
+    public EnrollmentResponse enrollmentToResponse() {
+        return enrollmentMapper.toResponse(enrollment);
+    }
+
+    @Benchmark
+    public List<EnrollmentResponse> enrollmentListToResponse() {
+        return enrollments.stream().map(enrollmentMapper::toResponse).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package pe.ask.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.period.Period;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.persistence.entity.CourseEntity;
+import pe.ask.university.persistence.entity.EnrollmentEntity;
+import pe.ask.university.persistence.entity.PeriodEntity;
+import pe.ask.university.persistence.entity.StudentEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions between domain objects and persistence entities done by
+ * {@code ReactiveAdapterOperations}.
+ * <p>
+ * {@code toData} is the write path (domain to entity) and {@code toEntity} the read path
+ * (entity to domain), for single rows and for pages of {@code listSize} rows. The
+ * {@code mapper} parameter runs each case with the reflection-based {@code ObjectMapperImp}
+ * the adapters used to rely on and with the generated MapStruct mappers they use now.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersistenceMappingBenchmark {
+
+    @Param({"reflection", "generated"})
+    private String mapper;
+
+    @Param({"10", "100"})
+    private int listSize;
+
+    private EntityMappers mappers;
+    private Student student;
+    private Course course;
+    private Period period;
+    private Enrollment enrollment;
+    private StudentEntity studentEntity;
+    private CourseEntity courseEntity;
+    private PeriodEntity periodEntity;
+    private EnrollmentEntity enrollmentEntity;
+    private List<StudentEntity> studentEntities;
+    private List<CourseEntity> courseEntities;
+    private List<EnrollmentEntity> enrollmentEntities;
+
+    @Setup
+    public void setUp() {
+        mappers = EntityMappers.named(mapper);
+        student = Fixtures.student(1);
+        course = Fixtures.course(1);
+        period = Fixtures.period(1);
+        enrollment = Fixtures.enrollment(1);
+        studentEntity = mappers.studentToData(student);
+        courseEntity = mappers.courseToData(course);
+        periodEntity = mappers.periodToData(period);
+        enrollmentEntity = mappers.enrollmentToData(enrollment);
+        studentEntities = Fixtures.listOf(listSize, i -> mappers.studentToData(Fixtures.student(i)));
+        courseEntities = Fixtures.listOf(listSize, i -> mappers.courseToData(Fixtures.course(i)));
+        enrollmentEntities = Fixtures.listOf(listSize, i -> mappers.enrollmentToData(Fixtures.enrollment(i)));
+    }
+
+    @Benchmark
+    public StudentEntity studentToData() {
+        return mappers.studentToData(student);
+    }
+
+    @Benchmark
+    public Student studentToEntity() {
+        return mappers.studentToDomain(studentEntity);
+    }
+
+    @Benchmark
+    public List<Student> studentListToEntity() {
+        return studentEntities.stream().map(mappers::studentToDomain).toList();
+    }
+
+    @Benchmark
+    public CourseEntity courseToData() {
+        return mappers.courseToData(course);
+    }
+
+    @Benchmark
+    public Course courseToEntity() {
+        return mappers.courseToDomain(courseEntity);
+    }
+
+    @Benchmark
+    public List<Course> courseListToEntity() {
+        return courseEntities.stream().map(mappers::courseToDomain).toList();
+    }
+
+    @Benchmark
+    public PeriodEntity periodToData() {
+        return mappers.periodToData(period);
+    }
+
+    @Benchmark
+    public Period periodToEntity() {
+        return mappers.periodToDomain(periodEntity);
+    }
+
+    @Benchmark
+    public EnrollmentEntity enrollmentToData() {
+        return mappers.enrollmentToData(enrollment);
+    }
+
+    @Benchmark
+    public Enrollment enrollmentToEntity() {
+        return mappers.enrollmentToDomain(enrollmentEntity);
+    }
+
+    @Benchmark
+    public List<Enrollment> enrollmentListToEntity() {
+        return enrollmentEntities.stream().map(mappers::enrollmentToDomain).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package pe.ask.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import pe.ask.university.persistence.entity.CourseEntity;
+import pe.ask.university.persistence.entity.EnrollmentEntity;
+import pe.ask.university.persistence.entity.StudentEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-row cost of turning a large result set into domain objects.
+ * <p>
+ * Each invocation maps {@value #ROWS} entities one by one, like the {@code map(this::toEntity)}
+ * step of a listing or export does for every element of the {@code Flux}. Results are reported
+ * per row, for the reflection-based and the generated mappers (see {@link EntityMappers}).
+ * Run it with {@code -prof gc} to compare the allocation rate as well.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RowScanBenchmark.ROWS)
+public class RowScanBenchmark {
+
+    static final int ROWS = 100_000;
+
+    @Param({"reflection", "generated"})
+    private String mapper;
+
+    private EntityMappers mappers;
+    private List<StudentEntity> students;
+    private List<CourseEntity> courses;
+    private List<EnrollmentEntity> enrollments;
+
+    @Setup
+    public void setUp() {
+        mappers = EntityMappers.named(mapper);
+        students = Fixtures.listOf(ROWS, i -> mappers.studentToData(Fixtures.student(i)));
+        courses = Fixtures.listOf(ROWS, i -> mappers.courseToData(Fixtures.course(i)));
+        enrollments = Fixtures.listOf(ROWS, i -> mappers.enrollmentToData(Fixtures.enrollment(i)));
+    }
+
+    @Benchmark
+    public void scanStudents(Blackhole blackhole) {
+        for (StudentEntity student : students) {
+            blackhole.consume(mappers.studentToDomain(student));
+        }
+    }
+
+    @Benchmark
+    public void scanCourses(Blackhole blackhole) {
+        for (CourseEntity course : courses) {
+            blackhole.consume(mappers.courseToDomain(course));
+        }
+    }
+
+    @Benchmark
+    public void scanEnrollments(Blackhole blackhole) {
+        for (EnrollmentEntity enrollment : enrollments) {
+            blackhole.consume(mappers.enrollmentToDomain(enrollment));
+        }
+    }
+}
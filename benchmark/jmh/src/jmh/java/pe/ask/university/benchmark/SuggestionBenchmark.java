@@ -0,0 +1,66 @@
+package pe.ask.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.persistence.suggest.CourseSuggestions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the course autocomplete lookups answered by {@link CourseSuggestions}.
+ * <p>
+ * The index holds {@code courses} courses named like {@link Fixtures#course(int)}. {@code broad}
+ * is a one-letter prefix every course matches, {@code narrow} matches a handful of codes and
+ * {@code word} only matches inner words. {@code indexCourse} is the rebuild done on every save.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuggestionBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"1000", "10000"})
+    private int courses;
+
+    private CourseSuggestions suggestions;
+    private Course saved;
+
+    @Setup
+    public void setUp() {
+        suggestions = CourseSuggestions.of(Fixtures.listOf(courses, Fixtures::course));
+        saved = Fixtures.course(courses);
+    }
+
+    @Benchmark
+    public List<Course> broad() {
+        return suggestions.suggest("m", LIMIT);
+    }
+
+    @Benchmark
+    public List<Course> narrow() {
+        return suggestions.suggest("math-99", LIMIT);
+    }
+
+    @Benchmark
+    public List<Course> word() {
+        return suggestions.suggest("99", LIMIT);
+    }
+
+    @Benchmark
+    public CourseSuggestions indexCourse() {
+        return suggestions.with(saved);
+    }
+}
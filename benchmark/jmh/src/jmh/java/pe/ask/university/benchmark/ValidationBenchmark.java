@@ -0,0 +1,115 @@
+package pe.ask.university.benchmark;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import pe.ask.university.api.dto.request.CourseRequest;
+import pe.ask.university.api.dto.request.EnrollmentRequest;
+import pe.ask.university.api.dto.request.PeriodRequest;
+import pe.ask.university.api.dto.request.StudentRequest;
+import pe.ask.university.api.utils.validator.CustomValidator;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CustomValidator#validate(Object)} on the request bodies of the save endpoints.
+ * <p>
+ * Valid payloads measure the constraint checks alone. Invalid payloads also pay for building
+ * the violation messages and the {@code ValidationException}, which is what a rejected
+ * request costs.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private CustomValidator validator;
+
+    private StudentRequest validStudent;
+    private StudentRequest invalidStudent;
+    private CourseRequest validCourse;
+    private CourseRequest invalidCourse;
+    private PeriodRequest validPeriod;
+    private PeriodRequest invalidPeriod;
+    private EnrollmentRequest validEnrollment;
+    private EnrollmentRequest invalidEnrollment;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = new CustomValidator(validatorFactory.getValidator());
+        validStudent = Fixtures.validStudentRequest();
+        invalidStudent = Fixtures.invalidStudentRequest();
+        validCourse = Fixtures.validCourseRequest();
+        invalidCourse = Fixtures.invalidCourseRequest();
+        validPeriod = Fixtures.validPeriodRequest();
+        invalidPeriod = Fixtures.invalidPeriodRequest();
+        validEnrollment = Fixtures.validEnrollmentRequest();
+        invalidEnrollment = Fixtures.invalidEnrollmentRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Object validStudent() {
+        return run(validStudent);
+    }
+
+    @Benchmark
+    public Object invalidStudent() {
+        return run(invalidStudent);
+    }
+
+    @Benchmark
+    public Object validCourse() {
+        return run(validCourse);
+    }
+
+    @Benchmark
+    public Object invalidCourse() {
+        return run(invalidCourse);
+    }
+
+    @Benchmark
+    public Object validPeriod() {
+        return run(validPeriod);
+    }
+
+    @Benchmark
+    public Object invalidPeriod() {
+        return run(invalidPeriod);
+    }
+
+    @Benchmark
+    public Object validEnrollment() {
+        return run(validEnrollment);
+    }
+
+    @Benchmark
+    public Object invalidEnrollment() {
+        return run(invalidEnrollment);
+    }
+
+    private Object run(Object request) {
+        return validator.validate(request)
+                .cast(Object.class)
+                .onErrorResume(Mono::just)
+                .block();
+    }
+}
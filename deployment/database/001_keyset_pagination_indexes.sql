@@ -0,0 +1,5 @@
+-- Supports the ORDER BY created_at, id used by offset listings and the
+-- (created_at, id) > (:createdAt, :id) seek used by cursor listings.
+CREATE INDEX IF NOT EXISTS idx_student_created_at_id ON student (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_course_created_at_id ON course (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_enrollment_created_at_id ON enrollment (created_at, id);
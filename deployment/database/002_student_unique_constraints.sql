@@ -0,0 +1,6 @@
+-- Student registration relies on these indexes to reject duplicate emails and DNIs
+-- atomically. The adapter maps a violation back to the field by looking for "email"
+-- or "dni" in the constraint name, so keep those words in any renamed index.
+-- Creation fails if duplicates already exist; resolve them before applying.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_student_email ON student (email);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_student_dni ON student (dni);
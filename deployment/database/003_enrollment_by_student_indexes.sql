@@ -0,0 +1,9 @@
+-- Supports the enrollments-by-student listing. Each variant reads exactly one
+-- page from an index range, so the cost does not grow with the history of the
+-- student.
+-- Filtered by period: WHERE student_id = ? AND period_id = ? ORDER BY created_at, id
+CREATE INDEX IF NOT EXISTS idx_enrollment_student_period_created_at
+    ON enrollment (student_id, period_id, created_at, id);
+-- All periods: WHERE student_id = ? ORDER BY created_at, id
+CREATE INDEX IF NOT EXISTS idx_enrollment_student_created_at
+    ON enrollment (student_id, created_at, id);
@@ -0,0 +1,16 @@
+-- Optional seat limit per course and period. NULL means unlimited.
+ALTER TABLE course
+    ADD COLUMN IF NOT EXISTS capacity integer CHECK (capacity > 0);
+-- Snapshot of the in-memory seat counters, upserted in batches by the
+-- application and rebuilt from enrollment on startup. Once rebuilt, counters
+-- are seeded from it instead of counting enrollments.
+CREATE TABLE IF NOT EXISTS course_seat (
+    course_id  uuid      NOT NULL,
+    period_id  uuid      NOT NULL,
+    taken      integer   NOT NULL CHECK (taken >= 0),
+    updated_at timestamp NOT NULL DEFAULT now(),
+    PRIMARY KEY (course_id, period_id)
+);
+-- Seeds a counter when course_seat has no row for it: SELECT count(*) FROM enrollment WHERE course_id = ? AND period_id = ?
+CREATE INDEX IF NOT EXISTS idx_enrollment_course_period
+    ON enrollment (course_id, period_id);
@@ -0,0 +1,6 @@
+-- A student can be enrolled only once in a course for a given period. Enrollment
+-- saves insert with ON CONFLICT (student_id, course_id, period_id) DO NOTHING and
+-- rely on this index both to reject duplicates and as the conflict target.
+-- Creation fails if duplicates already exist; resolve them before applying.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_enrollment_student_course_period
+    ON enrollment (student_id, course_id, period_id);
@@ -0,0 +1,12 @@
+-- Lets the fields=summary listings of students and courses run as index-only
+-- scans: the keyset columns lead the index and the summary columns are carried
+-- in INCLUDE, so the heap is only visited for pages not yet marked all-visible
+-- by VACUUM. They also serve the full listings' ORDER BY and seek, which makes
+-- the plain (created_at, id) indexes from 001 redundant for these two tables.
+CREATE INDEX IF NOT EXISTS idx_student_listing_summary
+    ON student (created_at, id) INCLUDE (name, surname, email);
+DROP INDEX IF EXISTS idx_student_created_at_id;
+
+CREATE INDEX IF NOT EXISTS idx_course_listing_summary
+    ON course (created_at, id) INCLUDE (name, code);
+DROP INDEX IF EXISTS idx_course_created_at_id;
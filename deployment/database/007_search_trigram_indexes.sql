@@ -0,0 +1,19 @@
+-- Backs GET /api/v1/student/search and GET /api/v1/course/search.
+-- The indexed expressions must stay identical to SEARCH_TEXT in the student
+-- and course adapters, otherwise the planner cannot use them. GiST trigram
+-- indexes serve the LIKE '%q%' substring match and the <% word-similarity
+-- match, and also return rows ordered by the <->> word-similarity distance, so
+-- a search reads only the closest candidates instead of every match.
+-- Only the local part of the email is indexed: domains such as gmail.com or
+-- .edu are shared by most students and would turn any query into a full match.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_student_search_trgm
+    ON student USING gist (
+        lower(coalesce(name, '') || ' ' || coalesce(surname, '') || ' ' || split_part(coalesce(email, ''), '@', 1)) gist_trgm_ops
+    );
+
+CREATE INDEX IF NOT EXISTS idx_course_search_trgm
+    ON course USING gist (
+        lower(coalesce(name, '') || ' ' || coalesce(code, '')) gist_trgm_ops
+    );
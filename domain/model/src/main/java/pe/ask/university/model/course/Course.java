@@ -8,16 +8,18 @@ public class Course {
     private String name;
     private String code;
     private String description;
+    private Integer capacity;
     private LocalDateTime createdAt;
 
     public Course() {
     }
 
-    public Course(UUID id, String name, String code, String description, LocalDateTime createdAt) {
+    public Course(UUID id, String name, String code, String description, Integer capacity, LocalDateTime createdAt) {
         this.id = id;
         this.name = name;
         this.code = code;
         this.description = description;
+        this.capacity = capacity;
         this.createdAt = createdAt;
     }
 
@@ -26,7 +28,7 @@ public class Course {
     }
 
     public CourseBuilder toBuilder() {
-        return new CourseBuilder().id(this.id).name(this.name).code(this.code).description(this.description).createdAt(this.createdAt);
+        return new CourseBuilder().id(this.id).name(this.name).code(this.code).description(this.description).capacity(this.capacity).createdAt(this.createdAt);
     }
 
     public UUID getId() {
@@ -45,6 +47,10 @@ public class Course {
         return this.description;
     }
 
+    public Integer getCapacity() {
+        return this.capacity;
+    }
+
     public LocalDateTime getCreatedAt() {
         return this.createdAt;
     }
@@ -65,6 +71,10 @@ public class Course {
         this.description = description;
     }
 
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
@@ -8,6 +8,7 @@ public class CourseBuilder {
     private String name;
     private String code;
     private String description;
+    private Integer capacity;
     private LocalDateTime createdAt;
 
     CourseBuilder() {
@@ -33,8 +34,17 @@ public class CourseBuilder {
         return this;
     }
 
+    public CourseBuilder capacity(Integer capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
     public CourseBuilder createdAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
         return this;
     }
+
+    public Course build() {
+        return new Course(id, name, code, description, capacity, createdAt);
+    }
 }
@@ -0,0 +1,101 @@
+package pe.ask.university.model.enrollment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class EnrollmentDetail {
+    private UUID id;
+    private UUID studentId;
+    private UUID courseId;
+    private String courseName;
+    private String courseCode;
+    private UUID periodId;
+    private String periodName;
+    private LocalDateTime createdAt;
+
+    public static EnrollmentDetailBuilder builder() {
+        return new EnrollmentDetailBuilder();
+    }
+
+    public EnrollmentDetailBuilder toBuilder() {
+        return new EnrollmentDetailBuilder().id(this.id).studentId(this.studentId).courseId(this.courseId).courseName(this.courseName).courseCode(this.courseCode).periodId(this.periodId).periodName(this.periodName).createdAt(this.createdAt);
+    }
+
+    public EnrollmentDetail() {
+    }
+
+    public EnrollmentDetail(UUID id, UUID studentId, UUID courseId, String courseName, String courseCode, UUID periodId, String periodName, LocalDateTime createdAt) {
+        this.id = id;
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.courseCode = courseCode;
+        this.periodId = periodId;
+        this.periodName = periodName;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(UUID studentId) {
+        this.studentId = studentId;
+    }
+
+    public UUID getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(UUID courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public UUID getPeriodId() {
+        return periodId;
+    }
+
+    public void setPeriodId(UUID periodId) {
+        this.periodId = periodId;
+    }
+
+    public String getPeriodName() {
+        return periodName;
+    }
+
+    public void setPeriodName(String periodName) {
+        this.periodName = periodName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
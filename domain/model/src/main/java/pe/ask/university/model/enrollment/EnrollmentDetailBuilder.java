@@ -0,0 +1,62 @@
+package pe.ask.university.model.enrollment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class EnrollmentDetailBuilder {
+    private UUID id;
+    private UUID studentId;
+    private UUID courseId;
+    private String courseName;
+    private String courseCode;
+    private UUID periodId;
+    private String periodName;
+    private LocalDateTime createdAt;
+
+    EnrollmentDetailBuilder() {
+    }
+
+    public EnrollmentDetailBuilder id(UUID id) {
+        this.id = id;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder studentId(UUID studentId) {
+        this.studentId = studentId;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder courseId(UUID courseId) {
+        this.courseId = courseId;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder courseName(String courseName) {
+        this.courseName = courseName;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder courseCode(String courseCode) {
+        this.courseCode = courseCode;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder periodId(UUID periodId) {
+        this.periodId = periodId;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder periodName(String periodName) {
+        this.periodName = periodName;
+        return this;
+    }
+
+    public EnrollmentDetailBuilder createdAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public EnrollmentDetail build() {
+        return new EnrollmentDetail(id, studentId, courseId, courseName, courseCode, periodId, periodName, createdAt);
+    }
+}
@@ -0,0 +1,29 @@
+package pe.ask.university.model.utils;
+
+import java.util.Locale;
+
+/**
+ * How the total number of elements of a paginated listing is obtained.
+ * <ul>
+ *     <li>{@link #EXACT}: a {@code count(*)} on every request.</li>
+ *     <li>{@link #CACHED}: an exact count reused for a short TTL and dropped on every insert.</li>
+ *     <li>{@link #ESTIMATED}: the planner estimate kept by PostgreSQL statistics.</li>
+ *     <li>{@link #NONE}: no count at all; totals are reported as {@code -1}.</li>
+ * </ul>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public enum CountStrategy {
+    EXACT,
+    CACHED,
+    ESTIMATED,
+    NONE;
+
+    public static CountStrategy fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        return CountStrategy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
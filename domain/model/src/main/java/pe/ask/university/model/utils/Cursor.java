@@ -0,0 +1,65 @@
+package pe.ask.university.model.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of a row inside a listing ordered by {@code (createdAt, id)}.
+ * <p>
+ * A cursor is handed to clients as an opaque, URL-safe token. Sending it back lets the
+ * repository seek directly to the next row instead of skipping an offset.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class Cursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    private Cursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime createdAt, UUID id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("A cursor requires both createdAt and id");
+        }
+        return new Cursor(createdAt, id);
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return of(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,52 @@
+package pe.ask.university.model.utils;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-row report of a bulk import.
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class ImportResult {
+    private final long row;
+    private final ImportStatus status;
+    private final UUID id;
+    private final Map<String, String> errors;
+
+    private ImportResult(long row, ImportStatus status, UUID id, Map<String, String> errors) {
+        this.row = row;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    public static ImportResult created(long row, UUID id) {
+        return new ImportResult(row, ImportStatus.CREATED, id, null);
+    }
+
+    public static ImportResult duplicated(long row, Map<String, String> errors) {
+        return new ImportResult(row, ImportStatus.DUPLICATED, null, errors);
+    }
+
+    public static ImportResult invalid(long row, Map<String, String> errors) {
+        return new ImportResult(row, ImportStatus.INVALID, null, errors);
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
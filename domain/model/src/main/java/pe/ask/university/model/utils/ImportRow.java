@@ -0,0 +1,50 @@
+package pe.ask.university.model.utils;
+
+import java.util.Map;
+
+/**
+ * A row of a bulk import after it has been parsed and validated.
+ * <p>
+ * A valid row carries the value to persist. An invalid row carries the validation errors and
+ * is reported back without reaching the repository.
+ * </p>
+ *
+ * @param <T> the type of the imported value.
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class ImportRow<T> {
+    private final long index;
+    private final T value;
+    private final Map<String, String> errors;
+
+    private ImportRow(long index, T value, Map<String, String> errors) {
+        this.index = index;
+        this.value = value;
+        this.errors = errors;
+    }
+
+    public static <T> ImportRow<T> valid(long index, T value) {
+        return new ImportRow<>(index, value, null);
+    }
+
+    public static <T> ImportRow<T> invalid(long index, Map<String, String> errors) {
+        return new ImportRow<>(index, null, errors);
+    }
+
+    public boolean isValid() {
+        return errors == null;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,13 @@
+package pe.ask.university.model.utils;
+
+/**
+ * Outcome of a single row of a bulk import.
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public enum ImportStatus {
+    CREATED,
+    DUPLICATED,
+    INVALID
+}
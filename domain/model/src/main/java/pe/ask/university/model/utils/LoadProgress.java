@@ -0,0 +1,41 @@
+package pe.ask.university.model.utils;
+
+/**
+ * Progress report of a bulk load, emitted after each chunk is committed.
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class LoadProgress {
+    private final long chunk;
+    private final long chunkRows;
+    private final long totalRows;
+    private final long elapsedMillis;
+
+    public LoadProgress(long chunk, long chunkRows, long totalRows, long elapsedMillis) {
+        this.chunk = chunk;
+        this.chunkRows = chunkRows;
+        this.totalRows = totalRows;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getChunk() {
+        return chunk;
+    }
+
+    public long getChunkRows() {
+        return chunkRows;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? totalRows : totalRows * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,44 @@
+package pe.ask.university.model.utils;
+
+import java.util.UUID;
+
+/**
+ * Outcome of looking up a single ID as part of a batch lookup.
+ * <p>
+ * A batch lookup returns one result per requested ID, in request order. IDs that do not match
+ * any record are reported explicitly instead of being left out.
+ * </p>
+ *
+ * @param <T> the type of the looked up value.
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class LookupResult<T> {
+    private final UUID id;
+    private final T value;
+
+    private LookupResult(UUID id, T value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    public static <T> LookupResult<T> found(UUID id, T value) {
+        return new LookupResult<>(id, value);
+    }
+
+    public static <T> LookupResult<T> notFound(UUID id) {
+        return new LookupResult<>(id, null);
+    }
+
+    public boolean isFound() {
+        return value != null;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public T getValue() {
+        return value;
+    }
+}
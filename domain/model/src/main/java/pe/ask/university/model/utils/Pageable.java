@@ -8,13 +8,15 @@ public class Pageable<T> {
     private long totalElements;
     private int totalPages;
     private List<T> content;
+    private String nextCursor;
+    private CountStrategy countStrategy;
 
     public static <T> PageableBuilder<T> builder() {
         return new PageableBuilder<>();
     }
 
     public PageableBuilder<T> toBuilder() {
-        return new PageableBuilder<T>().page(this.page).size(this.size).totalElements(this.totalElements).totalPages(this.totalPages).content(this.content);
+        return new PageableBuilder<T>().page(this.page).size(this.size).totalElements(this.totalElements).totalPages(this.totalPages).content(this.content).nextCursor(this.nextCursor).countStrategy(this.countStrategy);
     }
 
     public Pageable() {
@@ -28,6 +30,16 @@ public class Pageable<T> {
         this.content = content;
     }
 
+    public Pageable(int page, int size, long totalElements, int totalPages, List<T> content, String nextCursor) {
+        this(page, size, totalElements, totalPages, content);
+        this.nextCursor = nextCursor;
+    }
+
+    public Pageable(int page, int size, long totalElements, int totalPages, List<T> content, String nextCursor, CountStrategy countStrategy) {
+        this(page, size, totalElements, totalPages, content, nextCursor);
+        this.countStrategy = countStrategy;
+    }
+
     public int getPage() {
         return this.page;
     }
@@ -48,6 +60,14 @@ public class Pageable<T> {
         return this.content;
     }
 
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
+    public CountStrategy getCountStrategy() {
+        return this.countStrategy;
+    }
+
     public void setPage(int page) {
         this.page = page;
     }
@@ -68,4 +88,12 @@ public class Pageable<T> {
         this.content = content;
     }
 
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public void setCountStrategy(CountStrategy countStrategy) {
+        this.countStrategy = countStrategy;
+    }
+
 }
@@ -8,6 +8,8 @@ public class PageableBuilder<T> {
     private long totalElements;
     private int totalPages;
     private List<T> content;
+    private String nextCursor;
+    private CountStrategy countStrategy;
 
     PageableBuilder() {
     }
@@ -37,7 +39,17 @@ public class PageableBuilder<T> {
         return this;
     }
 
+    public PageableBuilder<T> nextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+        return this;
+    }
+
+    public PageableBuilder<T> countStrategy(CountStrategy countStrategy) {
+        this.countStrategy = countStrategy;
+        return this;
+    }
+
     public Pageable<T> build() {
-        return new Pageable<>(page, size, totalElements, totalPages, content);
+        return new Pageable<>(page, size, totalElements, totalPages, content, nextCursor, countStrategy);
     }
 }
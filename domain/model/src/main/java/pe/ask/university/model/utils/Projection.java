@@ -0,0 +1,26 @@
+package pe.ask.university.model.utils;
+
+import java.util.Locale;
+
+/**
+ * Which columns a paginated listing reads.
+ * <ul>
+ *     <li>{@link #FULL}: every column of the row.</li>
+ *     <li>{@link #SUMMARY}: only the columns shown on list screens, plus the ID and creation
+ *     date needed for the cursor. The other fields of the returned objects are {@code null}.</li>
+ * </ul>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public enum Projection {
+    FULL,
+    SUMMARY;
+
+    public static Projection fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        return Projection.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,32 @@
+package pe.ask.university.model.utils;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The single normalization applied to search text, on both sides of a lookup.
+ * <p>
+ * Text typed by clients and the values it is matched against must be normalized the same way,
+ * otherwise lookups silently miss. Both the search use cases and the in-memory suggestion index
+ * go through {@link #normalize(String)}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class SearchText {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchText() {
+    }
+
+    /**
+     * Trims the text, collapses runs of whitespace into single spaces and lower-cases it.
+     *
+     * @param text the text to normalize.
+     * @return the normalized text.
+     */
+    public static String normalize(String text) {
+        return WHITESPACE.matcher(text.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+package pe.ask.university.model.utils.exception;
+
+import java.util.UUID;
+
+/**
+ * Signals that a write was rejected because a value must be unique and is already taken.
+ * <p>
+ * Raised by persistence adapters when the database reports a unique constraint violation,
+ * so use cases can turn it into the matching business exception without depending on any
+ * database driver.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class DuplicateValueException extends RuntimeException {
+    private final String field;
+    private final UUID existingId;
+
+    public DuplicateValueException(String field, Throwable cause) {
+        super("Duplicate value for " + field, cause);
+        this.field = field;
+        this.existingId = null;
+    }
+
+    public DuplicateValueException(String field, UUID existingId) {
+        super("Duplicate value for " + field);
+        this.field = field;
+        this.existingId = existingId;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public UUID getExistingId() {
+        return existingId;
+    }
+}
@@ -17,6 +17,34 @@ public enum ErrorCatalog {
             500,
             Map.of("server", "Unexpected error occurred")
     ),
+    INVALID_CURSOR(
+            "INVALID_CURSOR",
+            "InvalidCursorException",
+            "The pagination cursor is malformed or has expired. Request the first page again without a cursor.",
+            400,
+            Map.of("cursor", "Invalid pagination cursor")
+    ),
+    INVALID_SEARCH_QUERY(
+            "INVALID_SEARCH_QUERY",
+            "InvalidSearchQueryException",
+            "The search text is too short or too long. Send between 3 and 100 characters.",
+            400,
+            Map.of("q", "Must be between 3 and 100 characters")
+    ),
+    IDEMPOTENCY_KEY_REUSED(
+            "IDEMPOTENCY_KEY_REUSED",
+            "IdempotencyKeyReusedException",
+            "This Idempotency-Key was already used with a different request. Generate a new key for a new request.",
+            422,
+            Map.of("Idempotency-Key", "Key already used with a different request body")
+    ),
+    REQUEST_BODY_TOO_LARGE(
+            "REQUEST_BODY_TOO_LARGE",
+            "RequestBodyTooLargeException",
+            "The request body is too large to be handled idempotently. Send a smaller body.",
+            413,
+            Map.of("body", "Exceeds entry-points.reactive-web.idempotency.max-body-size")
+    ),
 
     COURSE_ALREADY_EXISTS(
             "COURSE_ALREADY_EXISTS",
@@ -32,7 +60,21 @@ public enum ErrorCatalog {
             404,
             null
     ),
+    COURSE_CAPACITY_REACHED(
+            "COURSE_CAPACITY_REACHED",
+            "CourseCapacityReachedException",
+            "There are no seats left in this course for the selected period.",
+            409,
+            Map.of("course", "Course is full for this period")
+    ),
 
+    ENROLLMENT_ALREADY_EXISTS(
+            "ENROLLMENT_ALREADY_EXISTS",
+            "EnrollmentAlreadyExistsException",
+            "The student is already enrolled in this course for the selected period.",
+            409,
+            Map.of("enrollment", "Student is already enrolled in this course for this period")
+    ),
     ENROLLMENT_NOT_FOUND(
             "ENROLLMENT_NOT_FOUND",
             "EnrollmentNotFoundException",
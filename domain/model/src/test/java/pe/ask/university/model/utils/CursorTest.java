@@ -0,0 +1,62 @@
+package pe.ask.university.model.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_000);
+    private static final UUID ID = UUID.fromString("3f2b8c1e-4d5a-4b6c-9e7f-0a1b2c3d4e5f");
+
+    @Test
+    void decodesWhatItEncodes() {
+        Cursor decoded = Cursor.decode(Cursor.of(CREATED_AT, ID).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getId()).isEqualTo(ID);
+    }
+
+    @Test
+    void encodesAsUrlSafeTokenWithoutPadding() {
+        String token = Cursor.of(CREATED_AT, ID).encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void rejectsMissingParts() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.of(null, ID));
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.of(CREATED_AT, null));
+    }
+
+    @Test
+    void rejectsTokenThatIsNotBase64() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void rejectsTokenWithoutSeparator() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode(token(CREATED_AT.toString())));
+    }
+
+    @Test
+    void rejectsTokenWithMalformedDate() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode(token("yesterday|" + ID)));
+    }
+
+    @Test
+    void rejectsTokenWithMalformedId() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Cursor.decode(token(CREATED_AT + "|42")));
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
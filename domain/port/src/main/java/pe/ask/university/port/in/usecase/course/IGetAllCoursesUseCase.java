@@ -2,6 +2,7 @@ package pe.ask.university.port.in.usecase.course;
 
 import pe.ask.university.model.course.Course;
 import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.Projection;
 import reactor.core.publisher.Mono;
 
 /**
@@ -25,10 +26,21 @@ public interface IGetAllCoursesUseCase {
      * that emits a {@link Pageable} object containing the list of courses for the
      * requested page and pagination metadata.
      * </p>
+     * <p>
+     * When a cursor is supplied, the page is fetched by seeking past the position it encodes
+     * instead of skipping {@code page * size} rows, so deep pages cost the same as the first one.
+     * The returned {@link Pageable} carries the cursor for the following page.
+     * </p>
+     * <p>
+     * With {@link Projection#SUMMARY} only the columns needed by list screens are read and the
+     * other fields of the returned courses are left {@code null}.
+     * </p>
      *
      * @param page The page number to retrieve (0-indexed).
      * @param size The number of courses per page.
+     * @param cursor An opaque continuation token from a previous page, or {@code null} to use offset pagination.
+     * @param projection Which columns of the courses are read.
      * @return A {@link Mono} emitting a {@link Pageable} containing the courses.
      */
-    Mono<Pageable<Course>> getAllCourses(int page, int size);
+    Mono<Pageable<Course>> getAllCourses(int page, int size, String cursor, Projection projection);
 }
@@ -0,0 +1,32 @@
+package pe.ask.university.port.in.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.utils.LookupResult;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Defines the input port for retrieving several courses by their IDs at once.
+ * <p>
+ * This functional interface represents a use case for resolving a batch of IDs into
+ * {@link Course} entities. Implementations will handle the logic for querying all of them
+ * together and reporting the IDs that do not exist.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IGetCoursesByIdsUseCase {
+
+    /**
+     * Retrieves the courses with the given IDs.
+     *
+     * @param ids The UUIDs of the courses to retrieve. Repeated IDs are allowed.
+     * @return A {@link Flux} emitting one {@link LookupResult} per requested ID, in request order,
+     *         marking the IDs that were not found.
+     */
+    Flux<LookupResult<Course>> getCoursesByIds(List<UUID> ids);
+}
@@ -0,0 +1,32 @@
+package pe.ask.university.port.in.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for searching courses by text.
+ * <p>
+ * This functional interface represents a use case for finding the {@link Course} entities whose
+ * name or code contain the given text or closely resemble it, best matches first.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ISearchCoursesUseCase {
+
+    /**
+     * Searches courses by text.
+     * <p>
+     * Matches are ranked with prefix matches first, then by trigram similarity. The page size is
+     * bounded, and no total is computed, so the cost depends on the page and not on the table.
+     * </p>
+     *
+     * @param query The text to look for.
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The maximum number of courses to emit.
+     * @return A {@link Flux} emitting the matching courses, best match first.
+     */
+    Flux<Course> searchCourses(String query, int page, int size);
+}
@@ -0,0 +1,33 @@
+package pe.ask.university.port.in.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for streaming all courses.
+ * <p>
+ * This functional interface represents a use case for reading a page of {@link Course}
+ * entities as a stream. Unlike the paginated listing it does not collect the page nor count
+ * the courses, so each course can be written to the client as soon as it is read.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IStreamAllCoursesUseCase {
+
+    /**
+     * Streams the courses of the requested page.
+     * <p>
+     * The page is selected the same way as in the paginated listing: by offset, or by seeking
+     * past the position encoded in the cursor when one is supplied.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed), ignored when a cursor is supplied.
+     * @param size The maximum number of courses to emit.
+     * @param cursor An opaque continuation token, or {@code null} to use offset pagination.
+     * @return A {@link Flux} emitting the courses in {@code (createdAt, id)} order.
+     */
+    Flux<Course> streamAllCourses(int page, int size, String cursor);
+}
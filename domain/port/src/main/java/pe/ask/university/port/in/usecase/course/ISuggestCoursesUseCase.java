@@ -0,0 +1,32 @@
+package pe.ask.university.port.in.usecase.course;
+
+import pe.ask.university.model.course.Course;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for autocompleting courses.
+ * <p>
+ * This functional interface represents a use case for finding the {@link Course} entities whose
+ * code, name or any word of them starts with the text typed so far.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ISuggestCoursesUseCase {
+
+    /**
+     * Suggests courses for a prefix.
+     * <p>
+     * Suggestions are served from an in-memory index, so they are cheap enough to request on
+     * every keystroke. Courses whose code or name starts with the prefix come first.
+     * </p>
+     *
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of courses to emit.
+     * @return A {@link Flux} emitting the suggested courses, with only their ID, name, code and
+     *         creation date set.
+     */
+    Flux<Course> suggestCourses(String prefix, int limit);
+}
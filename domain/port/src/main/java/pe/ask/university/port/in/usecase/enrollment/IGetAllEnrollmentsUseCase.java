@@ -1,6 +1,7 @@
 package pe.ask.university.port.in.usecase.enrollment;
 
 import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.CountStrategy;
 import pe.ask.university.model.utils.Pageable;
 import reactor.core.publisher.Mono;
 
@@ -25,10 +26,17 @@ public interface IGetAllEnrollmentsUseCase {
      * that emits a {@link Pageable} object containing the list of enrollments for the
      * requested page and pagination metadata.
      * </p>
+     * <p>
+     * When a cursor is supplied, the page is fetched by seeking past the position it encodes
+     * instead of skipping {@code page * size} rows, so deep pages cost the same as the first one.
+     * The returned {@link Pageable} carries the cursor for the following page.
+     * </p>
      *
      * @param page The page number to retrieve (0-indexed).
      * @param size The number of enrollments per page.
+     * @param cursor An opaque continuation token from a previous page, or {@code null} to use offset pagination.
+     * @param countStrategy How the total number of elements is computed; reported back in the {@link Pageable}.
      * @return A {@link Mono} emitting a {@link Pageable} containing the enrollments.
      */
-    Mono<Pageable<Enrollment>> getAllEnrollments(int page, int size);
+    Mono<Pageable<Enrollment>> getAllEnrollments(int page, int size, String cursor, CountStrategy countStrategy);
 }
@@ -7,11 +7,12 @@ import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 /**
- * Defines the input port for retrieving an enrollment by its student ID.
+ * Defines the input port for retrieving the enrollments of a student.
  * <p>
- * This functional interface represents a use case for fetching a single {@link Enrollment}
- * based on the ID of the student associated with it. Implementations will handle the logic
- * for querying and returning the requested enrollment.
+ * This functional interface represents a use case for fetching a paginated list of
+ * {@link Enrollment} entities that belong to a student, optionally restricted to a single
+ * academic period. Implementations will handle the logic for querying and returning the
+ * requested page.
  * </p>
  *
  * @author Allan Sagastegui
@@ -21,10 +22,13 @@ import java.util.UUID;
 public interface IGetEnrollmentByStudentIdUseCase {
 
     /**
-     * Retrieves an enrollment by its associated student ID.
+     * Retrieves a page of the enrollments of a student.
      *
-     * @param studentId The UUID of the student whose enrollment is to be retrieved.
-     * @return A {@link Mono} emitting the found {@link Enrollment}, or an empty Mono if not found.
+     * @param studentId The UUID of the student whose enrollments are to be retrieved.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @param page      The page number to retrieve (0-indexed).
+     * @param size      The number of enrollments per page.
+     * @return A {@link Mono} emitting a {@link Pageable} containing the enrollments of the page.
      */
-    Mono<Pageable<Enrollment>> getEnrollmentByStudentId(UUID studentId);
+    Mono<Pageable<Enrollment>> getEnrollmentByStudentId(UUID studentId, UUID periodId, int page, int size);
 }
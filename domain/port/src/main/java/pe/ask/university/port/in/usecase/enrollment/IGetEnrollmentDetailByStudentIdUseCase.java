@@ -0,0 +1,34 @@
+package pe.ask.university.port.in.usecase.enrollment;
+
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+import pe.ask.university.model.utils.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Defines the input port for retrieving the enrollments of a student with their course and period.
+ * <p>
+ * This functional interface represents a use case for fetching a paginated list of
+ * {@link EnrollmentDetail} read models, each one already carrying the name and code of its
+ * course and the name of its period. Implementations will handle the logic for querying and
+ * returning the requested page.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IGetEnrollmentDetailByStudentIdUseCase {
+
+    /**
+     * Retrieves a page of the enrollment details of a student.
+     *
+     * @param studentId The UUID of the student whose enrollments are to be retrieved.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @param page      The page number to retrieve (0-indexed).
+     * @param size      The number of enrollments per page.
+     * @return A {@link Mono} emitting a {@link Pageable} containing the enrollment details of the page.
+     */
+    Mono<Pageable<EnrollmentDetail>> getEnrollmentDetailByStudentId(UUID studentId, UUID periodId, int page, int size);
+}
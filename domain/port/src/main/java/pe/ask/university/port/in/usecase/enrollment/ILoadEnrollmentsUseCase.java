@@ -0,0 +1,28 @@
+package pe.ask.university.port.in.usecase.enrollment;
+
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.LoadProgress;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for bulk-loading historical enrollments.
+ * <p>
+ * This functional interface represents an administrative use case for backfilling
+ * {@link Enrollment} records. It is not intended for regular registrations, which go
+ * through the capacity and duplicate checks of the save use case.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ILoadEnrollmentsUseCase {
+
+    /**
+     * Loads a stream of enrollments.
+     *
+     * @param enrollments The enrollments to load.
+     * @return A {@link Flux} emitting a {@link LoadProgress} after each committed chunk.
+     */
+    Flux<LoadProgress> loadEnrollments(Flux<Enrollment> enrollments);
+}
@@ -1,7 +1,9 @@
 package pe.ask.university.port.in.usecase.student;
 
 import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.CountStrategy;
 import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.Projection;
 import reactor.core.publisher.Mono;
 
 /**
@@ -25,10 +27,22 @@ public interface IGetAllStudentsUseCase {
      * that emits a {@link Pageable} object containing the list of students for the
      * requested page and pagination metadata.
      * </p>
+     * <p>
+     * When a cursor is supplied, the page is fetched by seeking past the position it encodes
+     * instead of skipping {@code page * size} rows, so deep pages cost the same as the first one.
+     * The returned {@link Pageable} carries the cursor for the following page.
+     * </p>
+     * <p>
+     * With {@link Projection#SUMMARY} only the columns needed by list screens are read and the
+     * other fields of the returned students are left {@code null}.
+     * </p>
      *
      * @param page The page number to retrieve (0-indexed).
      * @param size The number of students per page.
+     * @param cursor An opaque continuation token from a previous page, or {@code null} to use offset pagination.
+     * @param countStrategy How the total number of elements is computed; reported back in the {@link Pageable}.
+     * @param projection Which columns of the students are read.
      * @return A {@link Mono} emitting a {@link Pageable} containing the students.
      */
-    Mono<Pageable<Student>> getAllStudents(int page, int size);
+    Mono<Pageable<Student>> getAllStudents(int page, int size, String cursor, CountStrategy countStrategy, Projection projection);
 }
@@ -0,0 +1,36 @@
+package pe.ask.university.port.in.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.ImportResult;
+import pe.ask.university.model.utils.ImportRow;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for importing students in bulk.
+ * <p>
+ * This functional interface represents a use case for registering a large number of
+ * {@link Student} entities in one request. Implementations are expected to write in
+ * batches and to report the outcome of every row instead of failing the whole import
+ * because of a single bad record.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IImportStudentsUseCase {
+
+    /**
+     * Imports a stream of students.
+     * <p>
+     * Rows that already failed validation are reported as invalid. Valid rows are
+     * de-duplicated by email and DNI, both within the import and against existing students,
+     * and the rest are persisted. One {@link ImportResult} is emitted per input row, in
+     * input order.
+     * </p>
+     *
+     * @param rows The parsed and validated rows to import.
+     * @return A {@link Flux} emitting the result of each row.
+     */
+    Flux<ImportResult> importStudents(Flux<ImportRow<Student>> rows);
+}
@@ -0,0 +1,32 @@
+package pe.ask.university.port.in.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for searching students by text.
+ * <p>
+ * This functional interface represents a use case for finding the {@link Student} entities whose
+ * name, surname or email local part contain the given text or closely resemble it, best matches first.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ISearchStudentsUseCase {
+
+    /**
+     * Searches students by text.
+     * <p>
+     * Matches are ranked with prefix matches first, then by trigram similarity. The page size is
+     * bounded, and no total is computed, so the cost depends on the page and not on the table.
+     * </p>
+     *
+     * @param query The text to look for.
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The maximum number of students to emit.
+     * @return A {@link Flux} emitting the matching students, best match first.
+     */
+    Flux<Student> searchStudents(String query, int page, int size);
+}
@@ -0,0 +1,33 @@
+package pe.ask.university.port.in.usecase.student;
+
+import pe.ask.university.model.student.Student;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the input port for streaming all students.
+ * <p>
+ * This functional interface represents a use case for reading a page of {@link Student}
+ * entities as a stream. Unlike the paginated listing it does not collect the page nor count
+ * the students, so each student can be written to the client as soon as it is read.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IStreamAllStudentsUseCase {
+
+    /**
+     * Streams the students of the requested page.
+     * <p>
+     * The page is selected the same way as in the paginated listing: by offset, or by seeking
+     * past the position encoded in the cursor when one is supplied.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed), ignored when a cursor is supplied.
+     * @param size The maximum number of students to emit.
+     * @param cursor An opaque continuation token, or {@code null} to use offset pagination.
+     * @return A {@link Flux} emitting the students in {@code (createdAt, id)} order.
+     */
+    Flux<Student> streamAllStudents(int page, int size, String cursor);
+}
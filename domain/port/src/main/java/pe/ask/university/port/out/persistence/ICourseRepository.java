@@ -0,0 +1,121 @@
+package pe.ask.university.port.out.persistence;
+
+import pe.ask.university.model.course.Course;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Defines the output port for course persistence operations.
+ * <p>
+ * This interface abstracts the storage of {@link Course} entities so that the
+ * application layer does not depend on any specific database technology.
+ * Implementations live in the driven adapters.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public interface ICourseRepository {
+
+    /**
+     * Persists a new course.
+     *
+     * @param course The course to save.
+     * @return A {@link Mono} emitting the saved {@link Course}.
+     */
+    Mono<Course> saveCourse(Course course);
+
+    /**
+     * Retrieves a page of courses using offset pagination.
+     * <p>
+     * Results are ordered by creation date and ID so that consecutive pages are stable.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The number of courses per page.
+     * @return A {@link Flux} emitting the courses of the requested page.
+     */
+    Flux<Course> getAllCourses(int page, int size);
+
+    /**
+     * Retrieves the courses that come after the given position using keyset pagination.
+     *
+     * @param createdAt The creation date of the last course already returned.
+     * @param id        The ID of the last course already returned.
+     * @param size      The number of courses to retrieve.
+     * @return A {@link Flux} emitting the next courses in {@code (createdAt, id)} order.
+     */
+    Flux<Course> getAllCoursesAfter(LocalDateTime createdAt, UUID id, int size);
+
+    /**
+     * Retrieves a page of courses reading only the columns of the summary projection.
+     * <p>
+     * Only the ID, name, code and creation date of the returned courses are set.
+     * Ordering matches {@link #getAllCourses(int, int)}.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The number of courses per page.
+     * @return A {@link Flux} emitting the partially filled courses of the requested page.
+     */
+    Flux<Course> getAllCourseSummaries(int page, int size);
+
+    /**
+     * Retrieves the courses after the given position reading only the columns of the summary projection.
+     *
+     * @param createdAt The creation date of the last course already returned.
+     * @param id        The ID of the last course already returned.
+     * @param size      The number of courses to retrieve.
+     * @return A {@link Flux} emitting the next partially filled courses in {@code (createdAt, id)} order.
+     */
+    Flux<Course> getAllCourseSummariesAfter(LocalDateTime createdAt, UUID id, int size);
+
+    /**
+     * Searches courses whose name or code contain the query or closely resemble it.
+     * <p>
+     * Results are ordered with prefix matches first, then by trigram word similarity, then by ID
+     * so that pages are stable.
+     * </p>
+     *
+     * @param query The normalized, lower-case search text.
+     * @param page  The page number to retrieve (0-indexed).
+     * @param size  The number of courses per page.
+     * @return A {@link Flux} emitting the matching courses, best match first.
+     */
+    Flux<Course> searchCourses(String query, int page, int size);
+
+    /**
+     * Retrieves a course by its name.
+     *
+     * @param name The name of the course to retrieve.
+     * @return A {@link Mono} emitting the found {@link Course}, or empty if not found.
+     */
+    Mono<Course> getCourseByName(String name);
+
+    /**
+     * Retrieves a course by its unique identifier.
+     *
+     * @param id The UUID of the course to retrieve.
+     * @return A {@link Mono} emitting the found {@link Course}, or empty if not found.
+     */
+    Mono<Course> getCourseById(UUID id);
+
+    /**
+     * Retrieves the courses matching any of the given identifiers in a single query.
+     *
+     * @param ids The UUIDs of the courses to retrieve.
+     * @return A {@link Flux} emitting the courses found, in no particular order. IDs without a match are skipped.
+     */
+    Flux<Course> getCoursesByIds(Collection<UUID> ids);
+
+    /**
+     * Counts the total number of courses.
+     *
+     * @return A {@link Mono} emitting the total count of courses.
+     */
+    Mono<Long> countAll();
+}
@@ -0,0 +1,36 @@
+package pe.ask.university.port.out.persistence;
+
+import pe.ask.university.model.course.Course;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines the output port for course autocomplete suggestions.
+ * <p>
+ * Implementations answer prefix lookups on the name and code of the {@link Course} entities
+ * and are told about every course saved through the application, so new courses can be
+ * suggested right away. Implementations live in the driven adapters.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public interface ICourseSuggestionRepository {
+
+    /**
+     * Finds the courses whose code, name or any word of the name starts with a prefix.
+     *
+     * @param prefix The normalized (trimmed, lower-cased) text typed so far.
+     * @param limit The maximum number of courses to emit.
+     * @return A {@link Flux} emitting the matching courses, code and name matches first.
+     */
+    Flux<Course> suggestCourses(String prefix, int limit);
+
+    /**
+     * Adds a course to the suggestions, or replaces it if it is already there.
+     *
+     * @param course The saved course.
+     * @return A {@link Mono} that completes once the course can be suggested.
+     */
+    Mono<Void> indexCourse(Course course);
+}
@@ -0,0 +1,31 @@
+package pe.ask.university.port.out.persistence;
+
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.LoadProgress;
+import reactor.core.publisher.Flux;
+
+/**
+ * Defines the output port for loading large volumes of enrollments.
+ * <p>
+ * Unlike {@link IEnrollmentRepository}, this port is meant for backfills and migrations.
+ * It trades per-row feedback for raw throughput, writing the stream in large chunks.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface IEnrollmentLoader {
+
+    /**
+     * Streams the given enrollments into storage.
+     * <p>
+     * Each chunk is written atomically. If a chunk fails, the chunks already reported
+     * remain stored and the returned {@link Flux} terminates with the error.
+     * </p>
+     *
+     * @param enrollments The enrollments to load. Missing IDs and creation dates are generated.
+     * @return A {@link Flux} emitting a {@link LoadProgress} after each committed chunk.
+     */
+    Flux<LoadProgress> load(Flux<Enrollment> enrollments);
+}
@@ -0,0 +1,131 @@
+package pe.ask.university.port.out.persistence;
+
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Defines the output port for enrollment persistence operations.
+ * <p>
+ * This interface abstracts the storage of {@link Enrollment} entities so that the
+ * application layer does not depend on any specific database technology.
+ * Implementations live in the driven adapters.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public interface IEnrollmentRepository {
+
+    /**
+     * Persists a new enrollment.
+     * <p>
+     * A student can be enrolled only once in a course for a given period, enforced atomically
+     * by the store. A conflict is signalled with a {@link DuplicateValueException} carrying the
+     * ID of the enrollment that already exists.
+     * </p>
+     *
+     * @param enrollment The enrollment to save.
+     * @return A {@link Mono} emitting the saved {@link Enrollment}.
+     */
+    Mono<Enrollment> saveEnrollment(Enrollment enrollment);
+
+    /**
+     * Retrieves a page of enrollments using offset pagination.
+     * <p>
+     * Results are ordered by creation date and ID so that consecutive pages are stable.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The number of enrollments per page.
+     * @return A {@link Flux} emitting the enrollments of the requested page.
+     */
+    Flux<Enrollment> getAllEnrollments(int page, int size);
+
+    /**
+     * Retrieves the enrollments that come after the given position using keyset pagination.
+     *
+     * @param createdAt The creation date of the last enrollment already returned.
+     * @param id        The ID of the last enrollment already returned.
+     * @param size      The number of enrollments to retrieve.
+     * @return A {@link Flux} emitting the next enrollments in {@code (createdAt, id)} order.
+     */
+    Flux<Enrollment> getAllEnrollmentsAfter(LocalDateTime createdAt, UUID id, int size);
+
+    /**
+     * Retrieves an enrollment by its unique identifier.
+     *
+     * @param id The UUID of the enrollment to retrieve.
+     * @return A {@link Mono} emitting the found {@link Enrollment}, or empty if not found.
+     */
+    Mono<Enrollment> getEnrollmentById(UUID id);
+
+    /**
+     * Retrieves a page of the enrollments of a student, optionally limited to one period.
+     *
+     * @param studentId The UUID of the student.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @param page      The page number to retrieve (0-indexed).
+     * @param size      The number of enrollments per page.
+     * @return A {@link Flux} emitting the enrollments of the page, ordered by creation date.
+     */
+    Flux<Enrollment> getEnrollmentByStudentId(UUID studentId, UUID periodId, int page, int size);
+
+    /**
+     * Retrieves a page of the enrollments of a student with the course and period they refer to.
+     * <p>
+     * Each {@link EnrollmentDetail} carries the course name and code and the period name, so
+     * callers do not need to look them up one by one.
+     * </p>
+     *
+     * @param studentId The UUID of the student.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @param page      The page number to retrieve (0-indexed).
+     * @param size      The number of enrollments per page.
+     * @return A {@link Flux} emitting the enrollment details of the page, ordered by creation date.
+     */
+    Flux<EnrollmentDetail> getEnrollmentDetailByStudentId(UUID studentId, UUID periodId, int page, int size);
+
+    /**
+     * Counts the enrollments of a student, optionally limited to one period.
+     *
+     * @param studentId The UUID of the student.
+     * @param periodId  The UUID of the period to filter by, or {@code null} for all periods.
+     * @return A {@link Mono} emitting the number of matching enrollments.
+     */
+    Mono<Long> countByStudentId(UUID studentId, UUID periodId);
+
+    /**
+     * Counts the total number of enrollments.
+     *
+     * @return A {@link Mono} emitting the total count of enrollments.
+     */
+    Mono<Long> countAll();
+
+    /**
+     * Returns the exact number of enrollments, reusing a recent result when one is available.
+     * <p>
+     * The cached value expires after a configured TTL and is discarded whenever a new
+     * record is saved through this repository.
+     * </p>
+     *
+     * @return A {@link Mono} emitting the possibly cached count of enrollments.
+     */
+    Mono<Long> countAllCached();
+
+    /**
+     * Returns an approximate number of enrollments taken from the database statistics.
+     * <p>
+     * This does not scan the table, so it is cheap on very large tables, but it can lag
+     * behind recent inserts until the table is analyzed again.
+     * </p>
+     *
+     * @return A {@link Mono} emitting the estimated count of enrollments.
+     */
+    Mono<Long> estimateCountAll();
+}
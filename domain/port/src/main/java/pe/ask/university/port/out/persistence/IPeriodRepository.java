@@ -0,0 +1,44 @@
+package pe.ask.university.port.out.persistence;
+
+import pe.ask.university.model.period.Period;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Defines the output port for academic period persistence operations.
+ * <p>
+ * This interface abstracts the storage of {@link Period} entities so that the
+ * application layer does not depend on any specific database technology.
+ * Implementations live in the driven adapters.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public interface IPeriodRepository {
+
+    /**
+     * Persists a new period.
+     *
+     * @param period The period to save.
+     * @return A {@link Mono} emitting the saved {@link Period}.
+     */
+    Mono<Period> savePeriod(Period period);
+
+    /**
+     * Retrieves a period by its name.
+     *
+     * @param name The name of the period to retrieve.
+     * @return A {@link Mono} emitting the found {@link Period}, or empty if not found.
+     */
+    Mono<Period> getPeriodByName(String name);
+
+    /**
+     * Retrieves a period by its unique identifier.
+     *
+     * @param id The UUID of the period to retrieve.
+     * @return A {@link Mono} emitting the found {@link Period}, or empty if not found.
+     */
+    Mono<Period> getPeriodById(UUID id);
+}
@@ -0,0 +1,42 @@
+package pe.ask.university.port.out.persistence;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Defines the output port for reserving course seats.
+ * <p>
+ * Seats are counted per course and academic period. A reservation is admitted only while the
+ * number of seats taken is below the capacity of the course, and the check and the increment
+ * happen atomically, so concurrent reservations can never overbook a course. Implementations
+ * live in the driven adapters.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public interface ISeatRepository {
+
+    /**
+     * Takes a seat of a course in a period if one is still free.
+     *
+     * @param courseId The UUID of the course.
+     * @param periodId The UUID of the period.
+     * @param capacity The maximum number of seats of the course.
+     * @return A {@link Mono} emitting {@code true} if the seat was taken, or {@code false} if the course is full.
+     */
+    Mono<Boolean> reserve(UUID courseId, UUID periodId, int capacity);
+
+    /**
+     * Gives back a seat previously taken with {@link #reserve(UUID, UUID, int)}.
+     * <p>
+     * Used when the enrollment that needed the seat could not be stored.
+     * </p>
+     *
+     * @param courseId The UUID of the course.
+     * @param periodId The UUID of the period.
+     * @return A {@link Mono} completing once the seat is released.
+     */
+    Mono<Void> release(UUID courseId, UUID periodId);
+}
@@ -0,0 +1,193 @@
+package pe.ask.university.port.out.persistence;
+
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Defines the output port for student persistence operations.
+ * <p>
+ * This interface abstracts the storage of {@link Student} entities so that the
+ * application layer does not depend on any specific database technology.
+ * Implementations live in the driven adapters.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public interface IStudentRepository {
+
+    /**
+     * Persists a new student.
+     * <p>
+     * Uniqueness of email and DNI is enforced atomically by the store. A conflict is signalled
+     * with a {@link DuplicateValueException} whose field names the conflicting column.
+     * </p>
+     *
+     * @param student The student to save.
+     * @return A {@link Mono} emitting the saved {@link Student}.
+     */
+    Mono<Student> saveStudent(Student student);
+
+    /**
+     * Persists a batch of new students in as few round trips as possible.
+     * <p>
+     * Students whose email or DNI is already registered are skipped silently instead of
+     * failing the batch. Only the students that were actually inserted are emitted, with
+     * their generated IDs.
+     * </p>
+     *
+     * @param students The students to save.
+     * @return A {@link Flux} emitting the inserted {@link Student}s.
+     */
+    Flux<Student> saveAllStudents(Flux<Student> students);
+
+    /**
+     * Retrieves a page of students using offset pagination.
+     * <p>
+     * Results are ordered by creation date and ID so that consecutive pages are stable.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The number of students per page.
+     * @return A {@link Flux} emitting the students of the requested page.
+     */
+    Flux<Student> getAllStudents(int page, int size);
+
+    /**
+     * Retrieves the students that come after the given position using keyset pagination.
+     * <p>
+     * The position is the {@code (createdAt, id)} pair of the last student of the previous
+     * page, so the cost of the query does not depend on how deep the page is.
+     * </p>
+     *
+     * @param createdAt The creation date of the last student already returned.
+     * @param id        The ID of the last student already returned.
+     * @param size      The number of students to retrieve.
+     * @return A {@link Flux} emitting the next students in {@code (createdAt, id)} order.
+     */
+    Flux<Student> getAllStudentsAfter(LocalDateTime createdAt, UUID id, int size);
+
+    /**
+     * Retrieves a page of students reading only the columns of the summary projection.
+     * <p>
+     * Only the ID, name, surname, email and creation date of the returned students are set.
+     * Ordering matches {@link #getAllStudents(int, int)}.
+     * </p>
+     *
+     * @param page The page number to retrieve (0-indexed).
+     * @param size The number of students per page.
+     * @return A {@link Flux} emitting the partially filled students of the requested page.
+     */
+    Flux<Student> getAllStudentSummaries(int page, int size);
+
+    /**
+     * Retrieves the students after the given position reading only the columns of the summary projection.
+     *
+     * @param createdAt The creation date of the last student already returned.
+     * @param id        The ID of the last student already returned.
+     * @param size      The number of students to retrieve.
+     * @return A {@link Flux} emitting the next partially filled students in {@code (createdAt, id)} order.
+     */
+    Flux<Student> getAllStudentSummariesAfter(LocalDateTime createdAt, UUID id, int size);
+
+    /**
+     * Searches students whose name, surname or email local part contain the query or closely resemble it.
+     * <p>
+     * Results are ordered with prefix matches first, then by trigram word similarity, then by ID
+     * so that pages are stable.
+     * </p>
+     *
+     * @param query The normalized, lower-case search text.
+     * @param page  The page number to retrieve (0-indexed).
+     * @param size  The number of students per page.
+     * @return A {@link Flux} emitting the matching students, best match first.
+     */
+    Flux<Student> searchStudents(String query, int page, int size);
+
+    /**
+     * Retrieves a student by their name.
+     *
+     * @param name The name of the student to retrieve.
+     * @return A {@link Mono} emitting the found {@link Student}, or empty if not found.
+     */
+    Mono<Student> getStudentByName(String name);
+
+    /**
+     * Retrieves a student by their unique identifier.
+     *
+     * @param id The UUID of the student to retrieve.
+     * @return A {@link Mono} emitting the found {@link Student}, or empty if not found.
+     */
+    Mono<Student> getStudentById(UUID id);
+
+    /**
+     * Retrieves the students matching any of the given identifiers in a single query.
+     *
+     * @param ids The UUIDs of the students to retrieve.
+     * @return A {@link Flux} emitting the students found, in no particular order. IDs without a match are skipped.
+     */
+    Flux<Student> getStudentsByIds(Collection<UUID> ids);
+
+    /**
+     * Retrieves a student by their email address.
+     *
+     * @param email The email of the student to retrieve.
+     * @return A {@link Mono} emitting the found {@link Student}, or empty if not found.
+     */
+    Mono<Student> getStudentByEmail(String email);
+
+    /**
+     * Retrieves a student by their DNI.
+     *
+     * @param dni The DNI of the student to retrieve.
+     * @return A {@link Mono} emitting the found {@link Student}, or empty if not found.
+     */
+    Mono<Student> getStudentByDni(String dni);
+
+    /**
+     * Updates an existing student.
+     * <p>
+     * Email and DNI conflicts with other students are signalled with a {@link DuplicateValueException}.
+     * </p>
+     *
+     * @param id      The UUID of the student to update.
+     * @param student The student containing the updated information.
+     * @return A {@link Mono} emitting the updated {@link Student}, or empty if no student has the given ID.
+     */
+    Mono<Student> updateStudent(UUID id, Student student);
+
+    /**
+     * Counts the total number of students.
+     *
+     * @return A {@link Mono} emitting the total count of students.
+     */
+    Mono<Long> countAll();
+
+    /**
+     * Returns the exact number of students, reusing a recent result when one is available.
+     * <p>
+     * The cached value expires after a configured TTL and is discarded whenever a new
+     * record is saved through this repository.
+     * </p>
+     *
+     * @return A {@link Mono} emitting the possibly cached count of students.
+     */
+    Mono<Long> countAllCached();
+
+    /**
+     * Returns an approximate number of students taken from the database statistics.
+     * <p>
+     * This does not scan the table, so it is cheap on very large tables, but it can lag
+     * behind recent inserts until the table is analyzed again.
+     * </p>
+     *
+     * @return A {@link Mono} emitting the estimated count of students.
+     */
+    Mono<Long> estimateCountAll();
+}
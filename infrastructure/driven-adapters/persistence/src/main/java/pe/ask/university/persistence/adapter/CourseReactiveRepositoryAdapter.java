@@ -1,15 +1,22 @@
 package pe.ask.university.persistence.adapter;
 
-import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import pe.ask.university.model.course.Course;
+import pe.ask.university.persistence.config.RowReaderProperties;
 import pe.ask.university.persistence.entity.CourseEntity;
+import pe.ask.university.persistence.helper.PageOffsets;
 import pe.ask.university.persistence.helper.ReactiveAdapterOperations;
+import pe.ask.university.persistence.helper.SearchPatterns;
+import pe.ask.university.persistence.mapper.ICourseEntityMapper;
+import pe.ask.university.persistence.reader.CourseRowReader;
 import pe.ask.university.persistence.repository.ICourseReactiveRepository;
 import pe.ask.university.port.out.persistence.ICourseRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -33,14 +40,68 @@ public class CourseReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         ICourseReactiveRepository
         > implements ICourseRepository {
 
+    private static final String SELECT_PAGE = """
+            SELECT %s FROM course
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(CourseRowReader.COLUMNS);
+
+    private static final String SELECT_AFTER = """
+            SELECT %s FROM course
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+    """.formatted(CourseRowReader.COLUMNS);
+
+    private static final String SELECT_SUMMARY_PAGE = """
+            SELECT %s FROM course
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(CourseRowReader.SUMMARY_COLUMNS);
+
+    private static final String SELECT_SUMMARY_AFTER = """
+            SELECT %s FROM course
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+    """.formatted(CourseRowReader.SUMMARY_COLUMNS);
+
+    private static final String SEARCH_TEXT = "lower(coalesce(name, '') || ' ' || coalesce(code, ''))";
+
+    private static final int SEARCH_CANDIDATES = 1_000;
+
+    private static final String SEARCH = """
+            SELECT %s FROM (
+                SELECT %s FROM course
+                WHERE %s LIKE :pattern
+                OR :query <%% %s
+                ORDER BY %s <->> :query
+                LIMIT %d
+            ) candidates
+            ORDER BY (lower(name) LIKE :prefix OR lower(code) LIKE :prefix) DESC,
+                     word_similarity(:query, %s) DESC,
+                     id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(CourseRowReader.COLUMNS, CourseRowReader.COLUMNS, SEARCH_TEXT, SEARCH_TEXT, SEARCH_TEXT, SEARCH_CANDIDATES, SEARCH_TEXT);
+
+    private final DatabaseClient databaseClient;
+    private final RowReaderProperties rowReaderProperties;
+
     /**
      * Constructs a new {@code CourseReactiveRepositoryAdapter}.
      *
-     * @param repository the reactive repository for course entities.
-     * @param mapper     the object mapper for converting between domain and entity objects.
+     * @param repository          the reactive repository for course entities.
+     * @param mapper              the generated mapper converting between domain and entity objects.
+     * @param databaseClient      the client used for row-read listings.
+     * @param rowReaderProperties decides whether listings are read with {@link CourseRowReader}.
      */
-    public CourseReactiveRepositoryAdapter(ICourseReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, Course.class));
+    public CourseReactiveRepositoryAdapter(ICourseReactiveRepository repository, ICourseEntityMapper mapper, DatabaseClient databaseClient, RowReaderProperties rowReaderProperties) {
+        super(repository, mapper::toData, mapper::toDomain);
+        this.databaseClient = databaseClient;
+        this.rowReaderProperties = rowReaderProperties;
     }
 
     /**
@@ -57,6 +118,10 @@ public class CourseReactiveRepositoryAdapter extends ReactiveAdapterOperations<
 
     /**
      * Retrieves a paginated list of all courses.
+     * <p>
+     * With {@code adapters.persistence.row-readers.enabled} the rows are turned into courses by
+     * {@link CourseRowReader}, skipping the intermediate {@link CourseEntity}.
+     * </p>
      *
      * @param page the page number to retrieve.
      * @param size the number of courses per page.
@@ -64,10 +129,112 @@ public class CourseReactiveRepositoryAdapter extends ReactiveAdapterOperations<
      */
     @Override
     public Flux<Course> getAllCourses(int page, int size) {
-        return super.repository.findAllPaginated(page * size, size)
+        if (rowReaderProperties.enabled()) {
+            return databaseClient.sql(SELECT_PAGE)
+                    .bind("offset", PageOffsets.offset(page, size))
+                    .bind("limit", size)
+                    .map(CourseRowReader::read)
+                    .all();
+        }
+        return super.repository.findAllPaginated(PageOffsets.offset(page, size), size)
                 .map(this::toEntity);
     }
 
+    /**
+     * Retrieves the courses created after the given position, ordered by creation date and ID.
+     * <p>
+     * Read with {@link CourseRowReader} when row readers are enabled, like {@link #getAllCourses(int, int)}.
+     * </p>
+     *
+     * @param createdAt the creation date of the last course already returned.
+     * @param id        the ID of the last course already returned.
+     * @param size      the number of courses to retrieve.
+     * @return a {@link Flux} emitting the next courses.
+     */
+    @Override
+    public Flux<Course> getAllCoursesAfter(LocalDateTime createdAt, UUID id, int size) {
+        if (rowReaderProperties.enabled()) {
+            return databaseClient.sql(SELECT_AFTER)
+                    .bind("createdAt", createdAt)
+                    .bind("id", id)
+                    .bind("limit", size)
+                    .map(CourseRowReader::read)
+                    .all();
+        }
+        return super.repository.findAllAfter(createdAt, id, size)
+                .map(this::toEntity);
+    }
+
+    /**
+     * Retrieves a page of courses with only the summary columns.
+     * <p>
+     * The query reads the columns of {@link CourseRowReader#SUMMARY_COLUMNS}, all held by the
+     * covering listing index shipped in {@code deployment/database}, so PostgreSQL can answer
+     * it with an index-only scan. Always read with {@link CourseRowReader}.
+     * </p>
+     *
+     * @param page the page number to retrieve.
+     * @param size the number of courses per page.
+     * @return a {@link Flux} emitting the partially filled courses of the page.
+     */
+    @Override
+    public Flux<Course> getAllCourseSummaries(int page, int size) {
+        return databaseClient.sql(SELECT_SUMMARY_PAGE)
+                .bind("offset", PageOffsets.offset(page, size))
+                .bind("limit", size)
+                .map(CourseRowReader::readSummary)
+                .all();
+    }
+
+    /**
+     * Retrieves the courses after the given position with only the summary columns.
+     *
+     * @param createdAt the creation date of the last course already returned.
+     * @param id        the ID of the last course already returned.
+     * @param size      the number of courses to retrieve.
+     * @return a {@link Flux} emitting the next partially filled courses.
+     */
+    @Override
+    public Flux<Course> getAllCourseSummariesAfter(LocalDateTime createdAt, UUID id, int size) {
+        return databaseClient.sql(SELECT_SUMMARY_AFTER)
+                .bind("createdAt", createdAt)
+                .bind("id", id)
+                .bind("limit", size)
+                .map(CourseRowReader::readSummary)
+                .all();
+    }
+
+    /**
+     * Searches courses by text over their name and code.
+     * <p>
+     * A row matches when the lower-cased concatenation of those columns contains the query, or
+     * when the query is word-similar to it ({@code <%}). Both conditions are served by the
+     * {@code pg_trgm} GiST index on that same expression shipped in {@code deployment/database}.
+     * Candidates are the {@value #SEARCH_CANDIDATES} matching rows with the smallest
+     * word-similarity distance ({@code <->>}) to the query, which the GiST index returns in order
+     * without reading every match, so a broad query never ranks the whole table; that cap covers
+     * the deepest page the use case allows. Among those candidates, prefix matches on any single
+     * column rank first, then rows are ordered by {@code word_similarity} and finally by ID. Rows
+     * are read with {@link CourseRowReader}.
+     * </p>
+     *
+     * @param query the normalized, lower-case search text.
+     * @param page  the page number to retrieve.
+     * @param size  the number of courses per page.
+     * @return a {@link Flux} emitting the matching courses, best match first.
+     */
+    @Override
+    public Flux<Course> searchCourses(String query, int page, int size) {
+        return databaseClient.sql(SEARCH)
+                .bind("query", query)
+                .bind("pattern", SearchPatterns.contains(query))
+                .bind("prefix", SearchPatterns.prefix(query))
+                .bind("offset", PageOffsets.offset(page, size))
+                .bind("limit", size)
+                .map(CourseRowReader::read)
+                .all();
+    }
+
     /**
      * Retrieves a course by its name.
      *
@@ -82,13 +249,30 @@ public class CourseReactiveRepositoryAdapter extends ReactiveAdapterOperations<
 
     /**
      * Retrieves a course by its ID.
+     * <p>
+     * Concurrent lookups of the same ID share a single query, see {@link #findById(Object)}.
+     * </p>
      *
      * @param id the ID of the course to retrieve.
      * @return a {@link Mono} emitting the found course, or empty if not found.
      */
     @Override
     public Mono<Course> getCourseById(UUID id) {
-        return super.repository.findById(id)
+        return findById(id);
+    }
+
+    /**
+     * Retrieves the courses matching any of the given IDs.
+     * <p>
+     * Delegates to {@code findAllById}, which resolves all IDs with a single query.
+     * </p>
+     *
+     * @param ids the IDs of the courses to retrieve.
+     * @return a {@link Flux} emitting the courses found.
+     */
+    @Override
+    public Flux<Course> getCoursesByIds(Collection<UUID> ids) {
+        return super.repository.findAllById(ids)
                 .map(this::toEntity);
     }
 
@@ -99,6 +283,6 @@ public class CourseReactiveRepositoryAdapter extends ReactiveAdapterOperations<
      */
     @Override
     public Mono<Long> countAll() {
-        return super.repository.count();
+        return super.repository.countAll();
     }
 }
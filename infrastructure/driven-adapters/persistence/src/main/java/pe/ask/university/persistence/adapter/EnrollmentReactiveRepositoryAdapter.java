@@ -1,15 +1,26 @@
 package pe.ask.university.persistence.adapter;
 
-import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
+import pe.ask.university.persistence.config.CacheProperties;
+import pe.ask.university.persistence.config.RowReaderProperties;
+import pe.ask.university.persistence.entity.EnrollmentDetailEntity;
 import pe.ask.university.persistence.entity.EnrollmentEntity;
+import pe.ask.university.persistence.helper.CountCache;
+import pe.ask.university.persistence.helper.PageOffsets;
 import pe.ask.university.persistence.helper.ReactiveAdapterOperations;
+import pe.ask.university.persistence.mapper.IEnrollmentEntityMapper;
+import pe.ask.university.persistence.reader.EnrollmentDetailRowReader;
+import pe.ask.university.persistence.reader.EnrollmentRowReader;
 import pe.ask.university.persistence.repository.IEnrollmentReactiveRepository;
 import pe.ask.university.port.out.persistence.IEnrollmentRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -33,30 +44,110 @@ public class EnrollmentReactiveRepositoryAdapter extends ReactiveAdapterOperatio
         IEnrollmentReactiveRepository
         > implements IEnrollmentRepository {
 
+    private static final String SELECT_PAGE = """
+            SELECT %s FROM enrollment
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(EnrollmentRowReader.COLUMNS);
+
+    private static final String SELECT_AFTER = """
+            SELECT %s FROM enrollment
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+    """.formatted(EnrollmentRowReader.COLUMNS);
+
+    private static final String SELECT_BY_STUDENT = """
+            SELECT %s FROM enrollment
+            WHERE student_id = :studentId
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(EnrollmentRowReader.COLUMNS);
+
+    private static final String SELECT_BY_STUDENT_AND_PERIOD = """
+            SELECT %s FROM enrollment
+            WHERE student_id = :studentId
+            AND period_id = :periodId
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(EnrollmentRowReader.COLUMNS);
+
+    private static final String SELECT_DETAIL_BY_STUDENT = """
+            SELECT %s
+            FROM enrollment e
+            JOIN course c ON c.id = e.course_id
+            JOIN period p ON p.id = e.period_id
+            WHERE e.student_id = :studentId
+            ORDER BY e.created_at, e.id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(EnrollmentDetailRowReader.COLUMNS);
+
+    private static final String SELECT_DETAIL_BY_STUDENT_AND_PERIOD = """
+            SELECT %s
+            FROM enrollment e
+            JOIN course c ON c.id = e.course_id
+            JOIN period p ON p.id = e.period_id
+            WHERE e.student_id = :studentId
+            AND e.period_id = :periodId
+            ORDER BY e.created_at, e.id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(EnrollmentDetailRowReader.COLUMNS);
+
+    private final IEnrollmentEntityMapper mapper;
+    private final CountCache countCache;
+    private final DatabaseClient databaseClient;
+    private final RowReaderProperties rowReaderProperties;
+
     /**
      * Constructs a new {@code EnrollmentReactiveRepositoryAdapter}.
      *
      * @param repository the reactive repository for enrollment entities.
-     * @param mapper     the object mapper for converting between domain and entity objects.
+     * @param mapper     the generated mapper converting between domain and entity objects.
+     * @param cacheProperties the cache settings, used for the TTL of the cached count.
+     * @param databaseClient  the client used for row-read listings.
+     * @param rowReaderProperties decides whether listings are read with {@link EnrollmentRowReader}
+     *                        and {@link EnrollmentDetailRowReader}.
      */
-    public EnrollmentReactiveRepositoryAdapter(IEnrollmentReactiveRepository repository, ObjectMapper mapper){
-        super(repository, mapper, d -> mapper.map(d, Enrollment.class));
+    public EnrollmentReactiveRepositoryAdapter(IEnrollmentReactiveRepository repository, IEnrollmentEntityMapper mapper, CacheProperties cacheProperties, DatabaseClient databaseClient, RowReaderProperties rowReaderProperties){
+        super(repository, mapper::toData, mapper::toDomain);
+        this.mapper = mapper;
+        this.countCache = new CountCache(repository::countAll, cacheProperties.countTtl());
+        this.databaseClient = databaseClient;
+        this.rowReaderProperties = rowReaderProperties;
     }
 
     /**
      * Saves a new enrollment to the database.
+     * <p>
+     * The insert is issued with {@code ON CONFLICT DO NOTHING} against the unique
+     * {@code (student_id, course_id, period_id)} index shipped in {@code deployment/database}, so
+     * duplicates are rejected atomically without reading first. Only when the insert returns no
+     * row is the existing enrollment looked up, and it is reported as a
+     * {@link DuplicateValueException} carrying its ID.
+     * </p>
      *
      * @param enrollment the enrollment to save.
      * @return a {@link Mono} emitting the saved enrollment.
      */
     @Override
     public Mono<Enrollment> saveEnrollment(Enrollment enrollment) {
-        return super.repository.save(toData(enrollment))
-                .map(this::toEntity);
+        return super.repository.insertIfAbsent(enrollment.getStudentId(), enrollment.getCourseId(), enrollment.getPeriodId())
+                .switchIfEmpty(Mono.defer(() -> existingEnrollment(enrollment)))
+                .map(this::toEntity)
+                .doOnSuccess(saved -> countCache.invalidate());
     }
 
     /**
      * Retrieves a paginated list of all enrollments.
+     * <p>
+     * With {@code adapters.persistence.row-readers.enabled} the rows are turned into enrollments
+     * by {@link EnrollmentRowReader}, skipping the intermediate {@link EnrollmentEntity}.
+     * </p>
      *
      * @param page the page number to retrieve.
      * @param size the number of enrollments per page.
@@ -64,32 +155,120 @@ public class EnrollmentReactiveRepositoryAdapter extends ReactiveAdapterOperatio
      */
     @Override
     public Flux<Enrollment> getAllEnrollments(int page, int size) {
-        return super.repository.findAllPaginated(page*size, size)
+        if (rowReaderProperties.enabled()) {
+            return databaseClient.sql(SELECT_PAGE)
+                    .bind("offset", PageOffsets.offset(page, size))
+                    .bind("limit", size)
+                    .map(EnrollmentRowReader::read)
+                    .all();
+        }
+        return super.repository.findAllPaginated(PageOffsets.offset(page, size), size)
+                .map(this::toEntity);
+    }
+
+    /**
+     * Retrieves the enrollments created after the given position, ordered by creation date and ID.
+     * <p>
+     * Read with {@link EnrollmentRowReader} when row readers are enabled, like {@link #getAllEnrollments(int, int)}.
+     * </p>
+     *
+     * @param createdAt the creation date of the last enrollment already returned.
+     * @param id        the ID of the last enrollment already returned.
+     * @param size      the number of enrollments to retrieve.
+     * @return a {@link Flux} emitting the next enrollments.
+     */
+    @Override
+    public Flux<Enrollment> getAllEnrollmentsAfter(LocalDateTime createdAt, UUID id, int size) {
+        if (rowReaderProperties.enabled()) {
+            return databaseClient.sql(SELECT_AFTER)
+                    .bind("createdAt", createdAt)
+                    .bind("id", id)
+                    .bind("limit", size)
+                    .map(EnrollmentRowReader::read)
+                    .all();
+        }
+        return super.repository.findAllAfter(createdAt, id, size)
                 .map(this::toEntity);
     }
 
     /**
      * Retrieves an enrollment by its ID.
+     * <p>
+     * Concurrent lookups of the same ID share a single query, see {@link #findById(Object)}.
+     * </p>
      *
      * @param id the ID of the enrollment to retrieve.
      * @return a {@link Mono} emitting the found enrollment, or empty if not found.
      */
     @Override
     public Mono<Enrollment> getEnrollmentById(UUID id) {
-        return super.repository.findById(id)
-                .map(this::toEntity);
+        return findById(id);
     }
 
     /**
-     * Retrieves an enrollment by its student ID.
+     * Retrieves a page of the enrollments of a student, optionally limited to one period.
+     * <p>
+     * Both variants are served by the {@code (student_id, ...)} indexes shipped in
+     * {@code deployment/database}, so the cost depends on the page and not on the history of the student.
+     * </p>
      *
-     * @param studentId the student ID of the enrollment to retrieve.
-     * @return a {@link Flux} emitting the found enrollment, or empty if not found.
+     * @param studentId the ID of the student.
+     * @param periodId  the ID of the period to filter by, or {@code null} for all periods.
+     * @param page      the page number to retrieve.
+     * @param size      the number of enrollments per page.
+     * @return a {@link Flux} emitting the enrollments of the page.
      */
     @Override
-    public Flux<Enrollment> getEnrollmentByStudentId(UUID studentId) {
-        return super.repository.findByStudentId(studentId)
-                .map(this::toEntity);
+    public Flux<Enrollment> getEnrollmentByStudentId(UUID studentId, UUID periodId, int page, int size) {
+        if (rowReaderProperties.enabled()) {
+            return byStudent(periodId == null ? SELECT_BY_STUDENT : SELECT_BY_STUDENT_AND_PERIOD, studentId, periodId, page, size)
+                    .map(EnrollmentRowReader::read)
+                    .all();
+        }
+        Flux<EnrollmentEntity> enrollments = periodId == null
+                ? super.repository.findByStudentIdPaginated(studentId, PageOffsets.offset(page, size), size)
+                : super.repository.findByStudentIdAndPeriodIdPaginated(studentId, periodId, PageOffsets.offset(page, size), size);
+        return enrollments.map(this::toEntity);
+    }
+
+    /**
+     * Retrieves a page of the enrollments of a student together with their course and period.
+     * <p>
+     * Course name and code and period name are joined in the same query, so a page costs a
+     * single round trip instead of one extra lookup per enrollment.
+     * </p>
+     *
+     * @param studentId the ID of the student.
+     * @param periodId  the ID of the period to filter by, or {@code null} for all periods.
+     * @param page      the page number to retrieve.
+     * @param size      the number of enrollments per page.
+     * @return a {@link Flux} emitting the enrollment details of the page.
+     */
+    @Override
+    public Flux<EnrollmentDetail> getEnrollmentDetailByStudentId(UUID studentId, UUID periodId, int page, int size) {
+        if (rowReaderProperties.enabled()) {
+            return byStudent(periodId == null ? SELECT_DETAIL_BY_STUDENT : SELECT_DETAIL_BY_STUDENT_AND_PERIOD, studentId, periodId, page, size)
+                    .map(EnrollmentDetailRowReader::read)
+                    .all();
+        }
+        Flux<EnrollmentDetailEntity> details = periodId == null
+                ? super.repository.findDetailByStudentIdPaginated(studentId, PageOffsets.offset(page, size), size)
+                : super.repository.findDetailByStudentIdAndPeriodIdPaginated(studentId, periodId, PageOffsets.offset(page, size), size);
+        return details.map(mapper::toDomain);
+    }
+
+    /**
+     * Counts the enrollments of a student, optionally limited to one period.
+     *
+     * @param studentId the ID of the student.
+     * @param periodId  the ID of the period to filter by, or {@code null} for all periods.
+     * @return a {@link Mono} emitting the number of matching enrollments.
+     */
+    @Override
+    public Mono<Long> countByStudentId(UUID studentId, UUID periodId) {
+        return periodId == null
+                ? super.repository.countByStudentId(studentId)
+                : super.repository.countByStudentIdAndPeriodId(studentId, periodId);
     }
 
     /**
@@ -99,6 +278,63 @@ public class EnrollmentReactiveRepositoryAdapter extends ReactiveAdapterOperatio
      */
     @Override
     public Mono<Long> countAll() {
-        return super.repository.count();
+        return super.repository.countAll();
+    }
+
+    /**
+     * Returns the number of enrollments, served from a short-lived cache.
+     *
+     * @return a {@link Mono} emitting the cached or freshly loaded count of enrollments.
+     */
+    @Override
+    public Mono<Long> countAllCached() {
+        return countCache.get();
+    }
+
+    /**
+     * Returns the planner estimate of the number of enrollments.
+     * <p>
+     * Falls back to an exact count when the table has not been analyzed yet.
+     * </p>
+     *
+     * @return a {@link Mono} emitting the estimated count of enrollments.
+     */
+    @Override
+    public Mono<Long> estimateCountAll() {
+        return super.repository.estimateCountAll()
+                .switchIfEmpty(Mono.defer(this::countAll));
+    }
+
+    /**
+     * Looks up the enrollment that made the insert conflict and reports it as a duplicate.
+     * <p>
+     * If that enrollment was deleted in the meantime, the duplicate is still reported, without an ID.
+     * </p>
+     *
+     * @param enrollment the enrollment that could not be inserted.
+     * @return a {@link Mono} always failing with a {@link DuplicateValueException}.
+     */
+    private Mono<EnrollmentEntity> existingEnrollment(Enrollment enrollment) {
+        return super.repository.findByStudentIdAndCourseIdAndPeriodId(enrollment.getStudentId(), enrollment.getCourseId(), enrollment.getPeriodId())
+                .flatMap(existing -> Mono.<EnrollmentEntity>error(new DuplicateValueException("enrollment", existing.getId())))
+                .switchIfEmpty(Mono.error(() -> new DuplicateValueException("enrollment", (UUID) null)));
+    }
+
+    /**
+     * Prepares one of the per-student listings for a row reader.
+     *
+     * @param sql       the listing to run, with or without the period filter.
+     * @param studentId the ID of the student.
+     * @param periodId  the ID of the period, bound only when not {@code null}.
+     * @param page      the page number to retrieve.
+     * @param size      the number of rows per page.
+     * @return the statement with all its parameters bound.
+     */
+    private DatabaseClient.GenericExecuteSpec byStudent(String sql, UUID studentId, UUID periodId, int page, int size) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("studentId", studentId)
+                .bind("offset", PageOffsets.offset(page, size))
+                .bind("limit", size);
+        return periodId == null ? spec : spec.bind("periodId", periodId);
     }
 }
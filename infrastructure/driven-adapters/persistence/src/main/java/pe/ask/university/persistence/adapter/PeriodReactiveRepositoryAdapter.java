@@ -1,10 +1,10 @@
 package pe.ask.university.persistence.adapter;
 
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import pe.ask.university.model.period.Period;
 import pe.ask.university.persistence.entity.PeriodEntity;
 import pe.ask.university.persistence.helper.ReactiveAdapterOperations;
+import pe.ask.university.persistence.mapper.IPeriodEntityMapper;
 import pe.ask.university.persistence.repository.IPeriodReactiveRepository;
 import pe.ask.university.port.out.persistence.IPeriodRepository;
 import reactor.core.publisher.Mono;
@@ -36,10 +36,10 @@ public class PeriodReactiveRepositoryAdapter extends ReactiveAdapterOperations<
      * Constructs a new {@code PeriodReactiveRepositoryAdapter}.
      *
      * @param repository the reactive repository for period entities.
-     * @param mapper     the object mapper for converting between domain and entity objects.
+     * @param mapper     the generated mapper converting between domain and entity objects.
      */
-    public PeriodReactiveRepositoryAdapter(IPeriodReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, Period.class));
+    public PeriodReactiveRepositoryAdapter(IPeriodReactiveRepository repository, IPeriodEntityMapper mapper) {
+        super(repository, mapper::toData, mapper::toDomain);
     }
 
     /**
@@ -68,13 +68,15 @@ public class PeriodReactiveRepositoryAdapter extends ReactiveAdapterOperations<
 
     /**
      * Retrieves a period by its ID.
+     * <p>
+     * Concurrent lookups of the same ID share a single query, see {@link #findById(Object)}.
+     * </p>
      *
      * @param id the ID of the period to retrieve.
      * @return a {@link Mono} emitting the found period, or empty if not found.
      */
     @Override
     public Mono<Period> getPeriodById(UUID id) {
-        return super.repository.findById(id)
-                .map(this::toEntity);
+        return findById(id);
     }
 }
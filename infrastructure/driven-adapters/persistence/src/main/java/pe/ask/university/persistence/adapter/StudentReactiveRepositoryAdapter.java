@@ -1,16 +1,31 @@
 package pe.ask.university.persistence.adapter;
 
-import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Repository;
 import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.exception.DuplicateValueException;
+import pe.ask.university.persistence.config.CacheProperties;
+import pe.ask.university.persistence.config.RowReaderProperties;
 import pe.ask.university.persistence.entity.StudentEntity;
+import pe.ask.university.persistence.helper.CountCache;
+import pe.ask.university.persistence.helper.PageOffsets;
 import pe.ask.university.persistence.helper.ReactiveAdapterOperations;
+import pe.ask.university.persistence.helper.SearchPatterns;
+import pe.ask.university.persistence.mapper.IStudentEntityMapper;
+import pe.ask.university.persistence.reader.StudentRowReader;
+import pe.ask.university.persistence.helper.UniqueConstraintViolations;
 import pe.ask.university.persistence.repository.IStudentReactiveRepository;
 import pe.ask.university.port.out.persistence.IStudentRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /**
  * Adapter class that implements the {@link IStudentRepository} port, providing a concrete
@@ -33,18 +48,90 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
         IStudentReactiveRepository
         > implements IStudentRepository {
 
+    private static final String BATCH_INSERT = """
+            INSERT INTO student (name, surname, dni, email, phone, address, birthdate)
+            SELECT * FROM unnest(
+                :name::text[], :surname::text[], :dni::text[], :email::text[],
+                :phone::text[], :address::text[], :birthdate::date[]
+            )
+            ON CONFLICT DO NOTHING
+            RETURNING *
+    """;
+
+    private static final String SELECT_PAGE = """
+            SELECT %s FROM student
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(StudentRowReader.COLUMNS);
+
+    private static final String SELECT_AFTER = """
+            SELECT %s FROM student
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+    """.formatted(StudentRowReader.COLUMNS);
+
+    private static final String SELECT_SUMMARY_PAGE = """
+            SELECT %s FROM student
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(StudentRowReader.SUMMARY_COLUMNS);
+
+    private static final String SELECT_SUMMARY_AFTER = """
+            SELECT %s FROM student
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+    """.formatted(StudentRowReader.SUMMARY_COLUMNS);
+
+    private static final String SEARCH_TEXT = "lower(coalesce(name, '') || ' ' || coalesce(surname, '') || ' ' || split_part(coalesce(email, ''), '@', 1))";
+
+    private static final int SEARCH_CANDIDATES = 1_000;
+
+    private static final String SEARCH = """
+            SELECT %s FROM (
+                SELECT %s FROM student
+                WHERE %s LIKE :pattern
+                OR :query <%% %s
+                ORDER BY %s <->> :query
+                LIMIT %d
+            ) candidates
+            ORDER BY (lower(name) LIKE :prefix OR lower(surname) LIKE :prefix OR lower(split_part(email, '@', 1)) LIKE :prefix) DESC,
+                     word_similarity(:query, %s) DESC,
+                     id
+            OFFSET :offset
+            LIMIT :limit
+    """.formatted(StudentRowReader.COLUMNS, StudentRowReader.COLUMNS, SEARCH_TEXT, SEARCH_TEXT, SEARCH_TEXT, SEARCH_CANDIDATES, SEARCH_TEXT);
+
+    private final CountCache countCache;
+    private final R2dbcEntityTemplate template;
+    private final RowReaderProperties rowReaderProperties;
+
     /**
      * Constructs a new {@code StudentReactiveRepositoryAdapter}.
      *
      * @param repository the reactive repository for student entities.
-     * @param mapper     the object mapper for converting between domain and entity objects.
+     * @param mapper     the generated mapper converting between domain and entity objects.
+     * @param cacheProperties the cache settings, used for the TTL of the cached count.
+     * @param template   the entity template used for batched inserts and row-read listings.
+     * @param rowReaderProperties decides whether listings are read with {@link StudentRowReader}.
      */
-    public StudentReactiveRepositoryAdapter(IStudentReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, Student.class));
+    public StudentReactiveRepositoryAdapter(IStudentReactiveRepository repository, IStudentEntityMapper mapper, CacheProperties cacheProperties, R2dbcEntityTemplate template, RowReaderProperties rowReaderProperties) {
+        super(repository, mapper::toData, mapper::toDomain);
+        this.template = template;
+        this.rowReaderProperties = rowReaderProperties;
+        this.countCache = new CountCache(repository::countAll, cacheProperties.countTtl());
     }
 
     /**
      * Saves a new student to the database.
+     * <p>
+     * The insert is issued directly and uniqueness of email and DNI is enforced by the
+     * database constraints, so the check and the write happen atomically in one round trip.
+     * A violation is reported as a {@link DuplicateValueException} naming the conflicting field.
+     * </p>
      *
      * @param student the student to save.
      * @return a {@link Mono} emitting the saved student.
@@ -52,11 +139,65 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     @Override
     public Mono<Student> saveStudent(Student student) {
         return super.repository.save(toData(student))
-                .map(this::toEntity);
+                .map(this::toEntity)
+                .onErrorMap(this::translateUniqueViolation)
+                .doOnSuccess(saved -> countCache.invalidate());
+    }
+
+    /**
+     * Saves a batch of new students.
+     * <p>
+     * Delegates to {@link #saveAllEntities(Flux)}, which goes through the batched
+     * {@link #saveData(Flux)} below. Students with an email or DNI that is already taken are
+     * skipped and not emitted.
+     * </p>
+     *
+     * @param students the students to save.
+     * @return a {@link Flux} emitting the inserted students.
+     */
+    @Override
+    public Flux<Student> saveAllStudents(Flux<Student> students) {
+        return saveAllEntities(students)
+                .doOnComplete(countCache::invalidate);
+    }
+
+    /**
+     * Inserts all given entities with a single statement.
+     * <p>
+     * The columns are sent as seven arrays and expanded server side with {@code unnest}, so a
+     * batch costs one round trip and one prepared statement regardless of its size.
+     * {@code ON CONFLICT DO NOTHING} skips rows that violate the email or DNI constraints, and
+     * {@code RETURNING} hands back the inserted rows with their generated IDs. The whole flux
+     * is collected first, so callers are expected to pass bounded batches.
+     * </p>
+     *
+     * @param data the entities to insert.
+     * @return a {@link Flux} emitting the inserted entities.
+     */
+    @Override
+    protected Flux<StudentEntity> saveData(Flux<StudentEntity> data) {
+        return data.collectList()
+                .filter(batch -> !batch.isEmpty())
+                .flatMapMany(batch -> template.getDatabaseClient()
+                        .sql(BATCH_INSERT)
+                        .bind("name", column(batch, StudentEntity::getName, String[]::new))
+                        .bind("surname", column(batch, StudentEntity::getSurname, String[]::new))
+                        .bind("dni", column(batch, StudentEntity::getDni, String[]::new))
+                        .bind("email", column(batch, StudentEntity::getEmail, String[]::new))
+                        .bind("phone", column(batch, StudentEntity::getPhone, String[]::new))
+                        .bind("address", column(batch, StudentEntity::getAddress, String[]::new))
+                        .bind("birthdate", column(batch, StudentEntity::getBirthdate, LocalDate[]::new))
+                        .map((row, metadata) -> template.getConverter().read(StudentEntity.class, row, metadata))
+                        .all()
+                );
     }
 
     /**
      * Retrieves a paginated list of all students.
+     * <p>
+     * With {@code adapters.persistence.row-readers.enabled} the rows are turned into students by
+     * {@link StudentRowReader}, skipping the intermediate {@link StudentEntity}.
+     * </p>
      *
      * @param page the page number to retrieve.
      * @param size the number of students per page.
@@ -64,10 +205,118 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
      */
     @Override
     public Flux<Student> getAllStudents(int page, int size) {
-        return super.repository.findAllPaginated(page * size, size)
+        if (rowReaderProperties.enabled()) {
+            return template.getDatabaseClient()
+                    .sql(SELECT_PAGE)
+                    .bind("offset", PageOffsets.offset(page, size))
+                    .bind("limit", size)
+                    .map(StudentRowReader::read)
+                    .all();
+        }
+        return super.repository.findAllPaginated(PageOffsets.offset(page, size), size)
+                .map(this::toEntity);
+    }
+
+    /**
+     * Retrieves the students created after the given position, ordered by creation date and ID.
+     * <p>
+     * Read with {@link StudentRowReader} when row readers are enabled, like {@link #getAllStudents(int, int)}.
+     * </p>
+     *
+     * @param createdAt the creation date of the last student already returned.
+     * @param id        the ID of the last student already returned.
+     * @param size      the number of students to retrieve.
+     * @return a {@link Flux} emitting the next students.
+     */
+    @Override
+    public Flux<Student> getAllStudentsAfter(LocalDateTime createdAt, UUID id, int size) {
+        if (rowReaderProperties.enabled()) {
+            return template.getDatabaseClient()
+                    .sql(SELECT_AFTER)
+                    .bind("createdAt", createdAt)
+                    .bind("id", id)
+                    .bind("limit", size)
+                    .map(StudentRowReader::read)
+                    .all();
+        }
+        return super.repository.findAllAfter(createdAt, id, size)
                 .map(this::toEntity);
     }
 
+    /**
+     * Retrieves a page of students with only the summary columns.
+     * <p>
+     * The query reads the columns of {@link StudentRowReader#SUMMARY_COLUMNS}, all held by the
+     * covering listing index shipped in {@code deployment/database}, so PostgreSQL can answer
+     * it with an index-only scan. Always read with {@link StudentRowReader}.
+     * </p>
+     *
+     * @param page the page number to retrieve.
+     * @param size the number of students per page.
+     * @return a {@link Flux} emitting the partially filled students of the page.
+     */
+    @Override
+    public Flux<Student> getAllStudentSummaries(int page, int size) {
+        return template.getDatabaseClient()
+                .sql(SELECT_SUMMARY_PAGE)
+                .bind("offset", PageOffsets.offset(page, size))
+                .bind("limit", size)
+                .map(StudentRowReader::readSummary)
+                .all();
+    }
+
+    /**
+     * Retrieves the students after the given position with only the summary columns.
+     *
+     * @param createdAt the creation date of the last student already returned.
+     * @param id        the ID of the last student already returned.
+     * @param size      the number of students to retrieve.
+     * @return a {@link Flux} emitting the next partially filled students.
+     */
+    @Override
+    public Flux<Student> getAllStudentSummariesAfter(LocalDateTime createdAt, UUID id, int size) {
+        return template.getDatabaseClient()
+                .sql(SELECT_SUMMARY_AFTER)
+                .bind("createdAt", createdAt)
+                .bind("id", id)
+                .bind("limit", size)
+                .map(StudentRowReader::readSummary)
+                .all();
+    }
+
+    /**
+     * Searches students by text over their name, surname and the local part of their email.
+     * <p>
+     * A row matches when the lower-cased concatenation of those values contains the query, or
+     * when the query is word-similar to it ({@code <%}). Both conditions are served by the
+     * {@code pg_trgm} GiST index on that same expression shipped in {@code deployment/database}.
+     * The email domain is left out, since text such as {@code gmail} or {@code .edu} would match
+     * almost every row. Candidates are the {@value #SEARCH_CANDIDATES} matching rows with the
+     * smallest word-similarity distance ({@code <->>}) to the query, which the GiST index returns
+     * in order without reading every match, so a broad query never ranks the whole table; that
+     * cap covers the deepest page the use case allows. Among those candidates, prefix matches on
+     * any single value rank first, then rows are ordered by {@code word_similarity} and finally
+     * by ID. Rows are read with {@link StudentRowReader}.
+     * </p>
+     *
+     * @param query the normalized, lower-case search text.
+     * @param page  the page number to retrieve.
+     * @param size  the number of students per page.
+     * @return a {@link Flux} emitting the matching students, best match first.
+     */
+    @Override
+    public Flux<Student> searchStudents(String query, int page, int size) {
+        return template.getDatabaseClient()
+                .sql(SEARCH)
+                .bind("query", query)
+                .bind("pattern", SearchPatterns.contains(query))
+                .bind("prefix", SearchPatterns.prefix(query))
+                .bind("offset", PageOffsets.offset(page, size))
+                .bind("limit", size)
+                .map(StudentRowReader::read)
+                .all();
+    }
+
     /**
      * Retrieves a student by their name.
      *
@@ -82,13 +331,30 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
 
     /**
      * Retrieves a student by their ID.
+     * <p>
+     * Concurrent lookups of the same ID share a single query, see {@link #findById(Object)}.
+     * </p>
      *
      * @param id the ID of the student to retrieve.
      * @return a {@link Mono} emitting the found student, or empty if not found.
      */
     @Override
     public Mono<Student> getStudentById(UUID id) {
-        return super.repository.findById(id)
+        return findById(id);
+    }
+
+    /**
+     * Retrieves the students matching any of the given IDs.
+     * <p>
+     * Delegates to {@code findAllById}, which resolves all IDs with a single query.
+     * </p>
+     *
+     * @param ids the IDs of the students to retrieve.
+     * @return a {@link Flux} emitting the students found.
+     */
+    @Override
+    public Flux<Student> getStudentsByIds(Collection<UUID> ids) {
+        return super.repository.findAllById(ids)
                 .map(this::toEntity);
     }
 
@@ -118,9 +384,14 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
 
     /**
      * Updates an existing student in the database.
+     * <p>
+     * The update returns the stored row, so a missing student yields an empty result without
+     * a prior lookup. Email and DNI conflicts are reported as a {@link DuplicateValueException}.
+     * </p>
      *
+     * @param id      the ID of the student to update.
      * @param student the student with updated information to save.
-     * @return a {@link Mono} emitting the updated student.
+     * @return a {@link Mono} emitting the updated student, or empty if no student has the given ID.
      */
     @Override
     public Mono<Student> updateStudent(UUID id, Student student) {
@@ -133,7 +404,9 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 student.getAddress(),
                 student.getBirthdate(),
                 id
-        ).thenReturn(student);
+        )
+                .map(this::toEntity)
+                .onErrorMap(this::translateUniqueViolation);
     }
 
     /**
@@ -143,6 +416,61 @@ public class StudentReactiveRepositoryAdapter extends ReactiveAdapterOperations<
      */
     @Override
     public Mono<Long> countAll() {
-        return super.repository.count();
+        return super.repository.countAll();
+    }
+
+    /**
+     * Returns the number of students, served from a short-lived cache.
+     *
+     * @return a {@link Mono} emitting the cached or freshly loaded count of students.
+     */
+    @Override
+    public Mono<Long> countAllCached() {
+        return countCache.get();
+    }
+
+    /**
+     * Returns the planner estimate of the number of students.
+     * <p>
+     * Falls back to an exact count when the table has not been analyzed yet.
+     * </p>
+     *
+     * @return a {@link Mono} emitting the estimated count of students.
+     */
+    @Override
+    public Mono<Long> estimateCountAll() {
+        return super.repository.estimateCountAll()
+                .switchIfEmpty(Mono.defer(this::countAll));
+    }
+
+    /**
+     * Converts a unique constraint violation into a {@link DuplicateValueException}.
+     * <p>
+     * The conflicting field is derived from the constraint name, so it works with both the
+     * indexes shipped in {@code deployment/database} and inline {@code UNIQUE} column constraints.
+     * Any other error is returned unchanged.
+     * </p>
+     *
+     * @param error the error raised by the database call.
+     * @return the translated error.
+     */
+    private Throwable translateUniqueViolation(Throwable error) {
+        return UniqueConstraintViolations.constraintName(error)
+                .<Throwable>map(constraint -> new DuplicateValueException(conflictingField(constraint), error))
+                .orElse(error);
+    }
+
+    private String conflictingField(String constraint) {
+        if (constraint.contains("email")) {
+            return "email";
+        }
+        if (constraint.contains("dni")) {
+            return "dni";
+        }
+        return null;
+    }
+
+    private static <T> T[] column(List<StudentEntity> batch, Function<StudentEntity, T> getter, IntFunction<T[]> generator) {
+        return batch.stream().map(getter).toArray(generator);
     }
 }
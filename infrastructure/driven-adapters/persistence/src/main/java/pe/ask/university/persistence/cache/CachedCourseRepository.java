@@ -0,0 +1,239 @@
+package pe.ask.university.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.persistence.adapter.CourseReactiveRepositoryAdapter;
+import pe.ask.university.persistence.config.CacheProperties;
+import pe.ask.university.persistence.helper.NegativeCache;
+import pe.ask.university.port.out.persistence.ICourseRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded near-cache in front of {@link CourseReactiveRepositoryAdapter}.
+ * <p>
+ * Courses looked up by ID or by name are kept in two Caffeine caches limited by
+ * {@code adapters.persistence.cache.course-maximum-size} entries and expired
+ * {@code course-expire-after-write} after being loaded. Saving a course evicts the entries
+ * for its ID and name. Listing and counting are passed through unchanged.
+ * </p>
+ * <p>
+ * Names that were not found are remembered for {@code negative-ttl}, since the name lookup is
+ * mostly used to probe whether a course exists. Saving a course forgets its name.
+ * </p>
+ * <p>
+ * Hit, miss and eviction counters of both caches are published through Micrometer under the
+ * {@code cache} prefix, tagged {@code cache=course.by_id}, {@code cache=course.by_name} and
+ * {@code cache=course.missing_name}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Primary
+@Repository
+public class CachedCourseRepository implements ICourseRepository {
+
+    private final CourseReactiveRepositoryAdapter delegate;
+    private final Cache<UUID, Course> byId;
+    private final Cache<String, Course> byName;
+    private final NegativeCache<String> missingNames;
+
+    /**
+     * Constructs a new {@code CachedCourseRepository}.
+     *
+     * @param delegate        the adapter that reads and writes courses in the database.
+     * @param cacheProperties the cache settings, used for size and expiration.
+     * @param meterRegistry   the registry the cache statistics are published to.
+     */
+    public CachedCourseRepository(CourseReactiveRepositoryAdapter delegate, CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byId = newCache(cacheProperties);
+        this.byName = newCache(cacheProperties);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "course.by_id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byName, "course.by_name");
+        this.missingNames = new NegativeCache<>("course.missing_name", cacheProperties.negativeMaximumSize(), cacheProperties.negativeTtl(), meterRegistry);
+    }
+
+    /**
+     * Saves a new course, evicts any cached entry for its ID or name and forgets a recorded miss for its name.
+     *
+     * @param course the course to save.
+     * @return a {@link Mono} emitting the saved course.
+     */
+    @Override
+    public Mono<Course> saveCourse(Course course) {
+        return delegate.saveCourse(course)
+                .doOnNext(this::evict);
+    }
+
+    /**
+     * Retrieves a page of courses. Listings are not cached.
+     *
+     * @param page the page number to retrieve.
+     * @param size the number of courses per page.
+     * @return a {@link Flux} emitting the courses for the specified page.
+     */
+    @Override
+    public Flux<Course> getAllCourses(int page, int size) {
+        return delegate.getAllCourses(page, size);
+    }
+
+    /**
+     * Retrieves the courses after the given position. Listings are not cached.
+     *
+     * @param createdAt the creation date of the last course already returned.
+     * @param id        the ID of the last course already returned.
+     * @param size      the number of courses to retrieve.
+     * @return a {@link Flux} emitting the next courses.
+     */
+    @Override
+    public Flux<Course> getAllCoursesAfter(LocalDateTime createdAt, UUID id, int size) {
+        return delegate.getAllCoursesAfter(createdAt, id, size);
+    }
+
+    /**
+     * Retrieves a page of courses with only the summary columns. Listings are not cached.
+     *
+     * @param page the page number to retrieve.
+     * @param size the number of courses per page.
+     * @return a {@link Flux} emitting the partially filled courses of the page.
+     */
+    @Override
+    public Flux<Course> getAllCourseSummaries(int page, int size) {
+        return delegate.getAllCourseSummaries(page, size);
+    }
+
+    /**
+     * Retrieves the courses after the given position with only the summary columns. Listings are not cached.
+     *
+     * @param createdAt the creation date of the last course already returned.
+     * @param id        the ID of the last course already returned.
+     * @param size      the number of courses to retrieve.
+     * @return a {@link Flux} emitting the next partially filled courses.
+     */
+    @Override
+    public Flux<Course> getAllCourseSummariesAfter(LocalDateTime createdAt, UUID id, int size) {
+        return delegate.getAllCourseSummariesAfter(createdAt, id, size);
+    }
+
+    /**
+     * Searches courses by text. Searches are not cached.
+     *
+     * @param query the normalized, lower-case search text.
+     * @param page  the page number to retrieve.
+     * @param size  the number of courses per page.
+     * @return a {@link Flux} emitting the matching courses, best match first.
+     */
+    @Override
+    public Flux<Course> searchCourses(String query, int page, int size) {
+        return delegate.searchCourses(query, page, size);
+    }
+
+    /**
+     * Retrieves a course by its name, from the cache when possible.
+     * <p>
+     * Names recently found missing are answered from memory.
+     * </p>
+     *
+     * @param name the name of the course to retrieve.
+     * @return a {@link Mono} emitting the found course, or empty if not found.
+     */
+    @Override
+    public Mono<Course> getCourseByName(String name) {
+        Course cached = byName.getIfPresent(name);
+        if (cached != null) {
+            return Mono.just(copy(cached));
+        }
+        return missingNames.lookup(name, delegate::getCourseByName)
+                .doOnNext(this::store)
+                .map(this::copy);
+    }
+
+    /**
+     * Retrieves a course by its ID, from the cache when possible.
+     *
+     * @param id the ID of the course to retrieve.
+     * @return a {@link Mono} emitting the found course, or empty if not found.
+     */
+    @Override
+    public Mono<Course> getCourseById(UUID id) {
+        Course cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Mono.just(copy(cached));
+        }
+        return delegate.getCourseById(id)
+                .doOnNext(this::store)
+                .map(this::copy);
+    }
+
+    /**
+     * Retrieves the courses matching any of the given IDs.
+     * <p>
+     * Cached courses are served from memory and only the remaining IDs are sent to the
+     * database, in a single query. The courses loaded that way are added to the cache.
+     * </p>
+     *
+     * @param ids the IDs of the courses to retrieve.
+     * @return a {@link Flux} emitting the courses found.
+     */
+    @Override
+    public Flux<Course> getCoursesByIds(Collection<UUID> ids) {
+        Map<UUID, Course> cached = byId.getAllPresent(ids);
+        List<UUID> missing = ids.stream()
+                .filter(id -> !cached.containsKey(id))
+                .toList();
+        Flux<Course> hits = Flux.fromIterable(cached.values()).map(this::copy);
+        if (missing.isEmpty()) {
+            return hits;
+        }
+        return hits.concatWith(delegate.getCoursesByIds(missing)
+                .doOnNext(this::store)
+                .map(this::copy));
+    }
+
+    /**
+     * Counts the total number of courses. Counts are not cached.
+     *
+     * @return a {@link Mono} emitting the total count of courses.
+     */
+    @Override
+    public Mono<Long> countAll() {
+        return delegate.countAll();
+    }
+
+    private void store(Course course) {
+        Course frozen = copy(course);
+        byId.put(frozen.getId(), frozen);
+        byName.put(frozen.getName(), frozen);
+    }
+
+    private void evict(Course course) {
+        byId.invalidate(course.getId());
+        byName.invalidate(course.getName());
+        missingNames.invalidate(course.getName());
+    }
+
+    private Course copy(Course course) {
+        return course.toBuilder().build();
+    }
+
+    private static <K> Cache<K, Course> newCache(CacheProperties cacheProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(cacheProperties.courseMaximumSize())
+                .expireAfterWrite(cacheProperties.courseExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+}
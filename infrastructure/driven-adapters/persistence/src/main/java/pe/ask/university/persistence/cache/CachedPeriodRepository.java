@@ -0,0 +1,188 @@
+package pe.ask.university.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import pe.ask.university.model.period.Period;
+import pe.ask.university.persistence.adapter.PeriodReactiveRepositoryAdapter;
+import pe.ask.university.persistence.config.CacheProperties;
+import pe.ask.university.port.out.persistence.IPeriodRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fully materialized, read-through cache in front of {@link PeriodReactiveRepositoryAdapter}.
+ * <p>
+ * The period table holds a handful of rows that almost never change, so the whole table is
+ * kept in memory as an immutable {@link Snapshot} indexed by ID and by name. Lookups read the
+ * current snapshot without touching the database. A miss falls through to the adapter and the
+ * result is merged into a new snapshot, as is every saved period. The snapshot is also rebuilt
+ * from the database every {@code adapters.persistence.cache.period-refresh-interval} to pick
+ * up changes made outside this instance. A failed refresh is logged at {@code WARN} and the
+ * previous snapshot is kept until the next one.
+ * </p>
+ * <p>
+ * Snapshots are replaced atomically and never mutated, so readers need no locking. Callers
+ * receive copies of the cached periods, so mutating a returned period cannot corrupt the cache.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Primary
+@Repository
+public class CachedPeriodRepository implements IPeriodRepository, InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachedPeriodRepository.class);
+
+    private final PeriodReactiveRepositoryAdapter delegate;
+    private final Duration refreshInterval;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private Disposable refresher;
+
+    /**
+     * Constructs a new {@code CachedPeriodRepository}.
+     *
+     * @param delegate        the adapter that reads and writes periods in the database.
+     * @param cacheProperties the cache settings, used for the refresh interval.
+     */
+    public CachedPeriodRepository(PeriodReactiveRepositoryAdapter delegate, CacheProperties cacheProperties) {
+        this.delegate = delegate;
+        this.refreshInterval = cacheProperties.periodRefreshInterval();
+    }
+
+    /**
+     * Starts the periodic refresh. The first load runs immediately.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> refresh().onErrorResume(ex -> {
+                    LOG.warn("Refreshing the period cache failed; keeping the previous snapshot", ex);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    /**
+     * Stops the periodic refresh.
+     */
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Saves a new period and publishes it in the snapshot.
+     *
+     * @param period the period to save.
+     * @return a {@link Mono} emitting the saved period.
+     */
+    @Override
+    public Mono<Period> savePeriod(Period period) {
+        return delegate.savePeriod(period)
+                .doOnNext(this::publish)
+                .map(this::copy);
+    }
+
+    /**
+     * Retrieves a period by its name, from memory when possible.
+     *
+     * @param name the name of the period to retrieve.
+     * @return a {@link Mono} emitting the found period, or empty if not found.
+     */
+    @Override
+    public Mono<Period> getPeriodByName(String name) {
+        Period cached = snapshot.get().byName().get(name);
+        if (cached != null) {
+            return Mono.just(copy(cached));
+        }
+        return delegate.getPeriodByName(name)
+                .doOnNext(this::publish)
+                .map(this::copy);
+    }
+
+    /**
+     * Retrieves a period by its ID, from memory when possible.
+     *
+     * @param id the ID of the period to retrieve.
+     * @return a {@link Mono} emitting the found period, or empty if not found.
+     */
+    @Override
+    public Mono<Period> getPeriodById(UUID id) {
+        Period cached = snapshot.get().byId().get(id);
+        if (cached != null) {
+            return Mono.just(copy(cached));
+        }
+        return delegate.getPeriodById(id)
+                .doOnNext(this::publish)
+                .map(this::copy);
+    }
+
+    /**
+     * Reloads the whole table and swaps it in as the new snapshot.
+     *
+     * @return a {@link Mono} completing once the new snapshot is published.
+     */
+    Mono<Void> refresh() {
+        return delegate.findAll()
+                .collectList()
+                .doOnNext(periods -> snapshot.set(Snapshot.of(periods)))
+                .then();
+    }
+
+    private void publish(Period period) {
+        Period frozen = copy(period);
+        snapshot.updateAndGet(current -> current.with(frozen));
+    }
+
+    private Period copy(Period period) {
+        return period.toBuilder().build();
+    }
+
+    /**
+     * Immutable view of the period table.
+     *
+     * @param byId   the periods indexed by ID.
+     * @param byName the periods indexed by name.
+     */
+    private record Snapshot(Map<UUID, Period> byId, Map<String, Period> byName) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        static Snapshot of(List<Period> periods) {
+            Map<UUID, Period> byId = new HashMap<>();
+            Map<String, Period> byName = new HashMap<>();
+            for (Period period : periods) {
+                byId.put(period.getId(), period);
+                byName.put(period.getName(), period);
+            }
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byName));
+        }
+
+        Snapshot with(Period period) {
+            Map<UUID, Period> nextById = new HashMap<>(byId);
+            Map<String, Period> nextByName = new HashMap<>(byName);
+            Period previous = nextById.put(period.getId(), period);
+            if (previous != null && !Objects.equals(previous.getName(), period.getName())) {
+                nextByName.remove(previous.getName());
+            }
+            nextByName.put(period.getName(), period);
+            return new Snapshot(Map.copyOf(nextById), Map.copyOf(nextByName));
+        }
+    }
+}
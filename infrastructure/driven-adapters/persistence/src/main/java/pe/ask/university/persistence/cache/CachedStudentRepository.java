@@ -0,0 +1,245 @@
+package pe.ask.university.persistence.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.persistence.adapter.StudentReactiveRepositoryAdapter;
+import pe.ask.university.persistence.config.CacheProperties;
+import pe.ask.university.persistence.helper.NegativeCache;
+import pe.ask.university.port.out.persistence.IStudentRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Negative cache in front of {@link StudentReactiveRepositoryAdapter}.
+ * <p>
+ * Lookups by email and DNI are used as existence probes while a student fills in a form, and
+ * most of them find nothing. Those misses are remembered for
+ * {@code adapters.persistence.cache.negative-ttl}, so repeating a probe does not reach the
+ * database. Every write that stores a student evicts its email and DNI. Found students are not
+ * cached and every other operation is passed through unchanged.
+ * </p>
+ * <p>
+ * Hit and miss counters are published through Micrometer under the {@code cache} prefix,
+ * tagged {@code cache=student.missing_email} and {@code cache=student.missing_dni}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Primary
+@Repository
+public class CachedStudentRepository implements IStudentRepository {
+
+    private final StudentReactiveRepositoryAdapter delegate;
+    private final NegativeCache<String> missingEmails;
+    private final NegativeCache<String> missingDnis;
+
+    /**
+     * Constructs a new {@code CachedStudentRepository}.
+     *
+     * @param delegate        the adapter that reads and writes students in the database.
+     * @param cacheProperties the cache settings, used for size and expiration.
+     * @param meterRegistry   the registry the cache statistics are published to.
+     */
+    public CachedStudentRepository(StudentReactiveRepositoryAdapter delegate, CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.missingEmails = new NegativeCache<>("student.missing_email", cacheProperties.negativeMaximumSize(), cacheProperties.negativeTtl(), meterRegistry);
+        this.missingDnis = new NegativeCache<>("student.missing_dni", cacheProperties.negativeMaximumSize(), cacheProperties.negativeTtl(), meterRegistry);
+    }
+
+    /**
+     * Saves a new student and forgets any recorded miss for its email or DNI.
+     *
+     * @param student the student to save.
+     * @return a {@link Mono} emitting the saved student.
+     */
+    @Override
+    public Mono<Student> saveStudent(Student student) {
+        return delegate.saveStudent(student)
+                .doOnNext(this::evict);
+    }
+
+    /**
+     * Saves a batch of new students and forgets any recorded miss for their emails or DNIs.
+     *
+     * @param students the students to save.
+     * @return a {@link Flux} emitting the inserted students.
+     */
+    @Override
+    public Flux<Student> saveAllStudents(Flux<Student> students) {
+        return delegate.saveAllStudents(students)
+                .doOnNext(this::evict);
+    }
+
+    /**
+     * Retrieves a paginated list of all students.
+     *
+     * @param page the page number to retrieve.
+     * @param size the number of students per page.
+     * @return a {@link Flux} emitting the students for the specified page.
+     */
+    @Override
+    public Flux<Student> getAllStudents(int page, int size) {
+        return delegate.getAllStudents(page, size);
+    }
+
+    /**
+     * Retrieves the students after the given position.
+     *
+     * @param createdAt the creation date of the last student already returned.
+     * @param id        the ID of the last student already returned.
+     * @param size      the number of students to retrieve.
+     * @return a {@link Flux} emitting the next students.
+     */
+    @Override
+    public Flux<Student> getAllStudentsAfter(LocalDateTime createdAt, UUID id, int size) {
+        return delegate.getAllStudentsAfter(createdAt, id, size);
+    }
+
+    /**
+     * Retrieves a page of students with only the summary columns. Listings are not cached.
+     *
+     * @param page the page number to retrieve.
+     * @param size the number of students per page.
+     * @return a {@link Flux} emitting the partially filled students of the page.
+     */
+    @Override
+    public Flux<Student> getAllStudentSummaries(int page, int size) {
+        return delegate.getAllStudentSummaries(page, size);
+    }
+
+    /**
+     * Retrieves the students after the given position with only the summary columns. Listings are not cached.
+     *
+     * @param createdAt the creation date of the last student already returned.
+     * @param id        the ID of the last student already returned.
+     * @param size      the number of students to retrieve.
+     * @return a {@link Flux} emitting the next partially filled students.
+     */
+    @Override
+    public Flux<Student> getAllStudentSummariesAfter(LocalDateTime createdAt, UUID id, int size) {
+        return delegate.getAllStudentSummariesAfter(createdAt, id, size);
+    }
+
+    /**
+     * Searches students by text. Searches are not cached.
+     *
+     * @param query the normalized, lower-case search text.
+     * @param page  the page number to retrieve.
+     * @param size  the number of students per page.
+     * @return a {@link Flux} emitting the matching students, best match first.
+     */
+    @Override
+    public Flux<Student> searchStudents(String query, int page, int size) {
+        return delegate.searchStudents(query, page, size);
+    }
+
+    /**
+     * Retrieves a student by their name.
+     *
+     * @param name the name of the student to retrieve.
+     * @return a {@link Mono} emitting the found student, or empty if not found.
+     */
+    @Override
+    public Mono<Student> getStudentByName(String name) {
+        return delegate.getStudentByName(name);
+    }
+
+    /**
+     * Retrieves a student by their ID.
+     *
+     * @param id the ID of the student to retrieve.
+     * @return a {@link Mono} emitting the found student, or empty if not found.
+     */
+    @Override
+    public Mono<Student> getStudentById(UUID id) {
+        return delegate.getStudentById(id);
+    }
+
+    /**
+     * Retrieves the students matching any of the given IDs.
+     *
+     * @param ids the IDs of the students to retrieve.
+     * @return a {@link Flux} emitting the students found.
+     */
+    @Override
+    public Flux<Student> getStudentsByIds(Collection<UUID> ids) {
+        return delegate.getStudentsByIds(ids);
+    }
+
+    /**
+     * Retrieves a student by their email, answering recent misses from memory.
+     *
+     * @param email the email of the student to retrieve.
+     * @return a {@link Mono} emitting the found student, or empty if not found.
+     */
+    @Override
+    public Mono<Student> getStudentByEmail(String email) {
+        return missingEmails.lookup(email, delegate::getStudentByEmail);
+    }
+
+    /**
+     * Retrieves a student by their DNI, answering recent misses from memory.
+     *
+     * @param dni the DNI of the student to retrieve.
+     * @return a {@link Mono} emitting the found student, or empty if not found.
+     */
+    @Override
+    public Mono<Student> getStudentByDni(String dni) {
+        return missingDnis.lookup(dni, delegate::getStudentByDni);
+    }
+
+    /**
+     * Updates an existing student and forgets any recorded miss for its new email or DNI.
+     *
+     * @param id      the ID of the student to update.
+     * @param student the student with updated information to save.
+     * @return a {@link Mono} emitting the updated student, or empty if no student has the given ID.
+     */
+    @Override
+    public Mono<Student> updateStudent(UUID id, Student student) {
+        return delegate.updateStudent(id, student)
+                .doOnNext(this::evict);
+    }
+
+    /**
+     * Counts the total number of students.
+     *
+     * @return a {@link Mono} emitting the total count of students.
+     */
+    @Override
+    public Mono<Long> countAll() {
+        return delegate.countAll();
+    }
+
+    /**
+     * Returns the number of students, served from a short-lived cache.
+     *
+     * @return a {@link Mono} emitting the cached or freshly loaded count of students.
+     */
+    @Override
+    public Mono<Long> countAllCached() {
+        return delegate.countAllCached();
+    }
+
+    /**
+     * Returns the planner estimate of the number of students.
+     *
+     * @return a {@link Mono} emitting the estimated count of students.
+     */
+    @Override
+    public Mono<Long> estimateCountAll() {
+        return delegate.estimateCountAll();
+    }
+
+    private void evict(Student student) {
+        missingEmails.invalidate(student.getEmail());
+        missingDnis.invalidate(student.getDni());
+    }
+}
@@ -0,0 +1,36 @@
+package pe.ask.university.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.persistence.cache")
+public record CacheProperties(
+        Duration countTtl,
+        Duration periodRefreshInterval,
+        Long courseMaximumSize,
+        Duration courseExpireAfterWrite,
+        Long negativeMaximumSize,
+        Duration negativeTtl) {
+
+    public CacheProperties {
+        if (countTtl == null) {
+            countTtl = Duration.ofSeconds(30);
+        }
+        if (periodRefreshInterval == null) {
+            periodRefreshInterval = Duration.ofMinutes(5);
+        }
+        if (courseMaximumSize == null) {
+            courseMaximumSize = 1_000L;
+        }
+        if (courseExpireAfterWrite == null) {
+            courseExpireAfterWrite = Duration.ofMinutes(10);
+        }
+        if (negativeMaximumSize == null) {
+            negativeMaximumSize = 10_000L;
+        }
+        if (negativeTtl == null) {
+            negativeTtl = Duration.ofSeconds(30);
+        }
+    }
+}
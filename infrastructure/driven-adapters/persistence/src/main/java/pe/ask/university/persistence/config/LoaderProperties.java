@@ -0,0 +1,18 @@
+package pe.ask.university.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapters.persistence.loader")
+public record LoaderProperties(
+        Integer chunkSize,
+        Integer rowsPerBuffer) {
+
+    public LoaderProperties {
+        if (chunkSize == null) {
+            chunkSize = 50_000;
+        }
+        if (rowsPerBuffer == null) {
+            rowsPerBuffer = 1_000;
+        }
+    }
+}
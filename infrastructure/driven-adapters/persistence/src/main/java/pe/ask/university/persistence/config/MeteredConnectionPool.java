@@ -0,0 +1,80 @@
+package pe.ask.university.persistence.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link ConnectionPool} that times how long callers wait for a connection.
+ * <p>
+ * Every acquisition is recorded in the {@code r2dbc.pool.acquire} timer, tagged with the pool
+ * {@code name} and an {@code outcome} of {@code success}, {@code error} (including
+ * {@code max-acquire-time} timeouts) or {@code cancelled}. The time runs from subscription
+ * until a connection is handed out, so it includes the wait in the pending queue.
+ * </p>
+ * <p>
+ * The pool size gauges ({@code r2dbc.pool.acquired}, {@code idle}, {@code pending},
+ * {@code allocated} and their maximums) are published by Spring Boot for any
+ * {@link ConnectionPool} bean.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class MeteredConnectionPool extends ConnectionPool {
+
+    static final String ACQUIRE_METRIC = "r2dbc.pool.acquire";
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> acquireTimers;
+
+    /**
+     * Constructs a new {@code MeteredConnectionPool}.
+     *
+     * @param configuration the pool configuration.
+     * @param name          the name of the pool, used as the {@code name} tag.
+     * @param meterRegistry the registry the acquisition timer is published to.
+     */
+    public MeteredConnectionPool(ConnectionPoolConfiguration configuration, String name, MeterRegistry meterRegistry) {
+        super(configuration);
+        this.meterRegistry = meterRegistry;
+        this.acquireTimers = Timer.builder(ACQUIRE_METRIC)
+                .description("Time waited to acquire a connection from the pool")
+                .tag("name", name)
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Acquires a connection from the pool and records the wait.
+     *
+     * @return a {@link Mono} emitting the acquired connection.
+     */
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean recorded = new AtomicBoolean();
+            return super.create()
+                    .doOnNext(connection -> record(sample, recorded, "success"))
+                    .doOnError(ex -> record(sample, recorded, "error"))
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            record(sample, recorded, "cancelled");
+                        }
+                    });
+        });
+    }
+
+    private void record(Timer.Sample sample, AtomicBoolean recorded, String outcome) {
+        if (recorded.compareAndSet(false, true)) {
+            sample.stop(acquireTimers.withTag("outcome", outcome));
+        }
+    }
+}
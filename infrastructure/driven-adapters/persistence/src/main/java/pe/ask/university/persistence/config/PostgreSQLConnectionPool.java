@@ -1,23 +1,22 @@
 package pe.ask.university.persistence.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.postgresql.client.SSLMode;
+import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-
-import java.time.Duration;
+import pe.ask.university.persistence.observation.ObservedConnectionFactory;
+import pe.ask.university.persistence.observation.QueryObserver;
 
 @Configuration
 public class PostgreSQLConnectionPool {
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
 
     @Bean
-    public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+    public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties, QueryObservationProperties observationProperties, MeterRegistry meterRegistry) {
         PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -28,15 +27,28 @@ public class PostgreSQLConnectionPool {
                 .sslMode(SSLMode.REQUIRE)
                 .build();
 
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(dbConfiguration);
+        if (observationProperties.enabled()) {
+            connectionFactory = new ObservedConnectionFactory(connectionFactory, new QueryObserver(observationProperties, meterRegistry));
+        }
+
+        PostgresqlConnectionProperties.Pool pool = properties.pool();
         ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
+                .connectionFactory(connectionFactory)
+                .name(pool.name())
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .minIdle(pool.minIdle())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
+                .acquireRetry(pool.acquireRetry())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationDepth(pool.validationDepth())
                 .validationQuery("SELECT 1")
                 .build();
 
-        return new ConnectionPool(poolConfiguration);
+        return new MeteredConnectionPool(poolConfiguration, pool.name(), meterRegistry);
     }
-}
\ No newline at end of file
+}
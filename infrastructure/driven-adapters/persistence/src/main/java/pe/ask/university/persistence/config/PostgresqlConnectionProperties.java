@@ -1,7 +1,10 @@
 package pe.ask.university.persistence.config;
 
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "adapters.persistence")
 public record PostgresqlConnectionProperties(
         String host,
@@ -9,5 +12,77 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
-}
\ No newline at end of file
+        String password,
+        Pool pool) {
+
+    public PostgresqlConnectionProperties {
+        if (pool == null) {
+            pool = new Pool(null, null, null, null, null, null, null, null, null, null, null);
+        }
+    }
+
+    /**
+     * Sizing and lifecycle settings of the R2DBC connection pool, bound from {@code adapters.persistence.pool}.
+     *
+     * @param name                       the name of the pool, used in its metrics.
+     * @param initialSize                the number of connections opened at startup.
+     * @param maxSize                    the maximum number of connections.
+     * @param minIdle                    the minimum number of idle connections kept open.
+     * @param maxIdleTime                how long a connection may stay idle before being closed.
+     * @param maxLifeTime                how long a connection may live before being replaced.
+     * @param maxAcquireTime             how long a caller waits for a connection before failing.
+     * @param maxCreateConnectionTime    how long opening a new connection may take.
+     * @param acquireRetry               how many times a failed acquisition is retried.
+     * @param backgroundEvictionInterval how often idle and expired connections are evicted in the background.
+     * @param validationDepth            {@code LOCAL} to only check the connection state, {@code REMOTE} to run the validation query.
+     */
+    public record Pool(
+            String name,
+            Integer initialSize,
+            Integer maxSize,
+            Integer minIdle,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration maxAcquireTime,
+            Duration maxCreateConnectionTime,
+            Integer acquireRetry,
+            Duration backgroundEvictionInterval,
+            ValidationDepth validationDepth) {
+
+        public Pool {
+            if (name == null) {
+                name = "api-postgres-connection-pool";
+            }
+            if (initialSize == null) {
+                initialSize = 12;
+            }
+            if (maxSize == null) {
+                maxSize = 15;
+            }
+            if (minIdle == null) {
+                minIdle = 0;
+            }
+            if (maxIdleTime == null) {
+                maxIdleTime = Duration.ofMinutes(30);
+            }
+            if (maxLifeTime == null) {
+                maxLifeTime = Duration.ofMinutes(60);
+            }
+            if (maxAcquireTime == null) {
+                maxAcquireTime = Duration.ofSeconds(5);
+            }
+            if (maxCreateConnectionTime == null) {
+                maxCreateConnectionTime = Duration.ofSeconds(5);
+            }
+            if (acquireRetry == null) {
+                acquireRetry = 1;
+            }
+            if (backgroundEvictionInterval == null) {
+                backgroundEvictionInterval = Duration.ofMinutes(2);
+            }
+            if (validationDepth == null) {
+                validationDepth = ValidationDepth.REMOTE;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package pe.ask.university.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.persistence.observation")
+public record QueryObservationProperties(
+        Boolean enabled,
+        Duration slowQueryThreshold,
+        Boolean logParameters) {
+
+    public QueryObservationProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (slowQueryThreshold == null) {
+            slowQueryThreshold = Duration.ofMillis(200);
+        }
+        if (logParameters == null) {
+            logParameters = false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package pe.ask.university.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapters.persistence.row-readers")
+public record RowReaderProperties(
+        Boolean enabled) {
+
+    public RowReaderProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+    }
+}
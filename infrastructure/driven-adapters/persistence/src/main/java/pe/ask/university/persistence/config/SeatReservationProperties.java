@@ -0,0 +1,24 @@
+package pe.ask.university.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.persistence.seats")
+public record SeatReservationProperties(
+        Duration flushInterval,
+        Integer flushBatchSize,
+        Boolean reconcileOnStartup) {
+
+    public SeatReservationProperties {
+        if (flushInterval == null) {
+            flushInterval = Duration.ofSeconds(1);
+        }
+        if (flushBatchSize == null) {
+            flushBatchSize = 500;
+        }
+        if (reconcileOnStartup == null) {
+            reconcileOnStartup = true;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package pe.ask.university.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.persistence.suggestions")
+public record SuggestionProperties(
+        Duration refreshInterval) {
+
+    public SuggestionProperties {
+        if (refreshInterval == null) {
+            refreshInterval = Duration.ofMinutes(5);
+        }
+    }
+}
@@ -30,6 +30,9 @@ public class CourseEntity {
     @Column("description")
     private String description;
 
+    @Column("capacity")
+    private Integer capacity;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,40 @@
+package pe.ask.university.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentDetailEntity {
+    @Column("id")
+    private UUID id;
+
+    @Column("student_id")
+    private UUID studentId;
+
+    @Column("course_id")
+    private UUID courseId;
+
+    @Column("course_name")
+    private String courseName;
+
+    @Column("course_code")
+    private String courseCode;
+
+    @Column("period_id")
+    private UUID periodId;
+
+    @Column("period_name")
+    private String periodName;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,59 @@
+package pe.ask.university.persistence.helper;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the result of a row count for a limited time.
+ * <p>
+ * The count is loaded lazily by the first subscriber and then shared by every caller until
+ * the TTL expires. Concurrent callers during a load wait for the same query instead of issuing
+ * their own. Errors and empty results are never cached. {@link #invalidate()} drops the current
+ * value so the next caller reloads it.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class CountCache {
+
+    private final Supplier<Mono<Long>> loader;
+    private final Duration ttl;
+    private final AtomicReference<Mono<Long>> current = new AtomicReference<>();
+
+    /**
+     * Constructs a new {@code CountCache}.
+     *
+     * @param loader the query that produces the exact count.
+     * @param ttl    how long a loaded count may be reused.
+     */
+    public CountCache(Supplier<Mono<Long>> loader, Duration ttl) {
+        this.loader = loader;
+        this.ttl = ttl;
+        this.current.set(newEntry());
+    }
+
+    /**
+     * Returns the cached count, loading it if it is missing or expired.
+     *
+     * @return a {@link Mono} emitting the count.
+     */
+    public Mono<Long> get() {
+        return Mono.defer(current::get);
+    }
+
+    /**
+     * Discards the cached count.
+     */
+    public void invalidate() {
+        current.set(newEntry());
+    }
+
+    private Mono<Long> newEntry() {
+        return Mono.defer(loader)
+                .cache(value -> ttl, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+}
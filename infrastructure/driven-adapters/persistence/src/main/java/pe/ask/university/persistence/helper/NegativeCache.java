@@ -0,0 +1,89 @@
+package pe.ask.university.persistence.helper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Remembers for a short time which keys were not found.
+ * <p>
+ * A lookup for a key recorded as missing completes empty without calling the loader. Any other
+ * lookup calls the loader and, if it completes empty, records the key. Keys must be dropped with
+ * {@link #invalidate(Object)} once a row with that key is written.
+ * </p>
+ * <p>
+ * A lookup that started before an invalidation may complete after it with a result read before
+ * the write. To keep such a stale miss out of the cache, every invalidation bumps an epoch and a
+ * recorded miss is dropped again if the epoch changed while the loader was running.
+ * </p>
+ *
+ * @param <K> the type of the key.
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class NegativeCache<K> {
+
+    private final Cache<K, Boolean> misses;
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Constructs a new {@code NegativeCache} and publishes its statistics.
+     *
+     * @param name          the name the cache statistics are tagged with.
+     * @param maximumSize   the maximum number of keys remembered.
+     * @param ttl           how long a miss is remembered.
+     * @param meterRegistry the registry the cache statistics are published to.
+     */
+    public NegativeCache(String name, long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, misses, name);
+    }
+
+    /**
+     * Looks up a key, skipping the loader if the key is known to be missing.
+     *
+     * @param key    the key to look up.
+     * @param loader the function that queries the database.
+     * @param <V>    the type of the loaded value.
+     * @return a {@link Mono} emitting the loaded value, or empty if not found.
+     */
+    public <V> Mono<V> lookup(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            if (misses.getIfPresent(key) != null) {
+                return Mono.empty();
+            }
+            long started = epoch.get();
+            return loader.apply(key)
+                    .switchIfEmpty(Mono.fromRunnable(() -> record(key, started)));
+        });
+    }
+
+    /**
+     * Forgets that a key was missing.
+     *
+     * @param key the key that now exists.
+     */
+    public void invalidate(K key) {
+        epoch.incrementAndGet();
+        if (key != null) {
+            misses.invalidate(key);
+        }
+    }
+
+    private void record(K key, long started) {
+        misses.put(key, Boolean.TRUE);
+        if (epoch.get() != started) {
+            misses.invalidate(key);
+        }
+    }
+}
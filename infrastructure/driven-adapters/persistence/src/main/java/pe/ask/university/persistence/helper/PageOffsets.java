@@ -0,0 +1,32 @@
+package pe.ask.university.persistence.helper;
+
+/**
+ * Computes the {@code OFFSET} of a page for every offset-paginated query.
+ * <p>
+ * {@code page * size} in {@code int} arithmetic overflows to a negative offset for large pages,
+ * which PostgreSQL rejects. The offset is computed in {@code long} instead, negative inputs are
+ * treated as zero, and the result is capped at {@link #MAX_OFFSET}, far beyond any table of this
+ * service, so a deeper page simply comes back empty.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class PageOffsets {
+
+    public static final long MAX_OFFSET = Integer.MAX_VALUE;
+
+    private PageOffsets() {
+    }
+
+    /**
+     * Returns the number of rows to skip to reach a page.
+     *
+     * @param page the page number (0-indexed).
+     * @param size the number of rows per page.
+     * @return {@code page * size}, within {@code [0, MAX_OFFSET]}.
+     */
+    public static long offset(int page, int size) {
+        return Math.min((long) Math.max(page, 0) * Math.max(size, 0), MAX_OFFSET);
+    }
+}
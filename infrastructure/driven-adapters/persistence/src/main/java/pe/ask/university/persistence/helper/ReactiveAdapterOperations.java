@@ -1,6 +1,8 @@
 package pe.ask.university.persistence.helper;
 
-import org.reactivecommons.utils.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.data.domain.Example;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -10,23 +12,37 @@ import reactor.core.publisher.Mono;
 import java.lang.reflect.ParameterizedType;
 import java.util.function.Function;
 
-public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudRepository<D, I> & ReactiveQueryByExampleExecutor<D>> {
+public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudRepository<D, I> & ReactiveQueryByExampleExecutor<D>> implements MeterBinder {
+    private static final String LOOKUP_METRIC = "persistence.find_by_id";
+
     protected R repository;
-    protected ObjectMapper mapper;
     private final Class<D> dataClass;
+    private final Function<E, D> toDataFn;
     private final Function<D, E> toEntityFn;
+    private final SingleFlight<I, D> lookups = new SingleFlight<>();
 
+    /**
+     * Constructs the adapter operations with the conversions between domain objects and rows.
+     * <p>
+     * The conversions are expected to be the generated MapStruct mappers of the
+     * {@code persistence.mapper} package, so no reflection happens per row.
+     * </p>
+     *
+     * @param repository the reactive repository of the rows.
+     * @param toDataFn   converts a domain object into a row.
+     * @param toEntityFn converts a row into a domain object.
+     */
     @SuppressWarnings("unchecked")
-    protected ReactiveAdapterOperations(R repository, ObjectMapper mapper, Function<D, E> toEntityFn) {
+    protected ReactiveAdapterOperations(R repository, Function<E, D> toDataFn, Function<D, E> toEntityFn) {
         this.repository = repository;
-        this.mapper = mapper;
         ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
         this.dataClass = (Class<D>) genericSuperclass.getActualTypeArguments()[1];
+        this.toDataFn = toDataFn;
         this.toEntityFn = toEntityFn;
     }
 
     protected D toData(E entity) {
-        return mapper.map(entity, dataClass);
+        return entity != null ? toDataFn.apply(entity) : null;
     }
 
     protected E toEntity(D data) {
@@ -51,8 +67,17 @@ public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudR
         return repository.saveAll(data);
     }
 
+    /**
+     * Finds a row by its ID, sharing the query with concurrent callers asking for the same ID.
+     * <p>
+     * Only the data row is shared; each subscriber maps it to its own domain object.
+     * </p>
+     *
+     * @param id the ID of the row to find.
+     * @return a {@link Mono} emitting the found object, or empty if not found.
+     */
     public Mono<E> findById(I id) {
-        return repository.findById(id).map(this::toEntity);
+        return lookups.execute(id, repository::findById).map(this::toEntity);
     }
 
     public Flux<E> findByExample(E entity) {
@@ -64,4 +89,23 @@ public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudR
         return repository.findAll()
                 .map(this::toEntity);
     }
+
+    /**
+     * Publishes how many {@link #findById(Object)} calls hit the database and how many joined
+     * a query already in flight, tagged with the entity name.
+     *
+     * @param registry the registry to bind the counters to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String entity = dataClass.getSimpleName();
+        FunctionCounter.builder(LOOKUP_METRIC, lookups, SingleFlight::executedCount)
+                .description("Lookups by ID sent to the database")
+                .tags("entity", entity, "outcome", "executed")
+                .register(registry);
+        FunctionCounter.builder(LOOKUP_METRIC, lookups, SingleFlight::coalescedCount)
+                .description("Lookups by ID served by a query already in flight")
+                .tags("entity", entity, "outcome", "coalesced")
+                .register(registry);
+    }
 }
@@ -0,0 +1,43 @@
+package pe.ask.university.persistence.helper;
+
+/**
+ * Builds {@code LIKE} patterns from user search text.
+ * <p>
+ * {@code %}, {@code _} and the escape character itself are escaped, so they are matched
+ * literally under PostgreSQL's default {@code \} escape instead of acting as wildcards.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class SearchPatterns {
+
+    private SearchPatterns() {
+    }
+
+    /**
+     * Returns a pattern matching any text that contains the query.
+     *
+     * @param query the search text.
+     * @return {@code %query%}, escaped.
+     */
+    public static String contains(String query) {
+        return "%" + escape(query) + "%";
+    }
+
+    /**
+     * Returns a pattern matching any text that starts with the query.
+     *
+     * @param query the search text.
+     * @return {@code query%}, escaped.
+     */
+    public static String prefix(String query) {
+        return escape(query) + "%";
+    }
+
+    private static String escape(String query) {
+        return query.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,68 @@
+package pe.ask.university.persistence.helper;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key into a single in-flight call.
+ * <p>
+ * The first subscriber for a key starts the load and every subscriber that arrives while it is
+ * still running receives the same result instead of triggering its own. The entry is dropped as
+ * soon as the load terminates, so nothing is cached beyond the lifetime of the call and the next
+ * subscriber starts a fresh load. Errors and empty results are shared the same way.
+ * </p>
+ *
+ * @param <K> the type of the key.
+ * @param <V> the type of the loaded value.
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Returns the result of loading the given key, joining a load already in flight if there is one.
+     *
+     * @param key    the key to load.
+     * @param loader the function that performs the actual load.
+     * @return a {@link Mono} emitting the loaded value, or empty if there is none.
+     */
+    public Mono<V> execute(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            boolean[] started = {false};
+            Mono<V> call = inFlight.computeIfAbsent(key, k -> {
+                started[0] = true;
+                return loader.apply(k)
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+            (started[0] ? executed : coalesced).increment();
+            return call;
+        });
+    }
+
+    /**
+     * Returns the number of loads that were actually executed.
+     *
+     * @return the executed load count.
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of subscribers that joined a load already in flight.
+     *
+     * @return the coalesced subscriber count.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+}
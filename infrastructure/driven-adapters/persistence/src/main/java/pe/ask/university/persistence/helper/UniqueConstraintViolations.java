@@ -0,0 +1,40 @@
+package pe.ask.university.persistence.helper;
+
+import io.r2dbc.postgresql.api.PostgresqlException;
+
+import java.util.Optional;
+
+/**
+ * Recognizes PostgreSQL unique constraint violations inside driver and Spring exceptions.
+ * <p>
+ * Spring wraps driver errors in its own {@code DataAccessException} hierarchy, so the cause
+ * chain is walked until the PostgreSQL error with SQLSTATE {@code 23505} is found.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class UniqueConstraintViolations {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueConstraintViolations() {
+    }
+
+    /**
+     * Returns the name of the violated unique constraint, if the error is a unique violation.
+     *
+     * @param error the error raised by the database call.
+     * @return the constraint name (empty string when the server did not report one),
+     *         or an empty {@link Optional} if the error is not a unique violation.
+     */
+    public static Optional<String> constraintName(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof PostgresqlException postgresqlException
+                    && UNIQUE_VIOLATION.equals(postgresqlException.getErrorDetails().getCode())) {
+                return Optional.of(postgresqlException.getErrorDetails().getConstraintName().orElse(""));
+            }
+        }
+        return Optional.empty();
+    }
+}
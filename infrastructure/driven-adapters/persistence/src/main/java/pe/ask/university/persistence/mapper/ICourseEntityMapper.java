@@ -0,0 +1,12 @@
+package pe.ask.university.persistence.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.persistence.entity.CourseEntity;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ICourseEntityMapper {
+    CourseEntity toData(Course course);
+    Course toDomain(CourseEntity courseEntity);
+}
@@ -0,0 +1,15 @@
+package pe.ask.university.persistence.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+import pe.ask.university.persistence.entity.EnrollmentDetailEntity;
+import pe.ask.university.persistence.entity.EnrollmentEntity;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface IEnrollmentEntityMapper {
+    EnrollmentEntity toData(Enrollment enrollment);
+    Enrollment toDomain(EnrollmentEntity enrollmentEntity);
+    EnrollmentDetail toDomain(EnrollmentDetailEntity enrollmentDetailEntity);
+}
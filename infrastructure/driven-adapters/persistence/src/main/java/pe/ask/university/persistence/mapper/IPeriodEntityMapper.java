@@ -0,0 +1,12 @@
+package pe.ask.university.persistence.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import pe.ask.university.model.period.Period;
+import pe.ask.university.persistence.entity.PeriodEntity;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface IPeriodEntityMapper {
+    PeriodEntity toData(Period period);
+    Period toDomain(PeriodEntity periodEntity);
+}
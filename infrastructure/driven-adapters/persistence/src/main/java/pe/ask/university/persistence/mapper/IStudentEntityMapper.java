@@ -0,0 +1,12 @@
+package pe.ask.university.persistence.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.persistence.entity.StudentEntity;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface IStudentEntityMapper {
+    StudentEntity toData(Student student);
+    Student toDomain(StudentEntity studentEntity);
+}
@@ -0,0 +1,50 @@
+package pe.ask.university.persistence.observation;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ConnectionFactory} whose connections report every statement to a {@link QueryObserver}.
+ * <p>
+ * It wraps the driver factory below the pool, so pooling, pool metrics and the driver-specific
+ * features reached through {@link Wrapped#unwrap()}, such as {@code COPY}, are unaffected.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class ObservedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory> {
+
+    private final ConnectionFactory delegate;
+    private final QueryObserver observer;
+
+    /**
+     * Constructs a new {@code ObservedConnectionFactory}.
+     *
+     * @param delegate the driver connection factory.
+     * @param observer the observer statements are reported to.
+     */
+    public ObservedConnectionFactory(ConnectionFactory delegate, QueryObserver observer) {
+        this.delegate = delegate;
+        this.observer = observer;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.from(delegate.create())
+                .map(connection -> new ObservedConnection(connection, observer));
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+}
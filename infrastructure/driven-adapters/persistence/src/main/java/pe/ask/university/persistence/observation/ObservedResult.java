@@ -0,0 +1,64 @@
+package pe.ask.university.persistence.observation;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link Result} that completes the timing of its execution once it has been consumed.
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+class ObservedResult implements Result, Wrapped<Result> {
+
+    private final Result delegate;
+    private final QueryObserver.Execution execution;
+
+    ObservedResult(Result delegate, QueryObserver.Execution execution) {
+        this.delegate = delegate;
+        this.execution = execution;
+    }
+
+    @Override
+    public Publisher<Long> getRowsUpdated() {
+        return observe(delegate.getRowsUpdated());
+    }
+
+    @Override
+    public <T> Publisher<T> map(BiFunction<Row, RowMetadata, ? extends T> mappingFunction) {
+        return observe(delegate.map(mappingFunction));
+    }
+
+    @Override
+    public <T> Publisher<T> map(Function<? super Readable, ? extends T> mappingFunction) {
+        return observe(delegate.map(mappingFunction));
+    }
+
+    @Override
+    public Result filter(Predicate<Segment> filter) {
+        return new ObservedResult(delegate.filter(filter), execution);
+    }
+
+    @Override
+    public <T> Publisher<T> flatMap(Function<Segment, ? extends Publisher<? extends T>> mappingFunction) {
+        return observe(delegate.flatMap(mappingFunction));
+    }
+
+    @Override
+    public Result unwrap() {
+        return delegate;
+    }
+
+    private <T> Flux<T> observe(Publisher<T> publisher) {
+        return Flux.from(publisher).doFinally(execution::finish);
+    }
+}
@@ -0,0 +1,99 @@
+package pe.ask.university.persistence.observation;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Statement} that times its execution.
+ * <p>
+ * The time runs from subscription to {@link #execute()} until the returned results have been
+ * consumed, so it includes fetching the rows and not just sending the statement. The bind
+ * values of the last binding set are kept for the slow-query log.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+class ObservedStatement implements Statement, Wrapped<Statement> {
+
+    private final Statement delegate;
+    private final String sql;
+    private final QueryObserver observer;
+    private Map<Object, Object> parameters = new LinkedHashMap<>();
+
+    ObservedStatement(Statement delegate, String sql, QueryObserver observer) {
+        this.delegate = delegate;
+        this.sql = sql;
+        this.observer = observer;
+    }
+
+    @Override
+    public Statement add() {
+        delegate.add();
+        parameters = new LinkedHashMap<>();
+        return this;
+    }
+
+    @Override
+    public Statement bind(int index, Object value) {
+        delegate.bind(index, value);
+        parameters.put(index, value);
+        return this;
+    }
+
+    @Override
+    public Statement bind(String name, Object value) {
+        delegate.bind(name, value);
+        parameters.put(name, value);
+        return this;
+    }
+
+    @Override
+    public Statement bindNull(int index, Class<?> type) {
+        delegate.bindNull(index, type);
+        parameters.put(index, null);
+        return this;
+    }
+
+    @Override
+    public Statement bindNull(String name, Class<?> type) {
+        delegate.bindNull(name, type);
+        parameters.put(name, null);
+        return this;
+    }
+
+    @Override
+    public Statement fetchSize(int rows) {
+        delegate.fetchSize(rows);
+        return this;
+    }
+
+    @Override
+    public Statement returnGeneratedValues(String... columns) {
+        delegate.returnGeneratedValues(columns);
+        return this;
+    }
+
+    @Override
+    public Flux<Result> execute() {
+        Map<Object, Object> bound = parameters;
+        return Flux.deferContextual(context -> {
+            QueryObserver.Execution execution = observer.start(sql, QueryOrigin.from(context), bound);
+            return Flux.from(delegate.execute())
+                    .<Result>map(result -> new ObservedResult(result, execution))
+                    .doOnError(execution::failed)
+                    .doOnCancel(() -> execution.finish(SignalType.CANCEL));
+        });
+    }
+
+    @Override
+    public Statement unwrap() {
+        return delegate;
+    }
+}
@@ -0,0 +1,178 @@
+package pe.ask.university.persistence.observation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Parameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pe.ask.university.persistence.config.QueryObservationProperties;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Array;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Times statements and logs the slow ones.
+ * <p>
+ * Each execution is recorded in the {@code r2dbc.query} timer, tagged with the normalized SQL
+ * ({@code query}), the adapter method that issued it ({@code origin}, see {@link QueryOrigin})
+ * and an {@code outcome} of {@code success}, {@code error} or {@code cancelled}. Normalizing
+ * replaces literals and placeholders with {@code ?} and collapses whitespace and {@code IN}
+ * lists, so the tag stays bounded by the number of distinct statements in the code.
+ * </p>
+ * <p>
+ * Executions slower than {@code adapters.persistence.observation.slow-query-threshold} are
+ * logged at {@code WARN} as {@code key=value} pairs. Bind values are only logged with
+ * {@code log-parameters}, and are then redacted by type: identifiers, numbers, booleans and
+ * {@link LocalDateTime} audit timestamps such as keyset cursors are shown, while every string and
+ * every other date is masked, since named parameters such as {@code :email} or
+ * {@code :birthdate} reach the driver as positional {@code $n} placeholders and can no longer be
+ * told apart by name. Arrays are reduced to their length.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class QueryObserver {
+
+    static final String QUERY_METRIC = "r2dbc.query";
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("pe.ask.university.persistence.slow-query");
+    private static final String REDACTED = "***";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\d+");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> timers;
+    private final Cache<String, String> fingerprints = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+    private final long slowQueryNanos;
+    private final boolean logParameters;
+
+    /**
+     * Constructs a new {@code QueryObserver}.
+     *
+     * @param properties    the slow-query settings.
+     * @param meterRegistry the registry the query timer is published to.
+     */
+    public QueryObserver(QueryObservationProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.timers = Timer.builder(QUERY_METRIC)
+                .description("Time spent executing SQL statements")
+                .withRegistry(meterRegistry);
+        this.slowQueryNanos = properties.slowQueryThreshold().toNanos();
+        this.logParameters = properties.logParameters();
+    }
+
+    /**
+     * Starts timing one execution of a statement.
+     *
+     * @param sql        the SQL sent to the driver.
+     * @param origin     the adapter method that issued it.
+     * @param parameters the bind values of the execution, keyed by index or name.
+     * @return the running execution.
+     */
+    Execution start(String sql, String origin, Map<Object, Object> parameters) {
+        return new Execution(fingerprint(sql), origin, parameters, Timer.start(meterRegistry), System.nanoTime());
+    }
+
+    /**
+     * Returns the normalized form of a statement.
+     *
+     * @param sql the SQL sent to the driver.
+     * @return the SQL with literals and placeholders replaced by {@code ?}.
+     */
+    String fingerprint(String sql) {
+        return fingerprints.get(sql, QueryObserver::normalize);
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = PLACEHOLDER.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        if (normalized.endsWith(";")) {
+            normalized = normalized.substring(0, normalized.length() - 1).trim();
+        }
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    private static String redact(Object value) {
+        Object plain = value instanceof Parameter parameter ? parameter.getValue() : value;
+        if (plain == null) {
+            return "null";
+        }
+        if (plain instanceof UUID || plain instanceof Number || plain instanceof Boolean || plain instanceof LocalDateTime) {
+            return plain.toString();
+        }
+        if (plain.getClass().isArray()) {
+            return "[" + Array.getLength(plain) + " items]";
+        }
+        return REDACTED;
+    }
+
+    /**
+     * One running execution of a statement. It is recorded once, by whichever terminal signal comes first.
+     */
+    final class Execution {
+
+        private final String query;
+        private final String origin;
+        private final Map<Object, Object> parameters;
+        private final Timer.Sample sample;
+        private final long startedAt;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Execution(String query, String origin, Map<Object, Object> parameters, Timer.Sample sample, long startedAt) {
+            this.query = query;
+            this.origin = origin;
+            this.parameters = parameters;
+            this.sample = sample;
+            this.startedAt = startedAt;
+        }
+
+        void finish(SignalType signal) {
+            finish(signal == SignalType.CANCEL ? "cancelled" : signal == SignalType.ON_ERROR ? "error" : "success");
+        }
+
+        void failed(Throwable ex) {
+            finish("error");
+        }
+
+        private void finish(String outcome) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            sample.stop(timers.withTags("query", query, "origin", origin, "outcome", outcome));
+            long elapsed = System.nanoTime() - startedAt;
+            if (elapsed >= slowQueryNanos && SLOW_QUERY_LOG.isWarnEnabled()) {
+                SLOW_QUERY_LOG.warn("slow_query duration_ms={} origin={} outcome={} query=\"{}\" params={}",
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), origin, outcome, query, describeParameters());
+            }
+        }
+
+        private String describeParameters() {
+            if (!logParameters) {
+                return REDACTED;
+            }
+            return parameters.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + redact(entry.getValue()))
+                    .collect(Collectors.joining(", ", "{", "}"));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package pe.ask.university.persistence.observation;
+
+import reactor.util.context.ContextView;
+
+/**
+ * Names the adapter method that issued a query.
+ * <p>
+ * The origin travels in the Reactor context under {@link #KEY}, written by
+ * {@link QueryOriginPostProcessor} around every adapter call and read when a statement is
+ * executed. Queries issued outside an adapter call, such as background flushes or pool
+ * validation, are reported as {@link #UNKNOWN}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class QueryOrigin {
+
+    public static final String KEY = QueryOrigin.class.getName();
+    public static final String UNKNOWN = "unknown";
+
+    private QueryOrigin() {
+    }
+
+    /**
+     * Returns the origin recorded in the given context.
+     *
+     * @param context the Reactor context of the subscriber.
+     * @return the origin, or {@link #UNKNOWN} if none was recorded.
+     */
+    public static String from(ContextView context) {
+        return context.getOrDefault(KEY, UNKNOWN);
+    }
+}
@@ -0,0 +1,77 @@
+package pe.ask.university.persistence.observation;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Records which adapter method issued each query.
+ * <p>
+ * Every {@link Repository} bean of the persistence adapter is wrapped in a class proxy. Calls to
+ * public methods returning {@link Mono} or {@link Flux} get
+ * {@code SimpleClassName.methodName} written to the Reactor context under
+ * {@link QueryOrigin#KEY}. When adapters call each other, the innermost call wins, so a query
+ * is attributed to the adapter method that actually built it.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+public class QueryOriginPostProcessor implements BeanPostProcessor {
+
+    private static final String PERSISTENCE_PACKAGE = "pe.ask.university.persistence";
+
+    /**
+     * Wraps persistence adapters in an origin-recording proxy and returns any other bean unchanged.
+     *
+     * @param bean     the initialized bean.
+     * @param beanName the name of the bean.
+     * @return the proxy, or the bean itself if it is not a persistence adapter.
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = bean.getClass();
+        if (!type.isAnnotationPresent(Repository.class)
+                || !type.getPackageName().startsWith(PERSISTENCE_PACKAGE)
+                || Modifier.isFinal(type.getModifiers())) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new OriginInterceptor(type.getSimpleName()));
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+
+    /**
+     * Writes the origin of the calls of one adapter bean.
+     */
+    private static final class OriginInterceptor implements MethodInterceptor {
+
+        private final String adapter;
+
+        private OriginInterceptor(String adapter) {
+            this.adapter = adapter;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            String origin = adapter + "." + invocation.getMethod().getName();
+            if (result instanceof Mono<?> mono) {
+                return mono.contextWrite(context -> context.put(QueryOrigin.KEY, origin));
+            }
+            if (result instanceof Flux<?> flux) {
+                return flux.contextWrite(context -> context.put(QueryOrigin.KEY, origin));
+            }
+            return result;
+        }
+    }
+}
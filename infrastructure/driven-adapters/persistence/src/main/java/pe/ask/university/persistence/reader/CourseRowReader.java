@@ -0,0 +1,71 @@
+package pe.ask.university.persistence.reader;
+
+import io.r2dbc.spi.Readable;
+import pe.ask.university.model.course.Course;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds {@link Course} domain objects straight from a result row.
+ * <p>
+ * Queries read through this class must select {@link #COLUMNS} in that order, so every value is
+ * fetched by its position instead of by name and no {@code CourseEntity} is created in between.
+ * Summary listings select {@link #SUMMARY_COLUMNS} and are read with {@link #readSummary(Readable)}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class CourseRowReader {
+
+    public static final String COLUMNS = "id, name, code, description, capacity, created_at";
+    public static final String SUMMARY_COLUMNS = "id, name, code, created_at";
+
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int CODE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int CAPACITY = 4;
+    private static final int CREATED_AT = 5;
+
+    private static final int SUMMARY_ID = 0;
+    private static final int SUMMARY_NAME = 1;
+    private static final int SUMMARY_CODE = 2;
+    private static final int SUMMARY_CREATED_AT = 3;
+
+    private CourseRowReader() {
+    }
+
+    /**
+     * Reads a course from a row selected with {@link #COLUMNS}.
+     *
+     * @param row the current row.
+     * @return the course held by the row.
+     */
+    public static Course read(Readable row) {
+        return new Course(
+                row.get(ID, UUID.class),
+                row.get(NAME, String.class),
+                row.get(CODE, String.class),
+                row.get(DESCRIPTION, String.class),
+                row.get(CAPACITY, Integer.class),
+                row.get(CREATED_AT, LocalDateTime.class)
+        );
+    }
+
+    /**
+     * Reads a partially filled course from a row selected with {@link #SUMMARY_COLUMNS}.
+     *
+     * @param row the current row.
+     * @return the course held by the row, with only the summary fields set.
+     */
+    public static Course readSummary(Readable row) {
+        return Course.builder()
+                .id(row.get(SUMMARY_ID, UUID.class))
+                .name(row.get(SUMMARY_NAME, String.class))
+                .code(row.get(SUMMARY_CODE, String.class))
+                .createdAt(row.get(SUMMARY_CREATED_AT, LocalDateTime.class))
+                .build();
+    }
+}
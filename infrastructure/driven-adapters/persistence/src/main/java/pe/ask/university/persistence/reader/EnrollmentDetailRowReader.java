@@ -0,0 +1,54 @@
+package pe.ask.university.persistence.reader;
+
+import io.r2dbc.spi.Readable;
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds {@link EnrollmentDetail} domain objects straight from a result row.
+ * <p>
+ * Queries read through this class must join {@code enrollment e}, {@code course c} and
+ * {@code period p} and select {@link #COLUMNS} in that order, so every value is fetched by its
+ * position and no {@code EnrollmentDetailEntity} is created in between.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class EnrollmentDetailRowReader {
+
+    public static final String COLUMNS = "e.id, e.student_id, e.course_id, c.name, c.code, e.period_id, p.name, e.created_at";
+
+    private static final int ID = 0;
+    private static final int STUDENT_ID = 1;
+    private static final int COURSE_ID = 2;
+    private static final int COURSE_NAME = 3;
+    private static final int COURSE_CODE = 4;
+    private static final int PERIOD_ID = 5;
+    private static final int PERIOD_NAME = 6;
+    private static final int CREATED_AT = 7;
+
+    private EnrollmentDetailRowReader() {
+    }
+
+    /**
+     * Reads an enrollment detail from a row selected with {@link #COLUMNS}.
+     *
+     * @param row the current row.
+     * @return the enrollment detail held by the row.
+     */
+    public static EnrollmentDetail read(Readable row) {
+        return new EnrollmentDetail(
+                row.get(ID, UUID.class),
+                row.get(STUDENT_ID, UUID.class),
+                row.get(COURSE_ID, UUID.class),
+                row.get(COURSE_NAME, String.class),
+                row.get(COURSE_CODE, String.class),
+                row.get(PERIOD_ID, UUID.class),
+                row.get(PERIOD_NAME, String.class),
+                row.get(CREATED_AT, LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package pe.ask.university.persistence.reader;
+
+import io.r2dbc.spi.Readable;
+import pe.ask.university.model.enrollment.Enrollment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds {@link Enrollment} domain objects straight from a result row.
+ * <p>
+ * Queries read through this class must select {@link #COLUMNS} in that order, so every value is
+ * fetched by its position instead of by name and no {@code EnrollmentEntity} is created in between.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class EnrollmentRowReader {
+
+    public static final String COLUMNS = "id, student_id, course_id, period_id, created_at";
+
+    private static final int ID = 0;
+    private static final int STUDENT_ID = 1;
+    private static final int COURSE_ID = 2;
+    private static final int PERIOD_ID = 3;
+    private static final int CREATED_AT = 4;
+
+    private EnrollmentRowReader() {
+    }
+
+    /**
+     * Reads an enrollment from a row selected with {@link #COLUMNS}.
+     *
+     * @param row the current row.
+     * @return the enrollment held by the row.
+     */
+    public static Enrollment read(Readable row) {
+        return new Enrollment(
+                row.get(ID, UUID.class),
+                row.get(STUDENT_ID, UUID.class),
+                row.get(COURSE_ID, UUID.class),
+                row.get(PERIOD_ID, UUID.class),
+                row.get(CREATED_AT, LocalDateTime.class)
+        );
+    }
+}
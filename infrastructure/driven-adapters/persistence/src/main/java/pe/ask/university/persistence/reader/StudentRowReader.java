@@ -0,0 +1,80 @@
+package pe.ask.university.persistence.reader;
+
+import io.r2dbc.spi.Readable;
+import pe.ask.university.model.student.Student;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds {@link Student} domain objects straight from a result row.
+ * <p>
+ * Queries read through this class must select {@link #COLUMNS} in that order, so every value is
+ * fetched by its position instead of by name and no {@code StudentEntity} is created in between.
+ * Summary listings select {@link #SUMMARY_COLUMNS} and are read with {@link #readSummary(Readable)}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class StudentRowReader {
+
+    public static final String COLUMNS = "id, name, surname, dni, email, phone, address, birthdate, created_at";
+    public static final String SUMMARY_COLUMNS = "id, name, surname, email, created_at";
+
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int SURNAME = 2;
+    private static final int DNI = 3;
+    private static final int EMAIL = 4;
+    private static final int PHONE = 5;
+    private static final int ADDRESS = 6;
+    private static final int BIRTHDATE = 7;
+    private static final int CREATED_AT = 8;
+
+    private static final int SUMMARY_ID = 0;
+    private static final int SUMMARY_NAME = 1;
+    private static final int SUMMARY_SURNAME = 2;
+    private static final int SUMMARY_EMAIL = 3;
+    private static final int SUMMARY_CREATED_AT = 4;
+
+    private StudentRowReader() {
+    }
+
+    /**
+     * Reads a student from a row selected with {@link #COLUMNS}.
+     *
+     * @param row the current row.
+     * @return the student held by the row.
+     */
+    public static Student read(Readable row) {
+        return new Student(
+                row.get(ID, UUID.class),
+                row.get(NAME, String.class),
+                row.get(SURNAME, String.class),
+                row.get(DNI, String.class),
+                row.get(EMAIL, String.class),
+                row.get(PHONE, String.class),
+                row.get(ADDRESS, String.class),
+                row.get(BIRTHDATE, LocalDate.class),
+                row.get(CREATED_AT, LocalDateTime.class)
+        );
+    }
+
+    /**
+     * Reads a partially filled student from a row selected with {@link #SUMMARY_COLUMNS}.
+     *
+     * @param row the current row.
+     * @return the student held by the row, with only the summary fields set.
+     */
+    public static Student readSummary(Readable row) {
+        return Student.builder()
+                .id(row.get(SUMMARY_ID, UUID.class))
+                .name(row.get(SUMMARY_NAME, String.class))
+                .surname(row.get(SUMMARY_SURNAME, String.class))
+                .email(row.get(SUMMARY_EMAIL, String.class))
+                .createdAt(row.get(SUMMARY_CREATED_AT, LocalDateTime.class))
+                .build();
+    }
+}
@@ -7,15 +7,25 @@ import pe.ask.university.persistence.entity.CourseEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ICourseReactiveRepository extends ReactiveCrudRepository<CourseEntity, UUID>, ReactiveQueryByExampleExecutor<CourseEntity> {
     @Query("""
             SELECT * FROM course
+            ORDER BY created_at, id
             OFFSET :offset
             LIMIT :limit;
     """)
-    Flux<CourseEntity> findAllPaginated(int offset, int limit);
+    Flux<CourseEntity> findAllPaginated(long offset, int limit);
+
+    @Query("""
+            SELECT * FROM course
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit;
+    """)
+    Flux<CourseEntity> findAllAfter(LocalDateTime createdAt, UUID id, int limit);
 
     Mono<CourseEntity> findByName(String name);
 
@@ -3,22 +3,106 @@ package pe.ask.university.persistence.repository;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import pe.ask.university.persistence.entity.EnrollmentDetailEntity;
 import pe.ask.university.persistence.entity.EnrollmentEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface IEnrollmentReactiveRepository extends ReactiveCrudRepository<EnrollmentEntity, UUID>, ReactiveQueryByExampleExecutor<EnrollmentEntity> {
+    @Query("""
+            INSERT INTO enrollment (student_id, course_id, period_id)
+            VALUES (:studentId, :courseId, :periodId)
+            ON CONFLICT (student_id, course_id, period_id) DO NOTHING
+            RETURNING *;
+    """)
+    Mono<EnrollmentEntity> insertIfAbsent(UUID studentId, UUID courseId, UUID periodId);
+
+    @Query("""
+            SELECT * FROM enrollment
+            WHERE student_id = :studentId
+            AND course_id = :courseId
+            AND period_id = :periodId;
+    """)
+    Mono<EnrollmentEntity> findByStudentIdAndCourseIdAndPeriodId(UUID studentId, UUID courseId, UUID periodId);
+
+    @Query("""
+            SELECT * FROM enrollment
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit;
+    """)
+    Flux<EnrollmentEntity> findAllPaginated(long offset, int limit);
+
+    @Query("""
+            SELECT * FROM enrollment
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit;
+    """)
+    Flux<EnrollmentEntity> findAllAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    @Query("""
+            SELECT * FROM enrollment
+            WHERE student_id = :studentId
+            ORDER BY created_at, id
+            OFFSET :offset
+            LIMIT :limit;
+    """)
+    Flux<EnrollmentEntity> findByStudentIdPaginated(UUID studentId, long offset, int limit);
+
     @Query("""
             SELECT * FROM enrollment
+            WHERE student_id = :studentId
+            AND period_id = :periodId
+            ORDER BY created_at, id
             OFFSET :offset
             LIMIT :limit;
     """)
-    Flux<EnrollmentEntity> findAllPaginated(int offset, int limit);
+    Flux<EnrollmentEntity> findByStudentIdAndPeriodIdPaginated(UUID studentId, UUID periodId, long offset, int limit);
 
-    Flux<EnrollmentEntity> findByStudentId(UUID studentId);
+    @Query("""
+            SELECT e.id, e.student_id, e.course_id, c.name AS course_name, c.code AS course_code,
+                   e.period_id, p.name AS period_name, e.created_at
+            FROM enrollment e
+            JOIN course c ON c.id = e.course_id
+            JOIN period p ON p.id = e.period_id
+            WHERE e.student_id = :studentId
+            ORDER BY e.created_at, e.id
+            OFFSET :offset
+            LIMIT :limit;
+    """)
+    Flux<EnrollmentDetailEntity> findDetailByStudentIdPaginated(UUID studentId, long offset, int limit);
+
+    @Query("""
+            SELECT e.id, e.student_id, e.course_id, c.name AS course_name, c.code AS course_code,
+                   e.period_id, p.name AS period_name, e.created_at
+            FROM enrollment e
+            JOIN course c ON c.id = e.course_id
+            JOIN period p ON p.id = e.period_id
+            WHERE e.student_id = :studentId
+            AND e.period_id = :periodId
+            ORDER BY e.created_at, e.id
+            OFFSET :offset
+            LIMIT :limit;
+    """)
+    Flux<EnrollmentDetailEntity> findDetailByStudentIdAndPeriodIdPaginated(UUID studentId, UUID periodId, long offset, int limit);
+
+    @Query("SELECT count(*) FROM enrollment WHERE student_id = :studentId")
+    Mono<Long> countByStudentId(UUID studentId);
+
+    @Query("SELECT count(*) FROM enrollment WHERE student_id = :studentId AND period_id = :periodId")
+    Mono<Long> countByStudentIdAndPeriodId(UUID studentId, UUID periodId);
 
     @Query("SELECT count(*) FROM enrollment")
     Mono<Long> countAll();
+
+    @Query("""
+            SELECT reltuples::bigint FROM pg_class
+            WHERE oid = 'enrollment'::regclass
+            AND reltuples >= 0;
+    """)
+    Mono<Long> estimateCountAll();
 }
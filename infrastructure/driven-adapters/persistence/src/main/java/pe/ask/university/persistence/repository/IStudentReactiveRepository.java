@@ -1,6 +1,5 @@
 package pe.ask.university.persistence.repository;
 
-import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -9,25 +8,41 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface IStudentReactiveRepository extends ReactiveCrudRepository<StudentEntity, UUID>, ReactiveQueryByExampleExecutor<StudentEntity> {
 
     @Query("""
             SELECT * FROM student
+            ORDER BY created_at, id
             OFFSET :offset
             LIMIT :limit;
     """)
-    Flux<StudentEntity> findAllPaginated(int offset, int limit);
+    Flux<StudentEntity> findAllPaginated(long offset, int limit);
+
+    @Query("""
+            SELECT * FROM student
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit;
+    """)
+    Flux<StudentEntity> findAllAfter(LocalDateTime createdAt, UUID id, int limit);
 
     @Query("SELECT count(*) FROM student")
     Mono<Long> countAll();
 
+    @Query("""
+            SELECT reltuples::bigint FROM pg_class
+            WHERE oid = 'student'::regclass
+            AND reltuples >= 0;
+    """)
+    Mono<Long> estimateCountAll();
+
     Mono<StudentEntity> findByEmail(String email);
     Mono<StudentEntity> findByName(String name);
     Mono<StudentEntity> findByDni(String dni);
 
-    @Modifying
     @Query("""
         UPDATE student
         SET name = :name,
@@ -38,8 +53,9 @@ public interface IStudentReactiveRepository extends ReactiveCrudRepository<Stude
             address = :address,
             birthdate = :birthdate
         WHERE id = :id
+        RETURNING *
     """)
-    Mono<Integer> update(
+    Mono<StudentEntity> update(
             String name,
             String surname,
             String dni,
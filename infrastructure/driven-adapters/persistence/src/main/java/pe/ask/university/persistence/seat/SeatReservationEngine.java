@@ -0,0 +1,301 @@
+package pe.ask.university.persistence.seat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pe.ask.university.persistence.config.SeatReservationProperties;
+import pe.ask.university.port.out.persistence.ISeatRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory seat counters that implement the {@link ISeatRepository} port.
+ * <p>
+ * Every {@code (courseId, periodId)} pair has an {@link AtomicInteger} holding the number of
+ * seats taken. It is seeded lazily the first time the pair is reserved; concurrent first
+ * reservations share the same seeding query. Once {@code course_seat} has been reconciled on
+ * startup the counter is seeded from its row, and only a pair without a row, or any pair while
+ * the table is not known to be reconciled, falls back to counting its enrollments. After that a
+ * reservation is a compare-and-set loop on the counter, so admitting or rejecting an
+ * enrollment does not touch the database and no row is locked.
+ * </p>
+ * <p>
+ * Changed counters are written to the {@code course_seat} table every
+ * {@code adapters.persistence.seats.flush-interval}, in batches of {@code flush-batch-size}
+ * rows upserted with a single statement each. On startup {@code course_seat} is rebuilt from
+ * the enrollments actually stored, which reconciles any count lost in a crash before its flush.
+ * A failed reconciliation or flush is logged and counted in {@code seats.persistence.failures},
+ * tagged with the {@code operation}, and the engine keeps going.
+ * </p>
+ * <p>
+ * The counters are local to this instance. Running several instances against the same database
+ * requires routing each course to a single instance, otherwise each one admits up to the full
+ * capacity. Enrollments written without going through this engine, such as bulk loads, are only
+ * picked up once the pair is seeded again after a restart.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Repository
+public class SeatReservationEngine implements ISeatRepository, InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatReservationEngine.class);
+    private static final String FAILURE_METRIC = "seats.persistence.failures";
+
+    private static final String SELECT_TAKEN = """
+            SELECT taken FROM course_seat
+            WHERE course_id = :courseId
+            AND period_id = :periodId
+    """;
+
+    private static final String COUNT_TAKEN = """
+            SELECT count(*) FROM enrollment
+            WHERE course_id = :courseId
+            AND period_id = :periodId
+    """;
+
+    private static final String UPSERT_SEATS = """
+            INSERT INTO course_seat (course_id, period_id, taken)
+            SELECT * FROM unnest(:courseId::uuid[], :periodId::uuid[], :taken::int[])
+            ON CONFLICT (course_id, period_id)
+            DO UPDATE SET taken = EXCLUDED.taken, updated_at = now()
+    """;
+
+    private static final String RECONCILE_SEATS = """
+            WITH counts AS (
+                SELECT course_id, period_id, count(*)::int AS taken
+                FROM enrollment
+                GROUP BY course_id, period_id
+            ), stale AS (
+                DELETE FROM course_seat s
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM counts c
+                    WHERE c.course_id = s.course_id AND c.period_id = s.period_id
+                )
+            )
+            INSERT INTO course_seat (course_id, period_id, taken)
+            SELECT course_id, period_id, taken FROM counts
+            ON CONFLICT (course_id, period_id)
+            DO UPDATE SET taken = EXCLUDED.taken, updated_at = now()
+    """;
+
+    private final DatabaseClient databaseClient;
+    private final SeatReservationProperties properties;
+    private final ConcurrentMap<SeatKey, Mono<AtomicInteger>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SeatKey, AtomicInteger> seeded = new ConcurrentHashMap<>();
+    private final Set<SeatKey> dirty = ConcurrentHashMap.newKeySet();
+    private final Counter reconcileFailures;
+    private final Counter flushFailures;
+    private volatile boolean reconciled;
+    private Disposable flusher;
+
+    /**
+     * Constructs a new {@code SeatReservationEngine}.
+     *
+     * @param databaseClient the client used to seed and persist the counters.
+     * @param properties     the flush and reconciliation settings.
+     * @param meterRegistry  the registry the persistence failures are counted in.
+     */
+    public SeatReservationEngine(DatabaseClient databaseClient, SeatReservationProperties properties, MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+        this.reconcileFailures = failureCounter(meterRegistry, "reconcile");
+        this.flushFailures = failureCounter(meterRegistry, "flush");
+    }
+
+    /**
+     * Rebuilds {@code course_seat} if enabled, then starts the periodic flush.
+     * <p>
+     * Until the rebuild succeeds counters are seeded by counting enrollments, so a table left
+     * stale by a crash is never trusted.
+     * </p>
+     */
+    @Override
+    public void afterPropertiesSet() {
+        Mono<Void> reconcile = properties.reconcileOnStartup()
+                ? reconcile()
+                        .doOnSuccess(done -> reconciled = true)
+                        .onErrorResume(ex -> failed(reconcileFailures, "reconcile", ex))
+                : Mono.empty();
+        flusher = reconcile
+                .thenMany(Flux.interval(properties.flushInterval()))
+                .concatMap(tick -> flush().onErrorResume(ex -> failed(flushFailures, "flush", ex)))
+                .subscribe();
+    }
+
+    /**
+     * Stops the periodic flush and writes the pending counters one last time.
+     */
+    @Override
+    public void destroy() {
+        if (flusher != null) {
+            flusher.dispose();
+        }
+        flush().onErrorResume(ex -> failed(flushFailures, "flush", ex))
+                .block(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Takes a seat if the counter of the pair is still below the capacity.
+     *
+     * @param courseId the ID of the course.
+     * @param periodId the ID of the period.
+     * @param capacity the maximum number of seats of the course.
+     * @return a {@link Mono} emitting {@code true} if the seat was taken, or {@code false} if the course is full.
+     */
+    @Override
+    public Mono<Boolean> reserve(UUID courseId, UUID periodId, int capacity) {
+        SeatKey key = new SeatKey(courseId, periodId);
+        return counter(key).map(taken -> {
+            int current;
+            do {
+                current = taken.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!taken.compareAndSet(current, current + 1));
+            dirty.add(key);
+            return true;
+        });
+    }
+
+    /**
+     * Gives a seat back, never going below zero.
+     *
+     * @param courseId the ID of the course.
+     * @param periodId the ID of the period.
+     * @return a {@link Mono} completing once the seat is released.
+     */
+    @Override
+    public Mono<Void> release(UUID courseId, UUID periodId) {
+        SeatKey key = new SeatKey(courseId, periodId);
+        return counter(key)
+                .doOnNext(taken -> {
+                    taken.getAndUpdate(current -> Math.max(current - 1, 0));
+                    dirty.add(key);
+                })
+                .then();
+    }
+
+    /**
+     * Returns the counter of a pair, seeding it from the database on first use.
+     * <p>
+     * A failed seed is not kept, so the next reservation tries again.
+     * </p>
+     *
+     * @param key the course and period of the counter.
+     * @return a {@link Mono} emitting the shared counter.
+     */
+    private Mono<AtomicInteger> counter(SeatKey key) {
+        return counters.computeIfAbsent(key, k -> Mono.defer(() -> reconciled ? selectTaken(k).switchIfEmpty(countTaken(k)) : countTaken(k))
+                .map(AtomicInteger::new)
+                .doOnNext(taken -> seeded.put(k, taken))
+                .doOnError(ex -> counters.remove(k))
+                .cache());
+    }
+
+    private Mono<Integer> selectTaken(SeatKey key) {
+        return databaseClient.sql(SELECT_TAKEN)
+                .bind("courseId", key.courseId())
+                .bind("periodId", key.periodId())
+                .map(row -> row.get(0, Integer.class))
+                .one();
+    }
+
+    private Mono<Integer> countTaken(SeatKey key) {
+        return databaseClient.sql(COUNT_TAKEN)
+                .bind("courseId", key.courseId())
+                .bind("periodId", key.periodId())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .defaultIfEmpty(0L)
+                .map(Long::intValue);
+    }
+
+    /**
+     * Writes every changed counter to {@code course_seat}.
+     * <p>
+     * Keys are removed from the dirty set before their value is read, so a reservation made
+     * while the batch is being written marks the key again and is picked up by the next flush.
+     * If a batch fails its keys are marked dirty again.
+     * </p>
+     *
+     * @return a {@link Mono} completing once all batches are written.
+     */
+    Mono<Void> flush() {
+        List<SeatKey> pending = new ArrayList<>();
+        Iterator<SeatKey> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            pending.add(iterator.next());
+            iterator.remove();
+        }
+        if (pending.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(pending)
+                .buffer(properties.flushBatchSize())
+                .concatMap(batch -> write(batch)
+                        .doOnError(ex -> dirty.addAll(batch))
+                )
+                .then();
+    }
+
+    private Mono<Void> write(List<SeatKey> batch) {
+        List<UUID> courseIds = new ArrayList<>(batch.size());
+        List<UUID> periodIds = new ArrayList<>(batch.size());
+        List<Integer> taken = new ArrayList<>(batch.size());
+        for (SeatKey key : batch) {
+            courseIds.add(key.courseId());
+            periodIds.add(key.periodId());
+            taken.add(seeded.get(key).get());
+        }
+        return databaseClient.sql(UPSERT_SEATS)
+                .bind("courseId", courseIds.toArray(UUID[]::new))
+                .bind("periodId", periodIds.toArray(UUID[]::new))
+                .bind("taken", taken.toArray(Integer[]::new))
+                .then();
+    }
+
+    private Mono<Void> reconcile() {
+        return databaseClient.sql(RECONCILE_SEATS).then();
+    }
+
+    private Mono<Void> failed(Counter failures, String operation, Throwable ex) {
+        failures.increment();
+        LOG.warn("Seat {} failed; course_seat may lag behind the in-memory counters", operation, ex);
+        return Mono.empty();
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder(FAILURE_METRIC)
+                .description("Failed writes of the seat counters to course_seat")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Identifies the seats of a course in a period.
+     *
+     * @param courseId the ID of the course.
+     * @param periodId the ID of the period.
+     */
+    private record SeatKey(UUID courseId, UUID periodId) {
+    }
+}
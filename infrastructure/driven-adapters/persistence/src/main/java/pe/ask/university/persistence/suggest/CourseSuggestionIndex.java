@@ -0,0 +1,156 @@
+package pe.ask.university.persistence.suggest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.persistence.config.SuggestionProperties;
+import pe.ask.university.persistence.reader.CourseRowReader;
+import pe.ask.university.port.out.persistence.ICourseSuggestionRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory implementation of the {@link ICourseSuggestionRepository} port.
+ * <p>
+ * The summary columns of the whole course table are loaded at startup into a
+ * {@link CourseSuggestions} index, so suggestions are answered from memory without touching
+ * the database. Courses saved on this instance are added as soon as they are indexed, and the
+ * index is rebuilt from the database every {@code adapters.persistence.suggestions.refresh-interval}
+ * to pick up courses saved by other instances. Courses indexed or changed while a rebuild is
+ * reading the table are carried over into the rebuilt index, so the rebuild cannot bring back a
+ * stale row.
+ * </p>
+ * <p>
+ * A failed load is logged at {@code WARN}. The startup load is retried with an exponential
+ * backoff capped at the refresh interval, since until it succeeds every suggestion is empty;
+ * a failed refresh keeps the previous index until the next one. The number of indexed courses
+ * is published as the {@code course.suggestions.size} gauge, so an empty index is visible.
+ * </p>
+ * <p>
+ * Indexes are replaced atomically and never mutated, so lookups need no locking. Callers
+ * receive copies of the indexed courses.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Repository
+public class CourseSuggestionIndex implements ICourseSuggestionRepository, InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CourseSuggestionIndex.class);
+    private static final String SIZE_METRIC = "course.suggestions.size";
+    private static final Duration FIRST_RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private static final String SELECT_ALL = "SELECT %s FROM course".formatted(CourseRowReader.SUMMARY_COLUMNS);
+
+    private final DatabaseClient databaseClient;
+    private final Duration refreshInterval;
+    private final AtomicReference<CourseSuggestions> suggestions = new AtomicReference<>(CourseSuggestions.EMPTY);
+    private Disposable refresher;
+
+    /**
+     * Constructs a new {@code CourseSuggestionIndex}.
+     *
+     * @param databaseClient       the client used to load the course table.
+     * @param suggestionProperties the suggestion settings, used for the refresh interval.
+     * @param meterRegistry        the registry the index size is published to.
+     */
+    public CourseSuggestionIndex(DatabaseClient databaseClient, SuggestionProperties suggestionProperties, MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.refreshInterval = suggestionProperties.refreshInterval();
+        Gauge.builder(SIZE_METRIC, suggestions, current -> current.get().size())
+                .description("Courses held by the in-memory suggestion index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the index, retrying until it succeeds, then starts the periodic refresh.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        Mono<Void> firstLoad = refresh()
+                .doOnError(ex -> LOG.warn("Loading the course suggestion index failed; retrying", ex))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, FIRST_RETRY_BACKOFF).maxBackoff(refreshInterval));
+        refresher = firstLoad
+                .thenMany(Flux.interval(refreshInterval, refreshInterval))
+                .concatMap(tick -> refresh().onErrorResume(ex -> {
+                    LOG.warn("Refreshing the course suggestion index failed; keeping the previous one", ex);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    /**
+     * Stops the periodic refresh.
+     */
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Finds the courses whose code, name or any word of them starts with a prefix, from memory.
+     *
+     * @param prefix the normalized text typed so far.
+     * @param limit  the maximum number of courses to emit.
+     * @return a {@link Flux} emitting the matching courses, code and name matches first.
+     */
+    @Override
+    public Flux<Course> suggestCourses(String prefix, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(suggestions.get().suggest(prefix, limit)))
+                .map(this::copy);
+    }
+
+    /**
+     * Adds a saved course to the index.
+     *
+     * @param course the saved course.
+     * @return a {@link Mono} that completes once the course is published in the index.
+     */
+    @Override
+    public Mono<Void> indexCourse(Course course) {
+        return Mono.fromRunnable(() -> suggestions.updateAndGet(current -> current.with(course)));
+    }
+
+    /**
+     * Reloads the course table and swaps it in as the new index.
+     *
+     * @return a {@link Mono} completing once the new index is published.
+     */
+    Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            CourseSuggestions before = suggestions.get();
+            return databaseClient.sql(SELECT_ALL)
+                    .map(CourseRowReader::readSummary)
+                    .all()
+                    .collectList()
+                    .doOnNext(courses -> suggestions.updateAndGet(current -> reloaded(courses, current.changedSince(before))));
+        }).then();
+    }
+
+    private CourseSuggestions reloaded(List<Course> loaded, List<Course> indexedMeanwhile) {
+        List<Course> courses = new ArrayList<>(loaded.size() + indexedMeanwhile.size());
+        courses.addAll(loaded);
+        courses.addAll(indexedMeanwhile);
+        return CourseSuggestions.of(courses);
+    }
+
+    private Course copy(Course course) {
+        return course.toBuilder().build();
+    }
+}
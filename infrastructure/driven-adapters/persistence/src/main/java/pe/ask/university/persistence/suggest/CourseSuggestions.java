@@ -0,0 +1,194 @@
+package pe.ask.university.persistence.suggest;
+
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.utils.SearchText;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable prefix index over the name and code of a set of courses.
+ * <p>
+ * Every course contributes a few keys, all normalized with {@link SearchText#normalize(String)},
+ * the same normalization the use case applies to the prefix: its code
+ * and name in a leading array, and every other word start of them (the {@code 101} of
+ * {@code math-101}, the {@code programming} of {@code introduction to programming}) in an inner
+ * array. Both arrays are sorted, so a lookup is a binary search for the first key not below the
+ * prefix followed by a scan that stops at the first key not starting with it or once enough
+ * courses are found. Leading matches are suggested before inner ones, each group in key order.
+ * </p>
+ * <p>
+ * Instances are never mutated. {@link #with(Course)} rebuilds the arrays, which is fine for
+ * the rare course writes but means the index is meant to be swapped atomically by its owner.
+ * Only the ID, name, code and creation date of each course are kept.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class CourseSuggestions {
+
+    public static final CourseSuggestions EMPTY = new CourseSuggestions(Map.of());
+
+    private static final Comparator<Entry> BY_KEY = Comparator.comparing(Entry::key)
+            .thenComparing(entry -> entry.course().getCode(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<UUID, Course> byId;
+    private final Entry[] leading;
+    private final Entry[] inner;
+
+    private CourseSuggestions(Map<UUID, Course> byId) {
+        List<Entry> leadingEntries = new ArrayList<>();
+        List<Entry> innerEntries = new ArrayList<>();
+        for (Course course : byId.values()) {
+            addKeys(course, course.getCode(), leadingEntries, innerEntries);
+            addKeys(course, course.getName(), leadingEntries, innerEntries);
+        }
+        this.byId = byId;
+        this.leading = leadingEntries.toArray(Entry[]::new);
+        this.inner = innerEntries.toArray(Entry[]::new);
+        Arrays.sort(this.leading, BY_KEY);
+        Arrays.sort(this.inner, BY_KEY);
+    }
+
+    /**
+     * Builds an index over a set of courses. Courses without an ID are ignored and, for a
+     * repeated ID, the last course wins.
+     *
+     * @param courses the courses to index.
+     * @return the new index.
+     */
+    public static CourseSuggestions of(Collection<Course> courses) {
+        Map<UUID, Course> byId = new HashMap<>();
+        for (Course course : courses) {
+            if (course.getId() != null) {
+                byId.put(course.getId(), summaryOf(course));
+            }
+        }
+        return new CourseSuggestions(Map.copyOf(byId));
+    }
+
+    /**
+     * Returns an index that also holds the given course, replacing any course with the same ID.
+     *
+     * @param course the course to add.
+     * @return the new index, or this one if the course has no ID.
+     */
+    public CourseSuggestions with(Course course) {
+        if (course.getId() == null) {
+            return this;
+        }
+        Map<UUID, Course> next = new HashMap<>(byId);
+        next.put(course.getId(), summaryOf(course));
+        return new CourseSuggestions(Map.copyOf(next));
+    }
+
+    /**
+     * Returns the courses held by this index that an earlier one did not hold, or held with a
+     * different name, code or creation date.
+     *
+     * @param earlier an index this one was derived from.
+     * @return the courses added or changed since {@code earlier}.
+     */
+    public List<Course> changedSince(CourseSuggestions earlier) {
+        return byId.values().stream()
+                .filter(course -> !sameSummary(course, earlier.byId.get(course.getId())))
+                .toList();
+    }
+
+    /**
+     * Returns the number of indexed courses.
+     *
+     * @return the number of courses.
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Finds the courses with a key starting with a prefix.
+     *
+     * @param prefix the normalized prefix.
+     * @param limit  the maximum number of courses to return.
+     * @return the matching courses, leading matches first, without duplicates.
+     */
+    public List<Course> suggest(String prefix, int limit) {
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<UUID, Course> found = new LinkedHashMap<>();
+        collect(leading, prefix, limit, found);
+        collect(inner, prefix, limit, found);
+        return List.copyOf(found.values());
+    }
+
+    private static void collect(Entry[] entries, String prefix, int limit, Map<UUID, Course> found) {
+        for (int i = firstNotBelow(entries, prefix); i < entries.length && found.size() < limit; i++) {
+            Entry entry = entries[i];
+            if (!entry.key().startsWith(prefix)) {
+                return;
+            }
+            found.putIfAbsent(entry.course().getId(), entry.course());
+        }
+    }
+
+    private static int firstNotBelow(Entry[] entries, String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].key().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void addKeys(Course course, String text, List<Entry> leadingEntries, List<Entry> innerEntries) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String key = SearchText.normalize(text);
+        leadingEntries.add(new Entry(key, course));
+        for (int i = 1; i < key.length(); i++) {
+            if (!Character.isLetterOrDigit(key.charAt(i - 1)) && Character.isLetterOrDigit(key.charAt(i))) {
+                innerEntries.add(new Entry(key.substring(i), course));
+            }
+        }
+    }
+
+    private static boolean sameSummary(Course course, Course other) {
+        return other != null
+                && Objects.equals(course.getName(), other.getName())
+                && Objects.equals(course.getCode(), other.getCode())
+                && Objects.equals(course.getCreatedAt(), other.getCreatedAt());
+    }
+
+    private static Course summaryOf(Course course) {
+        return Course.builder()
+                .id(course.getId())
+                .name(course.getName())
+                .code(course.getCode())
+                .createdAt(course.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * A key of the index and the course it points to.
+     *
+     * @param key    the normalized text.
+     * @param course the course.
+     */
+    private record Entry(String key, Course course) {
+    }
+}
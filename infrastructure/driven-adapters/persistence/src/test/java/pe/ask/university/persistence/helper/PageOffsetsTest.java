@@ -0,0 +1,26 @@
+package pe.ask.university.persistence.helper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageOffsetsTest {
+
+    @Test
+    void multipliesPageBySize() {
+        assertThat(PageOffsets.offset(0, 10)).isZero();
+        assertThat(PageOffsets.offset(3, 25)).isEqualTo(75L);
+    }
+
+    @Test
+    void treatsNegativeInputAsZero() {
+        assertThat(PageOffsets.offset(-1, 10)).isZero();
+        assertThat(PageOffsets.offset(5, -10)).isZero();
+    }
+
+    @Test
+    void doesNotOverflowForLargePages() {
+        assertThat(PageOffsets.offset(Integer.MAX_VALUE, Integer.MAX_VALUE)).isEqualTo(PageOffsets.MAX_OFFSET);
+        assertThat(PageOffsets.offset(Integer.MAX_VALUE / 10, 100)).isEqualTo(PageOffsets.MAX_OFFSET);
+    }
+}
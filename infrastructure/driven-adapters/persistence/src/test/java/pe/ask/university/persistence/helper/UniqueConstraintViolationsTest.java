@@ -0,0 +1,64 @@
+package pe.ask.university.persistence.helper;
+
+import io.r2dbc.postgresql.api.ErrorDetails;
+import io.r2dbc.postgresql.api.PostgresqlException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UniqueConstraintViolationsTest {
+
+    @Test
+    void returnsConstraintOfUniqueViolation() {
+        assertThat(UniqueConstraintViolations.constraintName(failure("23505", "uq_student_email")))
+                .contains("uq_student_email");
+    }
+
+    @Test
+    void findsUniqueViolationWrappedInOtherErrors() {
+        Throwable wrapped = new RuntimeException("wrapped", new IllegalStateException(failure("23505", "uq_student_dni")));
+
+        assertThat(UniqueConstraintViolations.constraintName(wrapped)).contains("uq_student_dni");
+    }
+
+    @Test
+    void returnsEmptyNameWhenServerReportsNoConstraint() {
+        assertThat(UniqueConstraintViolations.constraintName(failure("23505", null))).contains("");
+    }
+
+    @Test
+    void ignoresOtherPostgresErrors() {
+        assertThat(UniqueConstraintViolations.constraintName(failure("23503", "fk_enrollment_student"))).isEmpty();
+    }
+
+    @Test
+    void ignoresErrorsNotRaisedByPostgres() {
+        assertThat(UniqueConstraintViolations.constraintName(new IllegalStateException("boom"))).isEmpty();
+    }
+
+    private static Throwable failure(String code, String constraint) {
+        ErrorDetails details = mock(ErrorDetails.class);
+        when(details.getCode()).thenReturn(code);
+        when(details.getConstraintName()).thenReturn(Optional.ofNullable(constraint));
+        return new PostgresFailure(details);
+    }
+
+    private static final class PostgresFailure extends RuntimeException implements PostgresqlException {
+
+        private final transient ErrorDetails details;
+
+        private PostgresFailure(ErrorDetails details) {
+            super(details.getCode());
+            this.details = details;
+        }
+
+        @Override
+        public ErrorDetails getErrorDetails() {
+            return details;
+        }
+    }
+}
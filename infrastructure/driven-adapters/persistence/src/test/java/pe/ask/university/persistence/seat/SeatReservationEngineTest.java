@@ -0,0 +1,90 @@
+package pe.ask.university.persistence.seat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import pe.ask.university.persistence.config.SeatReservationProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatReservationEngineTest {
+
+    private static final UUID COURSE_ID = UUID.randomUUID();
+    private static final UUID PERIOD_ID = UUID.randomUUID();
+
+    private final DatabaseClient databaseClient = mock(DatabaseClient.class, RETURNS_DEEP_STUBS);
+    private final SeatReservationEngine engine = new SeatReservationEngine(
+            databaseClient,
+            new SeatReservationProperties(null, null, false),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    void reservesUntilCapacityIsReached() {
+        givenEnrollments(1);
+
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 3)).expectNext(true).verifyComplete();
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 3)).expectNext(true).verifyComplete();
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 3)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void releasedSeatCanBeReservedAgain() {
+        givenEnrollments(2);
+
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 2)).expectNext(false).verifyComplete();
+        StepVerifier.create(engine.release(COURSE_ID, PERIOD_ID)).verifyComplete();
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 2)).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    void releaseNeverGoesBelowZero() {
+        givenEnrollments(0);
+
+        StepVerifier.create(engine.release(COURSE_ID, PERIOD_ID).then(engine.release(COURSE_ID, PERIOD_ID))).verifyComplete();
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 1)).expectNext(true).verifyComplete();
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 1)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedCapacity() {
+        givenEnrollments(0);
+
+        Flux<Boolean> reservations = Flux.range(0, 200)
+                .flatMap(attempt -> engine.reserve(COURSE_ID, PERIOD_ID, 50).subscribeOn(Schedulers.parallel()));
+
+        StepVerifier.create(reservations.filter(Boolean::booleanValue).count())
+                .expectNext(50L)
+                .verifyComplete();
+    }
+
+    @Test
+    void retriesSeedingAfterFailure() {
+        when(databaseClient.sql(anyString()).bind(anyString(), any()).bind(anyString(), any()).map(any(Function.class)).one())
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")))
+                .thenReturn(Mono.<Object>just(0L));
+
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 1)).verifyError(IllegalStateException.class);
+        StepVerifier.create(engine.reserve(COURSE_ID, PERIOD_ID, 1)).expectNext(true).verifyComplete();
+    }
+
+    /**
+     * Answers the seeding query, which counts the enrollments of the pair while
+     * {@code course_seat} is not reconciled.
+     */
+    private void givenEnrollments(long count) {
+        when(databaseClient.sql(anyString()).bind(anyString(), any()).bind(anyString(), any()).map(any(Function.class)).one())
+                .thenReturn(Mono.<Object>just(count));
+    }
+}
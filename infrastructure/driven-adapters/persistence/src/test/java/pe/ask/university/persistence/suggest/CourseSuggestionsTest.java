@@ -0,0 +1,120 @@
+package pe.ask.university.persistence.suggest;
+
+import org.junit.jupiter.api.Test;
+import pe.ask.university.model.course.Course;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseSuggestionsTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    private final Course algorithms = course("Algorithms", "CS-201");
+    private final Course dataStructures = course("Data Structures", "CS-101");
+    private final Course linearAlgebra = course("Linear Algebra", "MA-110");
+    private final CourseSuggestions suggestions = CourseSuggestions.of(List.of(algorithms, dataStructures, linearAlgebra));
+
+    @Test
+    void ordersMatchesByKey() {
+        assertThat(ids(suggestions.suggest("cs", 10))).containsExactly(dataStructures.getId(), algorithms.getId());
+    }
+
+    @Test
+    void listsLeadingMatchesBeforeInnerWordMatches() {
+        assertThat(ids(suggestions.suggest("al", 10))).containsExactly(algorithms.getId(), linearAlgebra.getId());
+    }
+
+    @Test
+    void matchesWordsInsideNamesAndCodes() {
+        assertThat(ids(suggestions.suggest("struct", 10))).containsExactly(dataStructures.getId());
+        assertThat(ids(suggestions.suggest("201", 10))).containsExactly(algorithms.getId());
+    }
+
+    @Test
+    void doesNotMatchInsideWords() {
+        assertThat(suggestions.suggest("gorithms", 10)).isEmpty();
+    }
+
+    @Test
+    void stopsAtLimit() {
+        assertThat(ids(suggestions.suggest("cs", 1))).containsExactly(dataStructures.getId());
+    }
+
+    @Test
+    void returnsEachCourseOnce() {
+        Course alg = course("Algorithms", "ALG-1");
+
+        assertThat(ids(CourseSuggestions.of(List.of(alg)).suggest("al", 10))).containsExactly(alg.getId());
+    }
+
+    @Test
+    void returnsNothingForEmptyPrefixOrLimit() {
+        assertThat(suggestions.suggest("", 10)).isEmpty();
+        assertThat(suggestions.suggest("cs", 0)).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyTheSummaryOfEachCourse() {
+        Course detailed = new Course(UUID.randomUUID(), "Compilers", "CS-301", "Parsing and code generation", 40, CREATED_AT);
+
+        assertThat(CourseSuggestions.of(List.of(detailed)).suggest("comp", 10))
+                .singleElement()
+                .satisfies(found -> {
+                    assertThat(found.getName()).isEqualTo("Compilers");
+                    assertThat(found.getDescription()).isNull();
+                    assertThat(found.getCapacity()).isNull();
+                });
+    }
+
+    @Test
+    void ignoresCoursesWithoutId() {
+        CourseSuggestions index = CourseSuggestions.of(List.of(new Course(null, "Compilers", "CS-301", null, null, CREATED_AT)));
+
+        assertThat(index.size()).isZero();
+        assertThat(index.with(new Course(null, "Compilers", "CS-301", null, null, CREATED_AT))).isSameAs(index);
+    }
+
+    @Test
+    void replacesCourseWithSameId() {
+        Course renamed = new Course(algorithms.getId(), "Advanced Algorithms", "CS-201", null, null, CREATED_AT);
+
+        CourseSuggestions updated = suggestions.with(renamed);
+
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(ids(updated.suggest("adv", 10))).containsExactly(algorithms.getId());
+        assertThat(ids(updated.suggest("alg", 10))).containsExactly(linearAlgebra.getId(), algorithms.getId());
+        assertThat(updated.suggest("algorithms", 10)).singleElement()
+                .satisfies(found -> assertThat(found.getName()).isEqualTo("Advanced Algorithms"));
+    }
+
+    @Test
+    void reportsAddedAndChangedCourses() {
+        Course compilers = course("Compilers", "CS-301");
+        Course renamed = new Course(algorithms.getId(), "Advanced Algorithms", "CS-201", null, null, CREATED_AT);
+
+        CourseSuggestions updated = suggestions.with(compilers).with(renamed);
+
+        assertThat(ids(updated.changedSince(suggestions)))
+                .containsExactlyInAnyOrder(compilers.getId(), algorithms.getId());
+        assertThat(suggestions.changedSince(suggestions)).isEmpty();
+    }
+
+    @Test
+    void ignoresChangesOutsideTheSummary() {
+        Course resized = new Course(algorithms.getId(), "Algorithms", "CS-201", "New syllabus", 60, CREATED_AT);
+
+        assertThat(suggestions.with(resized).changedSince(suggestions)).isEmpty();
+    }
+
+    private static Course course(String name, String code) {
+        return new Course(UUID.randomUUID(), name, code, null, null, CREATED_AT);
+    }
+
+    private static List<UUID> ids(List<Course> courses) {
+        return courses.stream().map(Course::getId).toList();
+    }
+}
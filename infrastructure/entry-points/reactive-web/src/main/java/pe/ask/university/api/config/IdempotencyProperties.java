@@ -0,0 +1,29 @@
+package pe.ask.university.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "entry-points.reactive-web.idempotency")
+public record IdempotencyProperties(
+        Long maximumSize,
+        Duration ttl,
+        Integer maxKeyLength,
+        DataSize maxBodySize) {
+
+    public IdempotencyProperties {
+        if (maximumSize == null) {
+            maximumSize = 10_000L;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofHours(1);
+        }
+        if (maxKeyLength == null) {
+            maxKeyLength = 255;
+        }
+        if (maxBodySize == null) {
+            maxBodySize = DataSize.ofKilobytes(256);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package pe.ask.university.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pe.ask.university.api.utils.exception.IdempotencyKeyReusedException;
+import pe.ask.university.api.utils.exception.RequestBodyTooLargeException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.api.utils.routes.CourseRoutes;
+import pe.ask.university.api.utils.routes.EnrollmentRoutes;
+import pe.ask.university.api.utils.routes.PeriodRoutes;
+import pe.ask.university.api.utils.routes.StudentRoutes;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Makes the create endpoints safe to retry with an {@code Idempotency-Key} header.
+ * <p>
+ * Applies to {@code POST} on the student, course, period and enrollment save routes. Requests
+ * without the header are passed through unchanged. The first request with a given key runs
+ * normally; if it answers with a 2xx status, its status, headers and body are kept in a bounded
+ * in-memory LRU for {@code entry-points.reactive-web.idempotency.ttl}. A later request with the
+ * same key and the same body gets that response back immediately, with the
+ * {@code Idempotent-Replayed: true} header, and never reaches the handler.
+ * </p>
+ * <p>
+ * A request arriving while the first one is still in flight waits for it instead of running
+ * a second time. If the first request fails or is cancelled, nothing is stored and the waiting
+ * request runs on its own. Reusing a key with a different body is rejected with
+ * {@link IdempotencyKeyReusedException}. In-flight calls are tracked apart from the bounded
+ * store and only moved into it once they succeed, so eviction can never let a duplicate run
+ * while the first call is still going.
+ * </p>
+ * <p>
+ * The body is read into memory to fingerprint it, up to {@code max-body-size}; a larger body
+ * is rejected with {@link RequestBodyTooLargeException} before it reaches the handler.
+ * </p>
+ * <p>
+ * Keys are scoped by path, so the same key may be used against different endpoints. The store
+ * is local to the instance; hit and miss counters are published under the {@code cache}
+ * prefix, tagged {@code cache=http.idempotency}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+public class IdempotencyWebFilter implements WebFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of(
+            StudentRoutes.SAVE_STUDENT,
+            CourseRoutes.SAVE_COURSE,
+            PeriodRoutes.SAVE_PERIOD,
+            EnrollmentRoutes.SAVE_ENROLLMENT
+    );
+
+    private final Cache<String, CompletedCall> completed;
+    private final ConcurrentMap<String, IdempotentCall> pending = new ConcurrentHashMap<>();
+    private final int maxKeyLength;
+    private final int maxBodySize;
+
+    /**
+     * Constructs a new {@code IdempotencyWebFilter}.
+     *
+     * @param properties    the size, expiration, key and body length settings.
+     * @param meterRegistry the registry the store statistics are published to.
+     */
+    public IdempotencyWebFilter(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.maxKeyLength = properties.maxKeyLength();
+        this.maxBodySize = Math.toIntExact(properties.maxBodySize().toBytes());
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "http.idempotency");
+    }
+
+    @NonNull
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        String key = request.getHeaders().getFirst(IDEMPOTENCY_KEY);
+        if (key == null || !HttpMethod.POST.equals(request.getMethod()) || !IDEMPOTENT_PATHS.contains(path)) {
+            return chain.filter(exchange);
+        }
+        if (key.isBlank() || key.length() > maxKeyLength) {
+            return Mono.error(new ValidationException(Map.of(IDEMPOTENCY_KEY, "Must be between 1 and " + maxKeyLength + " characters")));
+        }
+        return DataBufferUtils.join(request.getBody(), maxBodySize)
+                .onErrorMap(DataBufferLimitException.class, ex -> new RequestBodyTooLargeException())
+                .map(IdempotencyWebFilter::readAndRelease)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> execute(exchange, chain, path + " " + key, body));
+    }
+
+    /**
+     * Runs the request as the owner of the key, or replays or waits for the call that owns it.
+     *
+     * @param exchange the current exchange.
+     * @param chain    the rest of the filter chain.
+     * @param scope    the key prefixed with the path.
+     * @param body     the request body, already read.
+     * @return a {@link Mono} completing once the response is written.
+     */
+    private Mono<Void> execute(ServerWebExchange exchange, WebFilterChain chain, String scope, byte[] body) {
+        String fingerprint = fingerprint(body);
+        CompletedCall done = completed.getIfPresent(scope);
+        if (done != null) {
+            return replayCompleted(exchange, done, fingerprint);
+        }
+        IdempotentCall call = new IdempotentCall(fingerprint, Sinks.one());
+        IdempotentCall existing = pending.putIfAbsent(scope, call);
+        if (existing == null) {
+            done = completed.getIfPresent(scope);
+            if (done != null) {
+                pending.remove(scope, call);
+                call.response().tryEmitEmpty();
+                return replayCompleted(exchange, done, fingerprint);
+            }
+            return proceed(exchange, chain, scope, call, body);
+        }
+        if (!existing.fingerprint().equals(fingerprint)) {
+            return Mono.error(new IdempotencyKeyReusedException());
+        }
+        return existing.response().asMono()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(stored -> stored.isPresent()
+                        ? replay(exchange.getResponse(), stored.get())
+                        : execute(exchange, chain, scope, body)
+                );
+    }
+
+    private Mono<Void> replayCompleted(ServerWebExchange exchange, CompletedCall done, String fingerprint) {
+        if (!done.fingerprint().equals(fingerprint)) {
+            return Mono.error(new IdempotencyKeyReusedException());
+        }
+        return replay(exchange.getResponse(), done.response());
+    }
+
+    /**
+     * Runs the request and records its response if it succeeded.
+     * <p>
+     * A successful response is stored before the call stops being pending, so a new request
+     * always finds one or the other. On any other outcome the key is released and the callers
+     * waiting on it are told to run the request themselves.
+     * </p>
+     *
+     * @param exchange the current exchange.
+     * @param chain    the rest of the filter chain.
+     * @param scope    the key prefixed with the path.
+     * @param call     the call registered for the key.
+     * @param body     the request body, already read.
+     * @return a {@link Mono} completing once the response is written.
+     */
+    private Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain, String scope, IdempotentCall call, byte[] body) {
+        CapturingResponse response = new CapturingResponse(exchange.getResponse());
+        ServerWebExchange mutated = exchange.mutate()
+                .request(new ReplayedRequest(exchange.getRequest(), body))
+                .response(response)
+                .build();
+        return chain.filter(mutated)
+                .doFinally(signal -> {
+                    StoredResponse stored = response.stored();
+                    if (stored != null && stored.status().is2xxSuccessful()) {
+                        completed.put(scope, new CompletedCall(call.fingerprint(), stored));
+                        pending.remove(scope, call);
+                        call.response().tryEmitValue(stored);
+                    } else {
+                        pending.remove(scope, call);
+                        call.response().tryEmitEmpty();
+                    }
+                });
+    }
+
+    private Mono<Void> replay(ServerHttpResponse response, StoredResponse stored) {
+        response.setStatusCode(stored.status());
+        response.getHeaders().putAll(stored.headers());
+        response.getHeaders().set(IDEMPOTENT_REPLAYED, "true");
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(stored.body())));
+    }
+
+    private static byte[] readAndRelease(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A request in flight for a key, identified by the hash of its body.
+     *
+     * @param fingerprint the SHA-256 of the request body.
+     * @param response    completes with the stored response, or empty if the request did not succeed.
+     */
+    private record IdempotentCall(String fingerprint, Sinks.One<StoredResponse> response) {
+    }
+
+    /**
+     * A request that succeeded for a key, kept for replay.
+     *
+     * @param fingerprint the SHA-256 of the request body.
+     * @param response    the stored response.
+     */
+    private record CompletedCall(String fingerprint, StoredResponse response) {
+    }
+
+    /**
+     * A response kept for replay.
+     *
+     * @param status  the status of the response.
+     * @param headers the headers of the response.
+     * @param body    the body of the response.
+     */
+    private record StoredResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * Serves the body that was already read to compute the fingerprint.
+     */
+    private static final class ReplayedRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        ReplayedRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @NonNull
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+
+    /**
+     * Keeps a copy of the status, headers and body written by the handler.
+     */
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final AtomicReference<StoredResponse> stored = new AtomicReference<>();
+
+        CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @NonNull
+        @Override
+        public Mono<Void> writeWith(@NonNull Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                    .map(IdempotencyWebFilter::readAndRelease)
+                    .flatMap(bytes -> {
+                        HttpStatusCode status = getStatusCode() != null ? getStatusCode() : HttpStatusCode.valueOf(200);
+                        HttpHeaders headers = new HttpHeaders();
+                        headers.putAll(getHeaders());
+                        stored.set(new StoredResponse(status, headers, bytes));
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        StoredResponse stored() {
+            return stored.get();
+        }
+    }
+}
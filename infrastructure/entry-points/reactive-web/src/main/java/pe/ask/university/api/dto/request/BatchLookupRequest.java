@@ -0,0 +1,24 @@
+package pe.ask.university.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Request body for looking up several records by ID")
+public record BatchLookupRequest(
+        @ArraySchema(
+                schema = @Schema(description = "ID to look up", example = "123e4567-e89b-12d3-a456-426614174000"),
+                minItems = 1,
+                maxItems = BatchLookupRequest.MAX_IDS
+        )
+        @NotEmpty(message = "IDs cannot be empty")
+        @Size(max = BatchLookupRequest.MAX_IDS, message = "No more than " + BatchLookupRequest.MAX_IDS + " IDs can be looked up at once")
+        List<@NotNull(message = "IDs cannot be null") UUID> ids
+) {
+    public static final int MAX_IDS = 1000;
+}
@@ -2,6 +2,7 @@ package pe.ask.university.api.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 @Schema(description = "Request body for creating a new course")
 public record CourseRequest(
@@ -14,6 +15,10 @@ public record CourseRequest(
         String code,
 
         @Schema(description = "Description of the course", example = "An introductory course to mathematics")
-        String description
+        String description,
+
+        @Schema(description = "Maximum number of students per period, or null for no limit", example = "40")
+        @Positive(message = "Capacity must be greater than zero")
+        Integer capacity
 ) {
 }
@@ -0,0 +1,29 @@
+package pe.ask.university.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Historical enrollment record for a bulk load")
+public record EnrollmentLoadRequest(
+        @Schema(description = "ID of the enrollment; generated when omitted", example = "123e4567-e89b-12d3-a456-426614174003")
+        UUID id,
+
+        @Schema(description = "ID of the student", example = "123e4567-e89b-12d3-a456-426614174000")
+        @NotNull(message = "Student ID cannot be null")
+        UUID studentId,
+
+        @Schema(description = "ID of the course", example = "123e4567-e89b-12d3-a456-426614174001")
+        @NotNull(message = "Course ID cannot be null")
+        UUID courseId,
+
+        @Schema(description = "ID of the period", example = "123e4567-e89b-12d3-a456-426614174002")
+        @NotNull(message = "Period ID cannot be null")
+        UUID periodId,
+
+        @Schema(description = "Original enrollment date; the load time is used when omitted", example = "2019-03-01T09:30:00")
+        LocalDateTime createdAt
+) {
+}
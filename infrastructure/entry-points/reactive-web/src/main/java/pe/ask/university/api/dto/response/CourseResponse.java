@@ -11,6 +11,9 @@ public record CourseResponse(
         String code,
 
         @Schema(description = "Description of the course", example = "An introductory course to mathematics")
-        String description
+        String description,
+
+        @Schema(description = "Maximum number of students per period, or null for no limit", example = "40")
+        Integer capacity
 ) {
 }
@@ -0,0 +1,13 @@
+package pe.ask.university.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response body for a course in a summary listing (fields=summary)")
+public record CourseSummaryResponse(
+        @Schema(description = "Name of the course", example = "Mathematics")
+        String name,
+
+        @Schema(description = "Unique code of the course", example = "MATH-101")
+        String code
+) {
+}
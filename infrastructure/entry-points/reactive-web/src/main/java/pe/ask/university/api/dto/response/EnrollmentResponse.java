@@ -1,10 +1,12 @@
 package pe.ask.university.api.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.UUID;
 
 @Schema(description = "Response body for an enrollment")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record EnrollmentResponse(
         @Schema(description = "ID of the student", example = "123e4567-e89b-12d3-a456-426614174000")
         UUID studentId,
@@ -12,7 +14,16 @@ public record EnrollmentResponse(
         @Schema(description = "ID of the course", example = "123e4567-e89b-12d3-a456-426614174001")
         UUID courseId,
 
+        @Schema(description = "Name of the course, present only in the detail view", example = "Algorithms and Data Structures")
+        String courseName,
+
+        @Schema(description = "Code of the course, present only in the detail view", example = "CS201")
+        String courseCode,
+
         @Schema(description = "ID of the period", example = "123e4567-e89b-12d3-a456-426614174002")
-        UUID periodId
+        UUID periodId,
+
+        @Schema(description = "Name of the period, present only in the detail view", example = "2025-I")
+        String periodName
 ) {
 }
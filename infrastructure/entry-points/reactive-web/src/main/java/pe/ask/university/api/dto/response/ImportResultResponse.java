@@ -0,0 +1,24 @@
+package pe.ask.university.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Outcome of a single row of a bulk import")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportResultResponse(
+        @Schema(description = "Zero-based position of the row in the request body", example = "0")
+        long row,
+
+        @Schema(description = "Outcome of the row", example = "CREATED", allowableValues = {"CREATED", "DUPLICATED", "INVALID"})
+        String status,
+
+        @Schema(description = "ID of the created record, present only when the row was created", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID id,
+
+        @Schema(description = "Reasons why the row was not created, keyed by field")
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,22 @@
+package pe.ask.university.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Progress of a bulk load, reported after each committed chunk")
+public record LoadProgressResponse(
+        @Schema(description = "Sequence number of the committed chunk", example = "3")
+        long chunk,
+
+        @Schema(description = "Rows written by this chunk", example = "50000")
+        long chunkRows,
+
+        @Schema(description = "Rows written so far", example = "150000")
+        long totalRows,
+
+        @Schema(description = "Milliseconds since the load started", example = "4120")
+        long elapsedMillis,
+
+        @Schema(description = "Average throughput so far", example = "36407")
+        long rowsPerSecond
+) {
+}
@@ -0,0 +1,20 @@
+package pe.ask.university.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Outcome of looking up a single ID of a batch")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LookupResultResponse<T>(
+        @Schema(description = "Requested ID", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+
+        @Schema(description = "Whether a record with this ID exists", example = "true")
+        boolean found,
+
+        @Schema(description = "The record, present only when it was found")
+        T value
+) {
+}
@@ -0,0 +1,16 @@
+package pe.ask.university.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response body for a student in a summary listing (fields=summary)")
+public record StudentSummaryResponse(
+        @Schema(description = "Name of the student", example = "John")
+        String name,
+
+        @Schema(description = "Surname of the student", example = "Doe")
+        String surname,
+
+        @Schema(description = "Email of the student", example = "john.doe@example.com")
+        String email
+) {
+}
@@ -6,13 +6,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import pe.ask.university.api.dto.response.CourseResponse;
+import pe.ask.university.api.dto.response.CourseSummaryResponse;
 import pe.ask.university.api.mapper.ICourseMapper;
 import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.model.course.Course;
 import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.Projection;
 import pe.ask.university.model.utils.exception.BaseException;
 import pe.ask.university.port.in.usecase.course.IGetAllCoursesUseCase;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Handles the HTTP GET request for retrieving all courses with pagination.
  * <p>
@@ -36,9 +43,9 @@ public class GetAllCoursesHandler {
      * <p>
      * This method orchestrates the flow for fetching courses:
      * <ol>
-     *     <li>Extracts pagination parameters ('page' and 'size') from the request's query parameters.</li>
+     *     <li>Extracts pagination parameters ('page', 'size' and the optional 'cursor') and the 'fields' projection from the request's query parameters.</li>
      *     <li>Invokes the {@link IGetAllCoursesUseCase} to get a paginated list of courses.</li>
-     *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link CourseResponse} DTOs.</li>
+     *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link CourseResponse} DTOs, or of {@link CourseSummaryResponse} DTOs with {@code fields=summary}.</li>
      *     <li>Builds a {@link ServerResponse} with status 200 (OK) and the paginated response body.</li>
      * </ol>
      * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
@@ -50,19 +57,14 @@ public class GetAllCoursesHandler {
     public Mono<ServerResponse> listenGETAllCoursesUseCase(ServerRequest serverRequest) {
         int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
         int size = Integer.parseInt(serverRequest.queryParam("size").orElse("10"));
+        String cursor = serverRequest.queryParam("cursor").orElse(null);
 
-        return useCase.getAllCourses(page, size)
-                .map(pageable -> Pageable.<CourseResponse>builder()
-                        .page(pageable.getPage())
-                        .size(pageable.getSize())
-                        .totalElements(pageable.getTotalElements())
-                        .totalPages(pageable.getTotalPages())
-                        .content(
-                                pageable.getContent().stream()
-                                        .map(mapper::toResponse)
-                                        .toList()
-                        )
-                        .build()
+        return Mono.fromCallable(() -> Projection.fromValue(serverRequest.queryParam("fields").orElse(null)))
+                .onErrorMap(IllegalArgumentException.class, ex -> new ValidationException(
+                        Map.of("fields", "Must be one of FULL or SUMMARY")
+                ))
+                .flatMap(projection -> useCase.getAllCourses(page, size, cursor, projection)
+                        .map(pageable -> toResponse(pageable, projection))
                 )
                 .flatMap(response ->
                         ServerResponse
@@ -74,4 +76,30 @@ public class GetAllCoursesHandler {
                         Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
                 );
     }
+
+    /**
+     * Maps a page of courses to the response DTOs of the requested projection.
+     *
+     * @param pageable   The page returned by the use case.
+     * @param projection The projection that was requested.
+     * @return The page with its content mapped to {@link CourseResponse} or {@link CourseSummaryResponse}.
+     */
+    private Pageable<?> toResponse(Pageable<Course> pageable, Projection projection) {
+        if (projection == Projection.SUMMARY) {
+            return withContent(pageable, pageable.getContent().stream().map(mapper::toSummaryResponse).toList());
+        }
+        return withContent(pageable, pageable.getContent().stream().map(mapper::toResponse).toList());
+    }
+
+    private static <T> Pageable<T> withContent(Pageable<Course> pageable, List<T> content) {
+        return Pageable.<T>builder()
+                .page(pageable.getPage())
+                .size(pageable.getSize())
+                .totalElements(pageable.getTotalElements())
+                .totalPages(pageable.getTotalPages())
+                .nextCursor(pageable.getNextCursor())
+                .countStrategy(pageable.getCountStrategy())
+                .content(content)
+                .build();
+    }
 }
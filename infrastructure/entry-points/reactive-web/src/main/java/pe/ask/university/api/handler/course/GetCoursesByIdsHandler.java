@@ -0,0 +1,70 @@
+package pe.ask.university.api.handler.course;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.request.BatchLookupRequest;
+import pe.ask.university.api.dto.response.LookupResultResponse;
+import pe.ask.university.api.mapper.ICourseMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.validator.CustomValidator;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.course.IGetCoursesByIdsUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP POST request for retrieving several courses by their IDs.
+ * <p>
+ * This handler resolves a batch of IDs with a single use case call, so clients that need
+ * many courses do not have to issue one request per ID.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class GetCoursesByIdsHandler {
+
+    private final IGetCoursesByIdsUseCase useCase;
+    private final ICourseMapper mapper;
+    private final CustomValidator validator;
+
+    /**
+     * Listens for and processes the POST request to retrieve courses by their IDs.
+     * <p>
+     * This method orchestrates the flow for the batch lookup:
+     * <ol>
+     *     <li>Extracts the {@link BatchLookupRequest} from the request body.</li>
+     *     <li>Validates it with {@link CustomValidator}: at least one and at most
+     *     {@value BatchLookupRequest#MAX_IDS} IDs.</li>
+     *     <li>Invokes the {@link IGetCoursesByIdsUseCase} with the requested IDs.</li>
+     *     <li>Builds a {@link ServerResponse} with status 200 (OK) and one {@link LookupResultResponse}
+     *     per requested ID, in request order, with {@code found: false} for unknown IDs.</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request containing the IDs to look up.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenPOSTGetCoursesByIdsUseCase(ServerRequest serverRequest) {
+        return serverRequest.bodyToMono(BatchLookupRequest.class)
+                .flatMap(validator::validate)
+                .flatMap(request -> useCase.getCoursesByIds(request.ids())
+                        .map(mapper::toResponse)
+                        .collectList()
+                )
+                .flatMap(response ->
+                        ServerResponse
+                                .ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(response)
+                )
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
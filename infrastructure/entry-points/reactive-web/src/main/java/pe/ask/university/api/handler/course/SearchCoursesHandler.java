@@ -0,0 +1,68 @@
+package pe.ask.university.api.handler.course;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.CourseResponse;
+import pe.ask.university.api.mapper.ICourseMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.course.ISearchCoursesUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP GET request for searching courses by text.
+ * <p>
+ * This handler streams the matches of {@link ISearchCoursesUseCase}, best match first, as a
+ * JSON array or, for clients that accept {@code application/x-ndjson}, one JSON document per line.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchCoursesHandler {
+
+    private final ISearchCoursesUseCase useCase;
+    private final ICourseMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to search courses.
+     * <p>
+     * This method orchestrates the flow for searching courses:
+     * <ol>
+     *     <li>Extracts the search text 'q' and the 'page' and 'size' parameters from the request's query parameters.</li>
+     *     <li>Invokes the {@link ISearchCoursesUseCase} to get the matching courses as a {@link Flux}.</li>
+     *     <li>Writes each course as a {@link CourseResponse} with status 200 (OK) as soon as it is read.</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request, containing the search text and pagination query parameters.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETSearchCoursesUseCase(ServerRequest serverRequest) {
+        String query = serverRequest.queryParam("q").orElse(null);
+        int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
+        int size = Integer.parseInt(serverRequest.queryParam("size").orElse("20"));
+        MediaType contentType = serverRequest.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+
+        Flux<CourseResponse> courses = useCase.searchCourses(query, page, size)
+                .map(mapper::toResponse)
+                .onErrorMap(ex -> ex instanceof BaseException ? ex : new UnexpectedException(ex));
+
+        return ServerResponse
+                .ok()
+                .contentType(contentType)
+                .body(courses, CourseResponse.class)
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
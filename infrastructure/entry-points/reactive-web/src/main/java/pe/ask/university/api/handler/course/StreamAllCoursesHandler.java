@@ -0,0 +1,57 @@
+package pe.ask.university.api.handler.course;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.CourseResponse;
+import pe.ask.university.api.mapper.ICourseMapper;
+import pe.ask.university.api.utils.stream.ListingStreams;
+import pe.ask.university.model.course.Course;
+import pe.ask.university.model.utils.Cursor;
+import pe.ask.university.port.in.usecase.course.IStreamAllCoursesUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP GET request for streaming all courses.
+ * <p>
+ * This handler serves the same listing as {@link GetAllCoursesHandler} for clients that accept
+ * {@code application/x-ndjson} or {@code text/event-stream}. Each course is written as soon as
+ * it is read, without collecting the page or counting the courses.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamAllCoursesHandler {
+
+    private final IStreamAllCoursesUseCase useCase;
+    private final ICourseMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to stream all courses.
+     * <p>
+     * Pagination, content negotiation and error handling are done by {@link ListingStreams}; this
+     * handler supplies the {@link IStreamAllCoursesUseCase}, the mapping to {@link CourseResponse} and
+     * the cursor pointing after each course, used as the event ID.
+     * </p>
+     *
+     * @param serverRequest The incoming server request, which may contain pagination query parameters.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETStreamAllCoursesUseCase(ServerRequest serverRequest) {
+        return ListingStreams.respond(
+                serverRequest,
+                useCase::streamAllCourses,
+                mapper::toResponse,
+                CourseResponse.class,
+                this::cursorAfter
+        );
+    }
+
+    private Cursor cursorAfter(Course course) {
+        return course.getCreatedAt() != null ? Cursor.of(course.getCreatedAt(), course.getId()) : null;
+    }
+}
@@ -0,0 +1,63 @@
+package pe.ask.university.api.handler.course;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.CourseSummaryResponse;
+import pe.ask.university.api.mapper.ICourseMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.course.ISuggestCoursesUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP GET request for autocompleting courses.
+ * <p>
+ * This handler returns the suggestions of {@link ISuggestCoursesUseCase} as a JSON array of
+ * {@link CourseSummaryResponse}, which is all an autocomplete list needs to show.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestCoursesHandler {
+
+    private final ISuggestCoursesUseCase useCase;
+    private final ICourseMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to suggest courses.
+     * <p>
+     * This method orchestrates the flow for suggesting courses:
+     * <ol>
+     *     <li>Extracts the prefix 'q' and the 'limit' parameter from the request's query parameters.</li>
+     *     <li>Invokes the {@link ISuggestCoursesUseCase} to get the suggested courses.</li>
+     *     <li>Maps them to a list of {@link CourseSummaryResponse} and returns it with status 200 (OK).</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request, containing the prefix and limit query parameters.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETSuggestCoursesUseCase(ServerRequest serverRequest) {
+        String prefix = serverRequest.queryParam("q").orElse(null);
+        int limit = Integer.parseInt(serverRequest.queryParam("limit").orElse("10"));
+
+        return useCase.suggestCourses(prefix, limit)
+                .map(mapper::toSummaryResponse)
+                .collectList()
+                .flatMap(suggestions -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(suggestions)
+                )
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
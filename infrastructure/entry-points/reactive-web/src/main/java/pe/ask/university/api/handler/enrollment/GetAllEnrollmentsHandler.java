@@ -8,11 +8,15 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import pe.ask.university.api.dto.response.EnrollmentResponse;
 import pe.ask.university.api.mapper.IEnrollmentMapper;
 import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.model.utils.CountStrategy;
 import pe.ask.university.model.utils.Pageable;
 import pe.ask.university.model.utils.exception.BaseException;
 import pe.ask.university.port.in.usecase.enrollment.IGetAllEnrollmentsUseCase;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 /**
  * Handles the HTTP GET request for retrieving all enrollments with pagination.
  * <p>
@@ -36,7 +40,7 @@ public class GetAllEnrollmentsHandler {
      * <p>
      * This method orchestrates the flow for fetching enrollments:
      * <ol>
-     *     <li>Extracts pagination parameters ('page' and 'size') from the request's query parameters.</li>
+     *     <li>Extracts pagination parameters ('page', 'size' and the optional 'cursor') and the 'count' strategy from the request's query parameters.</li>
      *     <li>Invokes the {@link IGetAllEnrollmentsUseCase} to get a paginated list of enrollments.</li>
      *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link EnrollmentResponse} DTOs.</li>
      *     <li>Builds a {@link ServerResponse} with status 200 (OK) and the paginated response body.</li>
@@ -50,13 +54,20 @@ public class GetAllEnrollmentsHandler {
     public Mono<ServerResponse> listenGETAllEnrollmentsUseCase(ServerRequest serverRequest) {
         int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
         int size = Integer.parseInt(serverRequest.queryParam("size").orElse("10"));
+        String cursor = serverRequest.queryParam("cursor").orElse(null);
 
-        return useCase.getAllEnrollments(page, size)
+        return Mono.fromCallable(() -> CountStrategy.fromValue(serverRequest.queryParam("count").orElse(null)))
+                .onErrorMap(IllegalArgumentException.class, ex -> new ValidationException(
+                        Map.of("count", "Must be one of EXACT, CACHED, ESTIMATED or NONE")
+                ))
+                .flatMap(countStrategy -> useCase.getAllEnrollments(page, size, cursor, countStrategy))
                 .map(pageable -> Pageable.<EnrollmentResponse>builder()
                         .page(pageable.getPage())
                         .size(pageable.getSize())
                         .totalElements(pageable.getTotalElements())
                         .totalPages(pageable.getTotalPages())
+                        .nextCursor(pageable.getNextCursor())
+                        .countStrategy(pageable.getCountStrategy())
                         .content(
                                 pageable.getContent().stream()
                                         .map(mapper::toResponse)
@@ -8,20 +8,22 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import pe.ask.university.api.dto.response.EnrollmentResponse;
 import pe.ask.university.api.mapper.IEnrollmentMapper;
 import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.exception.ValidationException;
 import pe.ask.university.model.utils.Pageable;
 import pe.ask.university.model.utils.exception.BaseException;
 import pe.ask.university.port.in.usecase.enrollment.IGetEnrollmentByStudentIdUseCase;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Handles the HTTP GET request for retrieving enrollments by a student's ID.
  * <p>
- * This handler is responsible for processing requests to fetch all enrollments
- * for a specific student. It extracts the student ID from the request path,
- * invokes the appropriate use case, maps the results to response DTOs, and
- * constructs the server response.
+ * This handler is responsible for processing requests to fetch a page of the enrollments
+ * of a specific student. It extracts the student ID from the request path and the pagination
+ * and period filter from the query, invokes the appropriate use case, maps the results to
+ * response DTOs, and constructs the server response.
  * </p>
  *
  * @author Allan Sagastegui
@@ -40,6 +42,7 @@ public class GetEnrollmentByStudentIdHandler {
      * This method orchestrates the flow for fetching enrollments for a student:
      * <ol>
      *     <li>Extracts the student ID from the request's path variable.</li>
+     *     <li>Extracts 'page', 'size' and the optional 'periodId' from the request's query parameters.</li>
      *     <li>Invokes the {@link IGetEnrollmentByStudentIdUseCase} to get the enrollments.</li>
      *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link EnrollmentResponse} DTOs.</li>
      *     <li>Builds a {@link ServerResponse} with status 200 (OK) and the paginated response body.</li>
@@ -52,7 +55,13 @@ public class GetEnrollmentByStudentIdHandler {
      */
     public Mono<ServerResponse> listenGETEnrollmentByStudentIdUseCase(ServerRequest serverRequest) {
         UUID studentId = UUID.fromString(serverRequest.pathVariable("studentId"));
-        return useCase.getEnrollmentByStudentId(studentId)
+        int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
+        int size = Integer.parseInt(serverRequest.queryParam("size").orElse("10"));
+        return Mono.fromCallable(() -> serverRequest.queryParam("periodId").map(UUID::fromString))
+                .onErrorMap(IllegalArgumentException.class, ex -> new ValidationException(
+                        Map.of("periodId", "Must be a valid UUID")
+                ))
+                .flatMap(periodId -> useCase.getEnrollmentByStudentId(studentId, periodId.orElse(null), page, size))
                 .map(pageable -> Pageable.<EnrollmentResponse>builder()
                         .page(pageable.getPage())
                         .size(pageable.getSize())
@@ -0,0 +1,86 @@
+package pe.ask.university.api.handler.enrollment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.EnrollmentResponse;
+import pe.ask.university.api.mapper.IEnrollmentMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.enrollment.IGetEnrollmentDetailByStudentIdUseCase;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Handles the HTTP GET request for retrieving the enrollments of a student with their course and period.
+ * <p>
+ * This handler serves the same page as {@link GetEnrollmentByStudentIdHandler}, but each
+ * {@link EnrollmentResponse} also carries the course name and code and the period name, so
+ * clients do not need to fetch every course and period separately.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class GetEnrollmentDetailByStudentIdHandler {
+
+    private final IGetEnrollmentDetailByStudentIdUseCase useCase;
+    private final IEnrollmentMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to retrieve the enrollment details of a student.
+     * <p>
+     * This method orchestrates the flow for fetching enrollment details for a student:
+     * <ol>
+     *     <li>Extracts the student ID from the request's path variable.</li>
+     *     <li>Extracts 'page', 'size' and the optional 'periodId' from the request's query parameters.</li>
+     *     <li>Invokes the {@link IGetEnrollmentDetailByStudentIdUseCase} to get the enrollment details.</li>
+     *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link EnrollmentResponse} DTOs.</li>
+     *     <li>Builds a {@link ServerResponse} with status 200 (OK) and the paginated response body.</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request containing the student ID in the path.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETEnrollmentDetailByStudentIdUseCase(ServerRequest serverRequest) {
+        UUID studentId = UUID.fromString(serverRequest.pathVariable("studentId"));
+        int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
+        int size = Integer.parseInt(serverRequest.queryParam("size").orElse("10"));
+        return Mono.fromCallable(() -> serverRequest.queryParam("periodId").map(UUID::fromString))
+                .onErrorMap(IllegalArgumentException.class, ex -> new ValidationException(
+                        Map.of("periodId", "Must be a valid UUID")
+                ))
+                .flatMap(periodId -> useCase.getEnrollmentDetailByStudentId(studentId, periodId.orElse(null), page, size))
+                .map(pageable -> Pageable.<EnrollmentResponse>builder()
+                        .page(pageable.getPage())
+                        .size(pageable.getSize())
+                        .totalElements(pageable.getTotalElements())
+                        .totalPages(pageable.getTotalPages())
+                        .content(
+                                pageable.getContent().stream()
+                                        .map(mapper::toResponse)
+                                        .toList()
+                        )
+                        .build()
+                )
+                .flatMap(response ->
+                        ServerResponse
+                                .ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(response)
+                )
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
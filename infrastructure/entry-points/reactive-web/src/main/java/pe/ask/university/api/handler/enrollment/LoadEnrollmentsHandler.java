@@ -0,0 +1,70 @@
+package pe.ask.university.api.handler.enrollment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.request.EnrollmentLoadRequest;
+import pe.ask.university.api.dto.response.LoadProgressResponse;
+import pe.ask.university.api.mapper.IEnrollmentMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.validator.CustomValidator;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.enrollment.ILoadEnrollmentsUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the administrative HTTP POST request for bulk-loading historical enrollments.
+ * <p>
+ * This handler reads an NDJSON stream of {@link EnrollmentLoadRequest} records, forwards it
+ * to the load use case without buffering the whole body, and streams back the progress of
+ * the load as NDJSON.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadEnrollmentsHandler {
+
+    private final ILoadEnrollmentsUseCase useCase;
+    private final IEnrollmentMapper mapper;
+    private final CustomValidator validator;
+
+    /**
+     * Listens for and processes the POST request to bulk-load enrollments.
+     * <p>
+     * This method orchestrates the flow for loading enrollments:
+     * <ol>
+     *     <li>Decodes the body as a stream of {@link EnrollmentLoadRequest}.</li>
+     *     <li>Validates each record using {@link CustomValidator}; the first invalid record stops the load.</li>
+     *     <li>Maps the records to domain models and invokes the {@link ILoadEnrollmentsUseCase}.</li>
+     *     <li>Streams a {@link LoadProgressResponse} per committed chunk with status 200 (OK).</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request containing the enrollments to load.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenPOSTLoadEnrollmentsUseCase(ServerRequest serverRequest) {
+        Flux<LoadProgressResponse> progress = useCase.loadEnrollments(
+                        serverRequest.bodyToFlux(EnrollmentLoadRequest.class)
+                                .concatMap(validator::validate)
+                                .map(mapper::toDomain)
+                )
+                .map(mapper::toResponse)
+                .onErrorMap(ex -> ex instanceof BaseException ? ex : new UnexpectedException(ex));
+
+        return ServerResponse
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(progress, LoadProgressResponse.class)
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
@@ -0,0 +1,57 @@
+package pe.ask.university.api.handler.enrollment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.EnrollmentResponse;
+import pe.ask.university.api.mapper.IEnrollmentMapper;
+import pe.ask.university.api.utils.stream.ListingStreams;
+import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.utils.Cursor;
+import pe.ask.university.port.in.usecase.enrollment.IStreamAllEnrollmentsUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP GET request for streaming all enrollments.
+ * <p>
+ * This handler serves the same listing as {@link GetAllEnrollmentsHandler} for clients that accept
+ * {@code application/x-ndjson} or {@code text/event-stream}. Each enrollment is written as soon as
+ * it is read, without collecting the page or counting the enrollments.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamAllEnrollmentsHandler {
+
+    private final IStreamAllEnrollmentsUseCase useCase;
+    private final IEnrollmentMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to stream all enrollments.
+     * <p>
+     * Pagination, content negotiation and error handling are done by {@link ListingStreams}; this
+     * handler supplies the {@link IStreamAllEnrollmentsUseCase}, the mapping to {@link EnrollmentResponse} and
+     * the cursor pointing after each enrollment, used as the event ID.
+     * </p>
+     *
+     * @param serverRequest The incoming server request, which may contain pagination query parameters.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETStreamAllEnrollmentsUseCase(ServerRequest serverRequest) {
+        return ListingStreams.respond(
+                serverRequest,
+                useCase::streamAllEnrollments,
+                mapper::toResponse,
+                EnrollmentResponse.class,
+                this::cursorAfter
+        );
+    }
+
+    private Cursor cursorAfter(Enrollment enrollment) {
+        return enrollment.getCreatedAt() != null ? Cursor.of(enrollment.getCreatedAt(), enrollment.getId()) : null;
+    }
+}
@@ -6,13 +6,21 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import pe.ask.university.api.dto.response.StudentResponse;
+import pe.ask.university.api.dto.response.StudentSummaryResponse;
 import pe.ask.university.api.mapper.IStudentMapper;
 import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.model.utils.CountStrategy;
+import pe.ask.university.model.student.Student;
 import pe.ask.university.model.utils.Pageable;
+import pe.ask.university.model.utils.Projection;
 import pe.ask.university.model.utils.exception.BaseException;
 import pe.ask.university.port.in.usecase.student.IGetAllStudentsUseCase;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Handles the HTTP GET request for retrieving all students with pagination.
  * <p>
@@ -36,9 +44,9 @@ public class GetAllStudentsHandler {
      * <p>
      * This method orchestrates the flow for fetching students:
      * <ol>
-     *     <li>Extracts pagination parameters ('page' and 'size') from the request's query parameters.</li>
+     *     <li>Extracts pagination parameters ('page', 'size' and the optional 'cursor'), the 'count' strategy and the 'fields' projection from the request's query parameters.</li>
      *     <li>Invokes the {@link IGetAllStudentsUseCase} to get a paginated list of students.</li>
-     *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link StudentResponse} DTOs.</li>
+     *     <li>Maps the resulting {@link Pageable} of domain models to a {@link Pageable} of {@link StudentResponse} DTOs, or of {@link StudentSummaryResponse} DTOs with {@code fields=summary}.</li>
      *     <li>Builds a {@link ServerResponse} with status 200 (OK) and the paginated response body.</li>
      * </ol>
      * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
@@ -50,18 +58,18 @@ public class GetAllStudentsHandler {
     public Mono<ServerResponse> listenGETAllStudentsUseCase(ServerRequest serverRequest) {
         int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
         int size = Integer.parseInt(serverRequest.queryParam("size").orElse("10"));
-        return useCase.getAllStudents(page, size)
-                .map(pageable -> Pageable.<StudentResponse>builder()
-                        .page(pageable.getPage())
-                        .size(pageable.getSize())
-                        .totalElements(pageable.getTotalElements())
-                        .totalPages(pageable.getTotalPages())
-                        .content(
-                                pageable.getContent().stream()
-                                        .map(mapper::toResponse)
-                                        .toList()
-                        )
-                        .build()
+        String cursor = serverRequest.queryParam("cursor").orElse(null);
+        return Mono.fromCallable(() -> CountStrategy.fromValue(serverRequest.queryParam("count").orElse(null)))
+                .onErrorMap(IllegalArgumentException.class, ex -> new ValidationException(
+                        Map.of("count", "Must be one of EXACT, CACHED, ESTIMATED or NONE")
+                ))
+                .zipWith(Mono.fromCallable(() -> Projection.fromValue(serverRequest.queryParam("fields").orElse(null)))
+                        .onErrorMap(IllegalArgumentException.class, ex -> new ValidationException(
+                                Map.of("fields", "Must be one of FULL or SUMMARY")
+                        ))
+                )
+                .flatMap(params -> useCase.getAllStudents(page, size, cursor, params.getT1(), params.getT2())
+                        .map(pageable -> toResponse(pageable, params.getT2()))
                 )
                 .flatMap(response ->
                         ServerResponse
@@ -74,4 +82,30 @@ public class GetAllStudentsHandler {
                 );
 
     }
+
+    /**
+     * Maps a page of students to the response DTOs of the requested projection.
+     *
+     * @param pageable   The page returned by the use case.
+     * @param projection The projection that was requested.
+     * @return The page with its content mapped to {@link StudentResponse} or {@link StudentSummaryResponse}.
+     */
+    private Pageable<?> toResponse(Pageable<Student> pageable, Projection projection) {
+        if (projection == Projection.SUMMARY) {
+            return withContent(pageable, pageable.getContent().stream().map(mapper::toSummaryResponse).toList());
+        }
+        return withContent(pageable, pageable.getContent().stream().map(mapper::toResponse).toList());
+    }
+
+    private static <T> Pageable<T> withContent(Pageable<Student> pageable, List<T> content) {
+        return Pageable.<T>builder()
+                .page(pageable.getPage())
+                .size(pageable.getSize())
+                .totalElements(pageable.getTotalElements())
+                .totalPages(pageable.getTotalPages())
+                .nextCursor(pageable.getNextCursor())
+                .countStrategy(pageable.getCountStrategy())
+                .content(content)
+                .build();
+    }
 }
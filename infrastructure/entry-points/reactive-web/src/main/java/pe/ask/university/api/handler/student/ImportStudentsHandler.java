@@ -0,0 +1,87 @@
+package pe.ask.university.api.handler.student;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.request.StudentRequest;
+import pe.ask.university.api.dto.response.ImportResultResponse;
+import pe.ask.university.api.mapper.IStudentMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.api.utils.validator.CustomValidator;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.ImportRow;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.student.IImportStudentsUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Handles the HTTP POST request for importing students in bulk.
+ * <p>
+ * This handler accepts either a JSON array or an NDJSON stream of {@link StudentRequest}
+ * records, validates them in parallel, and streams back one result per row.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportStudentsHandler {
+
+    private final IImportStudentsUseCase useCase;
+    private final IStudentMapper mapper;
+    private final CustomValidator validator;
+
+    /**
+     * Listens for and processes the POST request to import students.
+     * <p>
+     * This method orchestrates the flow for importing students:
+     * <ol>
+     *     <li>Decodes the body as a stream of {@link StudentRequest}, whether it is a JSON array or NDJSON.</li>
+     *     <li>Numbers each record and validates it with {@link CustomValidator} on the parallel scheduler,
+     *     keeping the original order.</li>
+     *     <li>Turns validation failures into invalid rows instead of rejecting the whole request.</li>
+     *     <li>Invokes the {@link IImportStudentsUseCase} with the resulting rows.</li>
+     *     <li>Streams the per-row results with status 200 (OK), as NDJSON if the client accepts it
+     *     and as a JSON array otherwise.</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request containing the students to import.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenPOSTImportStudentsUseCase(ServerRequest serverRequest) {
+        MediaType responseType = serverRequest.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+
+        Flux<ImportRow<Student>> rows = serverRequest.bodyToFlux(StudentRequest.class)
+                .index()
+                .flatMapSequential(indexed -> validator.validate(indexed.getT2())
+                        .map(request -> ImportRow.valid(indexed.getT1(), mapper.toDomain(request)))
+                        .onErrorResume(ValidationException.class, ex ->
+                                Mono.just(ImportRow.<Student>invalid(indexed.getT1(), ex.getErrors()))
+                        )
+                        .subscribeOn(Schedulers.parallel()),
+                        Schedulers.DEFAULT_POOL_SIZE
+                );
+
+        Flux<ImportResultResponse> results = useCase.importStudents(rows)
+                .map(mapper::toResponse)
+                .onErrorMap(ex -> ex instanceof BaseException ? ex : new UnexpectedException(ex));
+
+        return ServerResponse
+                .ok()
+                .contentType(responseType)
+                .body(results, ImportResultResponse.class)
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
@@ -0,0 +1,68 @@
+package pe.ask.university.api.handler.student;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.StudentResponse;
+import pe.ask.university.api.mapper.IStudentMapper;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.port.in.usecase.student.ISearchStudentsUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP GET request for searching students by text.
+ * <p>
+ * This handler streams the matches of {@link ISearchStudentsUseCase}, best match first, as a
+ * JSON array or, for clients that accept {@code application/x-ndjson}, one JSON document per line.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchStudentsHandler {
+
+    private final ISearchStudentsUseCase useCase;
+    private final IStudentMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to search students.
+     * <p>
+     * This method orchestrates the flow for searching students:
+     * <ol>
+     *     <li>Extracts the search text 'q' and the 'page' and 'size' parameters from the request's query parameters.</li>
+     *     <li>Invokes the {@link ISearchStudentsUseCase} to get the matching students as a {@link Flux}.</li>
+     *     <li>Writes each student as a {@link StudentResponse} with status 200 (OK) as soon as it is read.</li>
+     * </ol>
+     * Any exceptions during the process are handled, wrapping unexpected errors in a {@link UnexpectedException}.
+     * </p>
+     *
+     * @param serverRequest The incoming server request, containing the search text and pagination query parameters.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETSearchStudentsUseCase(ServerRequest serverRequest) {
+        String query = serverRequest.queryParam("q").orElse(null);
+        int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
+        int size = Integer.parseInt(serverRequest.queryParam("size").orElse("20"));
+        MediaType contentType = serverRequest.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+
+        Flux<StudentResponse> students = useCase.searchStudents(query, page, size)
+                .map(mapper::toResponse)
+                .onErrorMap(ex -> ex instanceof BaseException ? ex : new UnexpectedException(ex));
+
+        return ServerResponse
+                .ok()
+                .contentType(contentType)
+                .body(students, StudentResponse.class)
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+}
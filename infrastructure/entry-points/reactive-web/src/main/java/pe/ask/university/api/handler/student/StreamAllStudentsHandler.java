@@ -0,0 +1,57 @@
+package pe.ask.university.api.handler.student;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.dto.response.StudentResponse;
+import pe.ask.university.api.mapper.IStudentMapper;
+import pe.ask.university.api.utils.stream.ListingStreams;
+import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.Cursor;
+import pe.ask.university.port.in.usecase.student.IStreamAllStudentsUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handles the HTTP GET request for streaming all students.
+ * <p>
+ * This handler serves the same listing as {@link GetAllStudentsHandler} for clients that accept
+ * {@code application/x-ndjson} or {@code text/event-stream}. Each student is written as soon as
+ * it is read, without collecting the page or counting the students.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamAllStudentsHandler {
+
+    private final IStreamAllStudentsUseCase useCase;
+    private final IStudentMapper mapper;
+
+    /**
+     * Listens for and processes the GET request to stream all students.
+     * <p>
+     * Pagination, content negotiation and error handling are done by {@link ListingStreams}; this
+     * handler supplies the {@link IStreamAllStudentsUseCase}, the mapping to {@link StudentResponse} and
+     * the cursor pointing after each student, used as the event ID.
+     * </p>
+     *
+     * @param serverRequest The incoming server request, which may contain pagination query parameters.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public Mono<ServerResponse> listenGETStreamAllStudentsUseCase(ServerRequest serverRequest) {
+        return ListingStreams.respond(
+                serverRequest,
+                useCase::streamAllStudents,
+                mapper::toResponse,
+                StudentResponse.class,
+                this::cursorAfter
+        );
+    }
+
+    private Cursor cursorAfter(Student student) {
+        return student.getCreatedAt() != null ? Cursor.of(student.getCreatedAt(), student.getId()) : null;
+    }
+}
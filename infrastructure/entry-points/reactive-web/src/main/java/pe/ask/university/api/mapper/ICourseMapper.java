@@ -4,10 +4,22 @@ import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 import pe.ask.university.api.dto.request.CourseRequest;
 import pe.ask.university.api.dto.response.CourseResponse;
+import pe.ask.university.api.dto.response.CourseSummaryResponse;
+import pe.ask.university.api.dto.response.LookupResultResponse;
 import pe.ask.university.model.course.Course;
+import pe.ask.university.model.utils.LookupResult;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface ICourseMapper {
     Course toDomain(CourseRequest courseRequest);
     CourseResponse toResponse(Course course);
+    CourseSummaryResponse toSummaryResponse(Course course);
+
+    default LookupResultResponse<CourseResponse> toResponse(LookupResult<Course> lookupResult) {
+        return new LookupResultResponse<>(
+                lookupResult.getId(),
+                lookupResult.isFound(),
+                lookupResult.isFound() ? toResponse(lookupResult.getValue()) : null
+        );
+    }
 }
@@ -2,12 +2,19 @@ package pe.ask.university.api.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
+import pe.ask.university.api.dto.request.EnrollmentLoadRequest;
 import pe.ask.university.api.dto.request.EnrollmentRequest;
 import pe.ask.university.api.dto.response.EnrollmentResponse;
+import pe.ask.university.api.dto.response.LoadProgressResponse;
 import pe.ask.university.model.enrollment.Enrollment;
+import pe.ask.university.model.enrollment.EnrollmentDetail;
+import pe.ask.university.model.utils.LoadProgress;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface IEnrollmentMapper {
     Enrollment toDomain(EnrollmentRequest enrollmentRequest);
+    Enrollment toDomain(EnrollmentLoadRequest enrollmentLoadRequest);
     EnrollmentResponse toResponse(Enrollment enrollment);
+    EnrollmentResponse toResponse(EnrollmentDetail enrollmentDetail);
+    LoadProgressResponse toResponse(LoadProgress loadProgress);
 }
@@ -3,11 +3,26 @@ package pe.ask.university.api.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 import pe.ask.university.api.dto.request.StudentRequest;
+import pe.ask.university.api.dto.response.ImportResultResponse;
+import pe.ask.university.api.dto.response.LookupResultResponse;
 import pe.ask.university.api.dto.response.StudentResponse;
+import pe.ask.university.api.dto.response.StudentSummaryResponse;
 import pe.ask.university.model.student.Student;
+import pe.ask.university.model.utils.ImportResult;
+import pe.ask.university.model.utils.LookupResult;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface IStudentMapper {
     Student toDomain(StudentRequest studentRequest);
     StudentResponse toResponse(Student student);
+    StudentSummaryResponse toSummaryResponse(Student student);
+    ImportResultResponse toResponse(ImportResult importResult);
+
+    default LookupResultResponse<StudentResponse> toResponse(LookupResult<Student> lookupResult) {
+        return new LookupResultResponse<>(
+                lookupResult.getId(),
+                lookupResult.isFound(),
+                lookupResult.isFound() ? toResponse(lookupResult.getValue()) : null
+        );
+    }
 }
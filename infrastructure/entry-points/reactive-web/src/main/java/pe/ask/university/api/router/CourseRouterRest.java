@@ -8,7 +8,11 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import pe.ask.university.api.handler.course.GetAllCoursesHandler;
 import pe.ask.university.api.handler.course.GetCourseByIdHandler;
 import pe.ask.university.api.handler.course.GetCourseByNameHandler;
+import pe.ask.university.api.handler.course.GetCoursesByIdsHandler;
 import pe.ask.university.api.handler.course.SaveCourseHandler;
+import pe.ask.university.api.handler.course.SearchCoursesHandler;
+import pe.ask.university.api.handler.course.StreamAllCoursesHandler;
+import pe.ask.university.api.handler.course.SuggestCoursesHandler;
 import pe.ask.university.api.utils.routes.CourseRoutes;
 
 import static org.springframework.web.reactive.function.server.RequestPredicates.*;
@@ -34,28 +38,44 @@ public class CourseRouterRest {
      * This method configures the following routes:
      * <ul>
      *     <li>{@code GET /api/v1/course}: Retrieves all courses with pagination.</li>
+     *     <li>{@code GET /api/v1/course} with {@code Accept: application/x-ndjson} or {@code text/event-stream}: Streams the courses of a page.</li>
+     *     <li>{@code GET /api/v1/course/search}: Searches courses by name or code, best match first.</li>
+     *     <li>{@code GET /api/v1/course/suggest}: Suggests courses whose code or name starts with the typed text, from memory.</li>
      *     <li>{@code GET /api/v1/course/{id}}: Retrieves a course by its ID.</li>
      *     <li>{@code GET /api/v1/course/name/{name}}: Retrieves a course by its name.</li>
      *     <li>{@code POST /api/v1/course}: Creates a new course.</li>
+     *     <li>{@code POST /api/v1/course/batch}: Retrieves several courses by their IDs in request order.</li>
      * </ul>
      * </p>
      *
      * @param getAllCoursesHandler   The handler for retrieving all courses.
+     * @param streamAllCoursesHandler The handler for streaming all courses.
      * @param getCourseByIdHandler   The handler for retrieving a course by its ID.
      * @param getCourseByNameHandler The handler for retrieving a course by its name.
      * @param saveCourseHandler      The handler for creating a new course.
+     * @param getCoursesByIdsHandler The handler for retrieving several courses by their IDs.
+     * @param searchCoursesHandler   The handler for searching courses by text.
+     * @param suggestCoursesHandler  The handler for autocompleting courses.
      * @return A {@link RouterFunction} that maps the routes to the corresponding handlers.
      */
     @Bean
     public RouterFunction<ServerResponse> courseRouterFunction(
             GetAllCoursesHandler getAllCoursesHandler,
+            StreamAllCoursesHandler streamAllCoursesHandler,
             GetCourseByIdHandler getCourseByIdHandler,
             GetCourseByNameHandler getCourseByNameHandler,
-            SaveCourseHandler saveCourseHandler
+            SaveCourseHandler saveCourseHandler,
+            GetCoursesByIdsHandler getCoursesByIdsHandler,
+            SearchCoursesHandler searchCoursesHandler,
+            SuggestCoursesHandler suggestCoursesHandler
     ){
         return route(GET(CourseRoutes.GET_ALL_COURSES).and(accept(MediaType.APPLICATION_JSON)), getAllCoursesHandler::listenGETAllCoursesUseCase)
+                .andRoute(GET(CourseRoutes.GET_ALL_COURSES).and(accept(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), streamAllCoursesHandler::listenGETStreamAllCoursesUseCase)
+                .andRoute(GET(CourseRoutes.SEARCH_COURSES).and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), searchCoursesHandler::listenGETSearchCoursesUseCase)
+                .andRoute(GET(CourseRoutes.SUGGEST_COURSES).and(accept(MediaType.APPLICATION_JSON)), suggestCoursesHandler::listenGETSuggestCoursesUseCase)
                 .andRoute(GET(CourseRoutes.GET_COURSE_BY_ID).and(accept(MediaType.APPLICATION_JSON)), getCourseByIdHandler::listenGETCourseByIdUseCase)
                 .andRoute(GET(CourseRoutes.GET_COURSE_BY_NAME).and(accept(MediaType.APPLICATION_JSON)), getCourseByNameHandler::listenGETCourseByNameUseCase)
-                .andRoute(POST(CourseRoutes.SAVE_COURSE).and(accept(MediaType.APPLICATION_JSON)), saveCourseHandler::listenPOSTSaveCourseUseCase);
+                .andRoute(POST(CourseRoutes.SAVE_COURSE).and(accept(MediaType.APPLICATION_JSON)), saveCourseHandler::listenPOSTSaveCourseUseCase)
+                .andRoute(POST(CourseRoutes.GET_COURSES_BY_IDS).and(accept(MediaType.APPLICATION_JSON)), getCoursesByIdsHandler::listenPOSTGetCoursesByIdsUseCase);
     }
 }
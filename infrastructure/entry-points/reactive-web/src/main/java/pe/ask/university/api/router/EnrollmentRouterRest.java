@@ -8,7 +8,10 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import pe.ask.university.api.handler.enrollment.GetAllEnrollmentsHandler;
 import pe.ask.university.api.handler.enrollment.GetEnrollmentByIdHandler;
 import pe.ask.university.api.handler.enrollment.GetEnrollmentByStudentIdHandler;
+import pe.ask.university.api.handler.enrollment.GetEnrollmentDetailByStudentIdHandler;
+import pe.ask.university.api.handler.enrollment.LoadEnrollmentsHandler;
 import pe.ask.university.api.handler.enrollment.SaveEnrollmentHandler;
+import pe.ask.university.api.handler.enrollment.StreamAllEnrollmentsHandler;
 import pe.ask.university.api.utils.routes.EnrollmentRoutes;
 
 import static org.springframework.web.reactive.function.server.RequestPredicates.*;
@@ -34,28 +37,40 @@ public class EnrollmentRouterRest {
      * This method configures the following routes:
      * <ul>
      *     <li>{@code GET /api/v1/enrollment}: Retrieves all enrollments with pagination.</li>
+     *     <li>{@code GET /api/v1/enrollment} with {@code Accept: application/x-ndjson} or {@code text/event-stream}: Streams the enrollments of a page.</li>
      *     <li>{@code GET /api/v1/enrollment/{id}}: Retrieves an enrollment by its ID.</li>
-     *     <li>{@code GET /api/v1/enrollment/student/{studentId}}: Retrieves an enrollment by its student ID.</li>
+     *     <li>{@code GET /api/v1/enrollment/student/{studentId}}: Retrieves the enrollments of a student with pagination, optionally filtered by {@code periodId}.</li>
+     *     <li>{@code GET /api/v1/enrollment/student/{studentId}/detail}: Same as above, with the course name and code and the period name embedded in each enrollment.</li>
      *     <li>{@code POST /api/v1/enrollment}: Creates a new enrollment.</li>
+     *     <li>{@code POST /api/v1/admin/enrollment/load}: Bulk-loads historical enrollments from an NDJSON stream.</li>
      * </ul>
      * </p>
      *
      * @param getAllEnrollmentsHandler      The handler for retrieving all enrollments.
+     * @param streamAllEnrollmentsHandler The handler for streaming all enrollments.
      * @param getEnrollmentByIdHandler      The handler for retrieving an enrollment by its ID.
      * @param getEnrollmentByStudentIdHandler The handler for retrieving an enrollment by its student ID.
+     * @param getEnrollmentDetailByStudentIdHandler The handler for retrieving the enrollment details of a student.
      * @param saveEnrollmentHandler         The handler for creating a new enrollment.
+     * @param loadEnrollmentsHandler        The handler for bulk-loading historical enrollments.
      * @return A {@link RouterFunction} that maps the routes to the corresponding handlers.
      */
     @Bean
     public RouterFunction<ServerResponse> enrollmentRouterFunction(
             GetAllEnrollmentsHandler getAllEnrollmentsHandler,
+            StreamAllEnrollmentsHandler streamAllEnrollmentsHandler,
             GetEnrollmentByIdHandler getEnrollmentByIdHandler,
             GetEnrollmentByStudentIdHandler getEnrollmentByStudentIdHandler,
-            SaveEnrollmentHandler saveEnrollmentHandler
+            GetEnrollmentDetailByStudentIdHandler getEnrollmentDetailByStudentIdHandler,
+            SaveEnrollmentHandler saveEnrollmentHandler,
+            LoadEnrollmentsHandler loadEnrollmentsHandler
     ){
         return route(GET(EnrollmentRoutes.GET_ALL_ENROLLMENTS).and(accept(MediaType.APPLICATION_JSON)), getAllEnrollmentsHandler::listenGETAllEnrollmentsUseCase)
+                .andRoute(GET(EnrollmentRoutes.GET_ALL_ENROLLMENTS).and(accept(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), streamAllEnrollmentsHandler::listenGETStreamAllEnrollmentsUseCase)
                 .andRoute(GET(EnrollmentRoutes.GET_ENROLLMENT_BY_ID).and(accept(MediaType.APPLICATION_JSON)), getEnrollmentByIdHandler::listenGETEnrollmentByIdUseCase)
                 .andRoute(GET(EnrollmentRoutes.GET_ENROLLMENT_BY_STUDENT_ID).and(accept(MediaType.APPLICATION_JSON)), getEnrollmentByStudentIdHandler::listenGETEnrollmentByStudentIdUseCase)
-                .andRoute(POST(EnrollmentRoutes.SAVE_ENROLLMENT).and(accept(MediaType.APPLICATION_JSON)), saveEnrollmentHandler::listenPOSTSaveEnrollmentUseCase);
+                .andRoute(GET(EnrollmentRoutes.GET_ENROLLMENT_DETAIL_BY_STUDENT_ID).and(accept(MediaType.APPLICATION_JSON)), getEnrollmentDetailByStudentIdHandler::listenGETEnrollmentDetailByStudentIdUseCase)
+                .andRoute(POST(EnrollmentRoutes.SAVE_ENROLLMENT).and(accept(MediaType.APPLICATION_JSON)), saveEnrollmentHandler::listenPOSTSaveEnrollmentUseCase)
+                .andRoute(POST(EnrollmentRoutes.LOAD_ENROLLMENTS).and(accept(MediaType.APPLICATION_NDJSON)), loadEnrollmentsHandler::listenPOSTLoadEnrollmentsUseCase);
     }
 }
@@ -31,40 +31,56 @@ public class StudentRouterRest {
      * This method configures the following routes:
      * <ul>
      *     <li>{@code GET /api/v1/student}: Retrieves all students with pagination.</li>
+     *     <li>{@code GET /api/v1/student} with {@code Accept: application/x-ndjson} or {@code text/event-stream}: Streams the students of a page.</li>
      *     <li>{@code GET /api/v1/student/dni/{dni}}: Retrieves a student by their DNI.</li>
      *     <li>{@code GET /api/v1/student/email/{email}}: Retrieves a student by their email.</li>
+     *     <li>{@code GET /api/v1/student/search}: Searches students by name, surname or email local part, best match first.</li>
      *     <li>{@code GET /api/v1/student/{id}}: Retrieves a student by their ID.</li>
      *     <li>{@code GET /api/v1/student/name/{name}}: Retrieves a student by their name.</li>
      *     <li>{@code POST /api/v1/student}: Creates a new student.</li>
      *     <li>{@code PUT /api/v1/student/{id}}: Updates an existing student.</li>
+     *     <li>{@code POST /api/v1/student/bulk}: Imports students from a JSON array or NDJSON stream.</li>
+     *     <li>{@code POST /api/v1/student/batch}: Retrieves several students by their IDs in request order.</li>
      * </ul>
      * </p>
      *
      * @param getAllStudentsHandler   The handler for retrieving all students.
+     * @param streamAllStudentsHandler The handler for streaming all students.
      * @param getStudentByDniHandler  The handler for retrieving a student by their DNI.
      * @param getStudentByEmailHandler The handler for retrieving a student by their email.
      * @param getStudentByIdHandler   The handler for retrieving a student by their ID.
      * @param getStudentByNameHandler The handler for retrieving a student by their name.
      * @param saveStudentHandler      The handler for creating a new student.
      * @param updateStudentHandler    The handler for updating an existing student.
+     * @param importStudentsHandler   The handler for importing students in bulk.
+     * @param getStudentsByIdsHandler The handler for retrieving several students by their IDs.
+     * @param searchStudentsHandler   The handler for searching students by text.
      * @return A {@link RouterFunction} that maps the routes to the corresponding handlers.
      */
     @Bean
     public RouterFunction<ServerResponse> studentRouterFunction(
             GetAllStudentsHandler getAllStudentsHandler,
+            StreamAllStudentsHandler streamAllStudentsHandler,
             GetStudentByDniHandler getStudentByDniHandler,
             GetStudentByEmailHandler getStudentByEmailHandler,
             GetStudentByIdHandler getStudentByIdHandler,
             GetStudentByNameHandler getStudentByNameHandler,
             SaveStudentHandler saveStudentHandler,
-            UpdateStudentHandler updateStudentHandler
+            UpdateStudentHandler updateStudentHandler,
+            ImportStudentsHandler importStudentsHandler,
+            GetStudentsByIdsHandler getStudentsByIdsHandler,
+            SearchStudentsHandler searchStudentsHandler
     ) {
         return route(GET(StudentRoutes.GET_ALL_STUDENTS).and(accept(MediaType.APPLICATION_JSON)), getAllStudentsHandler::listenGETAllStudentsUseCase)
+                .andRoute(GET(StudentRoutes.GET_ALL_STUDENTS).and(accept(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)), streamAllStudentsHandler::listenGETStreamAllStudentsUseCase)
                 .andRoute(GET(StudentRoutes.GET_STUDENT_BY_DNI).and(accept(MediaType.APPLICATION_JSON)), getStudentByDniHandler::listenGETStudentByDniUseCase)
                 .andRoute(GET(StudentRoutes.GET_STUDENT_BY_EMAIL).and(accept(MediaType.APPLICATION_JSON)), getStudentByEmailHandler::listenGETStudentByEmailUseCase)
+                .andRoute(GET(StudentRoutes.SEARCH_STUDENTS).and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), searchStudentsHandler::listenGETSearchStudentsUseCase)
                 .andRoute(GET(StudentRoutes.GET_STUDENT_BY_ID).and(accept(MediaType.APPLICATION_JSON)), getStudentByIdHandler::listenGETStudentByIdUseCase)
                 .andRoute(GET(StudentRoutes.GET_STUDENT_BY_NAME).and(accept(MediaType.APPLICATION_JSON)), getStudentByNameHandler::listenGETStudentByNameUseCase)
                 .andRoute(POST(StudentRoutes.SAVE_STUDENT).and(accept(MediaType.APPLICATION_JSON)), saveStudentHandler::listenPOSTSaveStudentUseCase)
-                .andRoute(PUT(StudentRoutes.UPDATE_STUDENT).and(accept(MediaType.APPLICATION_JSON)), updateStudentHandler::listenPUTUpdateStudentUseCase);
+                .andRoute(PUT(StudentRoutes.UPDATE_STUDENT).and(accept(MediaType.APPLICATION_JSON)), updateStudentHandler::listenPUTUpdateStudentUseCase)
+                .andRoute(POST(StudentRoutes.IMPORT_STUDENTS).and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), importStudentsHandler::listenPOSTImportStudentsUseCase)
+                .andRoute(POST(StudentRoutes.GET_STUDENTS_BY_IDS).and(accept(MediaType.APPLICATION_JSON)), getStudentsByIdsHandler::listenPOSTGetStudentsByIdsUseCase);
     }
 }
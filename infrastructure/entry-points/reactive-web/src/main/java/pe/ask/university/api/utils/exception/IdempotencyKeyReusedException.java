@@ -0,0 +1,17 @@
+package pe.ask.university.api.utils.exception;
+
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.model.utils.exception.ErrorCatalog;
+
+public class IdempotencyKeyReusedException extends BaseException {
+
+    public IdempotencyKeyReusedException() {
+        super(
+                ErrorCatalog.IDEMPOTENCY_KEY_REUSED.getErrorCode(),
+                ErrorCatalog.IDEMPOTENCY_KEY_REUSED.getExceptionName(),
+                ErrorCatalog.IDEMPOTENCY_KEY_REUSED.getMessage(),
+                ErrorCatalog.IDEMPOTENCY_KEY_REUSED.getStatus(),
+                ErrorCatalog.IDEMPOTENCY_KEY_REUSED.getErrors()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package pe.ask.university.api.utils.exception;
+
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.model.utils.exception.ErrorCatalog;
+
+public class RequestBodyTooLargeException extends BaseException {
+
+    public RequestBodyTooLargeException() {
+        super(
+                ErrorCatalog.REQUEST_BODY_TOO_LARGE.getErrorCode(),
+                ErrorCatalog.REQUEST_BODY_TOO_LARGE.getExceptionName(),
+                ErrorCatalog.REQUEST_BODY_TOO_LARGE.getMessage(),
+                ErrorCatalog.REQUEST_BODY_TOO_LARGE.getStatus(),
+                ErrorCatalog.REQUEST_BODY_TOO_LARGE.getErrors()
+        );
+    }
+}
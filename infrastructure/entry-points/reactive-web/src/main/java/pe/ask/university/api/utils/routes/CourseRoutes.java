@@ -5,4 +5,7 @@ public class CourseRoutes {
     public static final String GET_COURSE_BY_ID = "/api/v1/course/{id}";
     public static final String GET_COURSE_BY_NAME = "/api/v1/course/name/{name}";
     public static final String SAVE_COURSE = "/api/v1/course";
+    public static final String GET_COURSES_BY_IDS = "/api/v1/course/batch";
+    public static final String SEARCH_COURSES = "/api/v1/course/search";
+    public static final String SUGGEST_COURSES = "/api/v1/course/suggest";
 }
@@ -5,5 +5,7 @@ public class EnrollmentRoutes {
     public static final String GET_ALL_ENROLLMENTS = "/api/v1/enrollment";
     public static final String GET_ENROLLMENT_BY_ID = "/api/v1/enrollment/{id}";
     public static final String GET_ENROLLMENT_BY_STUDENT_ID = "/api/v1/enrollment/student/{studentId}";
+    public static final String GET_ENROLLMENT_DETAIL_BY_STUDENT_ID = "/api/v1/enrollment/student/{studentId}/detail";
     public static final String SAVE_ENROLLMENT = "/api/v1/enrollment";
+    public static final String LOAD_ENROLLMENTS = "/api/v1/admin/enrollment/load";
 }
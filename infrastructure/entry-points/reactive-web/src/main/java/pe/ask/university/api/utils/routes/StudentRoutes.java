@@ -8,5 +8,8 @@ public class StudentRoutes {
     public static final String GET_STUDENT_BY_NAME = "/api/v1/student/name/{name}";
     public static final String SAVE_STUDENT = "/api/v1/student";
     public static final String UPDATE_STUDENT = "/api/v1/student/{id}";
+    public static final String IMPORT_STUDENTS = "/api/v1/student/bulk";
+    public static final String GET_STUDENTS_BY_IDS = "/api/v1/student/batch";
+    public static final String SEARCH_STUDENTS = "/api/v1/student/search";
 
 }
@@ -0,0 +1,120 @@
+package pe.ask.university.api.utils.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import pe.ask.university.api.utils.exception.UnexpectedException;
+import pe.ask.university.model.utils.Cursor;
+import pe.ask.university.model.utils.exception.BaseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Writes a streamed listing as NDJSON or as Server-Sent Events.
+ * <p>
+ * The streaming handlers only differ in the use case they call and in how an element is mapped
+ * and located. This class does the rest for all of them:
+ * </p>
+ * <ul>
+ *     <li>Reads 'page' (default 0), 'size' (default 10) and the optional 'cursor'. For
+ *     Server-Sent Events the {@code Last-Event-ID} header is used when no cursor is given, so a
+ *     reconnecting client resumes after the last event it received.</li>
+ *     <li>Writes one JSON document per line, or one event per element whose ID is the cursor
+ *     pointing after it, when the client accepts {@code text/event-stream}.</li>
+ *     <li>Wraps errors that are not a {@link BaseException} in an {@link UnexpectedException}.</li>
+ * </ul>
+ * <p>
+ * Elements are never buffered, so memory stays constant whatever the page size, and the
+ * listing is only read from the database as fast as the client consumes it.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public final class ListingStreams {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private ListingStreams() {
+    }
+
+    /**
+     * Streams a listing in the format the client accepts.
+     *
+     * @param serverRequest The incoming server request, which may contain pagination query parameters.
+     * @param source        The use case call producing the elements of a page.
+     * @param toResponse    Maps an element to its response body.
+     * @param responseType  The type of the response body.
+     * @param cursorOf      Returns the cursor pointing after an element, or {@code null} if it has none.
+     * @param <T>           The type of the streamed elements.
+     * @param <R>           The type of the response bodies.
+     * @return A {@link Mono<ServerResponse>} that emits the response upon completion.
+     */
+    public static <T, R> Mono<ServerResponse> respond(
+            ServerRequest serverRequest,
+            Source<T> source,
+            Function<? super T, R> toResponse,
+            Class<R> responseType,
+            Function<? super T, Cursor> cursorOf
+    ) {
+        int page = Integer.parseInt(serverRequest.queryParam("page").orElse("0"));
+        int size = Integer.parseInt(serverRequest.queryParam("size").orElse("10"));
+        boolean eventStream = serverRequest.headers().accept().contains(MediaType.TEXT_EVENT_STREAM);
+        String cursor = serverRequest.queryParam("cursor")
+                .orElseGet(() -> eventStream ? lastEventId(serverRequest) : null);
+
+        Flux<T> elements = source.stream(page, size, cursor)
+                .onErrorMap(ex -> ex instanceof BaseException ? ex : new UnexpectedException(ex));
+
+        Mono<ServerResponse> response = eventStream
+                ? ServerResponse
+                        .ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(BodyInserters.fromServerSentEvents(elements.map(element -> toEvent(element, toResponse, cursorOf))))
+                : ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(elements.map(toResponse), responseType);
+
+        return response
+                .onErrorResume(ex ->
+                        Mono.error(ex instanceof BaseException ? ex : new UnexpectedException(ex))
+                );
+    }
+
+    private static String lastEventId(ServerRequest serverRequest) {
+        return serverRequest.headers().header(LAST_EVENT_ID).stream().findFirst().orElse(null);
+    }
+
+    private static <T, R> ServerSentEvent<R> toEvent(T element, Function<? super T, R> toResponse, Function<? super T, Cursor> cursorOf) {
+        ServerSentEvent.Builder<R> event = ServerSentEvent.builder(toResponse.apply(element));
+        Cursor cursor = cursorOf.apply(element);
+        if (cursor != null) {
+            event.id(cursor.encode());
+        }
+        return event.build();
+    }
+
+    /**
+     * The use case call streaming the elements of a page.
+     *
+     * @param <T> The type of the streamed elements.
+     */
+    @FunctionalInterface
+    public interface Source<T> {
+
+        /**
+         * Streams the elements of a page.
+         *
+         * @param page   The page number (0-indexed), ignored when a cursor is supplied.
+         * @param size   The maximum number of elements to emit.
+         * @param cursor The continuation token, or {@code null} to use offset pagination.
+         * @return A {@link Flux} emitting the elements.
+         */
+        Flux<T> stream(int page, int size, String cursor);
+    }
+}
@@ -0,0 +1,149 @@
+package pe.ask.university.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.WebFilterChain;
+import pe.ask.university.api.utils.exception.IdempotencyKeyReusedException;
+import pe.ask.university.api.utils.exception.RequestBodyTooLargeException;
+import pe.ask.university.api.utils.exception.ValidationException;
+import pe.ask.university.api.utils.routes.CourseRoutes;
+import pe.ask.university.api.utils.routes.StudentRoutes;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pe.ask.university.api.config.IdempotencyWebFilter.IDEMPOTENCY_KEY;
+import static pe.ask.university.api.config.IdempotencyWebFilter.IDEMPOTENT_REPLAYED;
+
+class IdempotencyWebFilterTest {
+
+    private static final String BODY = "{\"name\":\"Ana\"}";
+
+    private final IdempotencyWebFilter filter = new IdempotencyWebFilter(
+            new IdempotencyProperties(null, null, null, DataSize.ofBytes(64)),
+            new SimpleMeterRegistry()
+    );
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Test
+    void replaysSuccessfulResponseWithoutRunningHandlerAgain() {
+        MockServerWebExchange first = post(StudentRoutes.SAVE_STUDENT, "key-1", BODY);
+        MockServerWebExchange second = post(StudentRoutes.SAVE_STUDENT, "key-1", BODY);
+
+        StepVerifier.create(filter.filter(first, echo(HttpStatus.CREATED))).verifyComplete();
+        StepVerifier.create(filter.filter(second, echo(HttpStatus.CREATED))).verifyComplete();
+
+        assertThat(invocations).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED)).isNull();
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    void waitsForCallInFlightAndReplaysIt() {
+        Sinks.Empty<Void> gate = Sinks.empty();
+        WebFilterChain gated = exchange -> gate.asMono().then(echo(HttpStatus.CREATED).filter(exchange));
+        MockServerWebExchange second = post(StudentRoutes.SAVE_STUDENT, "key-1", BODY);
+
+        filter.filter(post(StudentRoutes.SAVE_STUDENT, "key-1", BODY), gated).subscribe();
+
+        StepVerifier.create(filter.filter(second, gated))
+                .then(gate::tryEmitEmpty)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(invocations).hasValue(1);
+        assertThat(second.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    void rejectsKeyReusedWithDifferentBody() {
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, "key-1", BODY), echo(HttpStatus.CREATED)))
+                .verifyComplete();
+
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, "key-1", "{\"name\":\"Eva\"}"), echo(HttpStatus.CREATED)))
+                .verifyError(IdempotencyKeyReusedException.class);
+
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void runsAgainAfterUnsuccessfulResponse() {
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, "key-1", BODY), echo(HttpStatus.INTERNAL_SERVER_ERROR)))
+                .verifyComplete();
+
+        MockServerWebExchange retry = post(StudentRoutes.SAVE_STUDENT, "key-1", BODY);
+        StepVerifier.create(filter.filter(retry, echo(HttpStatus.CREATED))).verifyComplete();
+
+        assertThat(invocations).hasValue(2);
+        assertThat(retry.getResponse().getHeaders().getFirst(IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    void scopesKeysByPath() {
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, "key-1", BODY), echo(HttpStatus.CREATED)))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(post(CourseRoutes.SAVE_COURSE, "key-1", BODY), echo(HttpStatus.CREATED)))
+                .verifyComplete();
+
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void passesRequestsWithoutKeyThrough() {
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, null, BODY), echo(HttpStatus.CREATED)))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, null, BODY), echo(HttpStatus.CREATED)))
+                .verifyComplete();
+
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void rejectsBlankKey() {
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, " ", BODY), echo(HttpStatus.CREATED)))
+                .verifyError(ValidationException.class);
+
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    void rejectsBodyLargerThanLimit() {
+        StepVerifier.create(filter.filter(post(StudentRoutes.SAVE_STUDENT, "key-1", "x".repeat(65)), echo(HttpStatus.CREATED)))
+                .verifyError(RequestBodyTooLargeException.class);
+
+        assertThat(invocations).hasValue(0);
+    }
+
+    private static MockServerWebExchange post(String path, String key, String body) {
+        MockServerHttpRequest.BodyBuilder request = MockServerHttpRequest.post(path);
+        if (key != null) {
+            request.header(IDEMPOTENCY_KEY, key);
+        }
+        return MockServerWebExchange.from(request.body(body));
+    }
+
+    /**
+     * A handler answering with the given status and the request body it received.
+     */
+    private WebFilterChain echo(HttpStatus status) {
+        return exchange -> {
+            invocations.incrementAndGet();
+            return DataBufferUtils.join(exchange.getRequest().getBody())
+                    .flatMap(body -> {
+                        exchange.getResponse().setStatusCode(status);
+                        return exchange.getResponse().writeWith(Mono.just(body));
+                    });
+        };
+    }
+}
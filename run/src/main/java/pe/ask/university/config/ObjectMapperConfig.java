@@ -1,15 +0,0 @@
-package pe.ask.university.config;
-
-import org.reactivecommons.utils.ObjectMapper;
-import org.reactivecommons.utils.ObjectMapperImp;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class ObjectMapperConfig {
-
-    @Bean
-    ObjectMapper objectMapper() {
-        return new ObjectMapperImp();
-    }
-}
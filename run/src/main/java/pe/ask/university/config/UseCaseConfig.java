@@ -1,5 +1,8 @@
 package pe.ask.university.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
@@ -17,4 +20,9 @@ import pe.ask.university.usecase.utils.UseCase;
         useDefaultFilters = false
 )
 public class UseCaseConfig {
+
+    @Bean
+    static UseCaseMetrics useCaseMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new UseCaseMetrics(meterRegistry);
+    }
 }
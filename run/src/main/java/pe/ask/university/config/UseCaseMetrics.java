@@ -0,0 +1,202 @@
+package pe.ask.university.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import pe.ask.university.model.utils.exception.BaseException;
+import pe.ask.university.usecase.utils.UseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Instruments every bean annotated with {@link UseCase}.
+ * <p>
+ * Each use case bean is wrapped in a proxy on its interfaces. For every call it records:
+ * </p>
+ * <ul>
+ *     <li>{@code usecase.execution}: a timer tagged with {@code usecase}, {@code method},
+ *     {@code outcome} ({@code success}, {@code error} or {@code cancelled}) and
+ *     {@code error_code}, the {@code ErrorCatalog} code of a {@link BaseException},
+ *     {@code UNEXPECTED} for any other error, or {@code none}. Its count series doubles as
+ *     the outcome counter.</li>
+ *     <li>{@code usecase.in_flight}: a gauge of the calls currently running, tagged with
+ *     {@code usecase} and {@code method}.</li>
+ * </ul>
+ * <p>
+ * For methods returning {@link Mono} or {@link Flux} the time runs from subscription until the
+ * publisher terminates, so it covers the database work and not just building the pipeline.
+ * Percentiles and histograms are configured with the standard
+ * {@code management.metrics.distribution.*} properties for {@code usecase.execution}.
+ * </p>
+ *
+ * @author Allan Sagastegui
+ * @version 1.0
+ */
+public class UseCaseMetrics implements BeanPostProcessor {
+
+    static final String EXECUTION_METRIC = "usecase.execution";
+    static final String IN_FLIGHT_METRIC = "usecase.in_flight";
+    private static final String NO_ERROR = "none";
+    private static final String UNEXPECTED_ERROR = "UNEXPECTED";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Constructs a new {@code UseCaseMetrics}.
+     *
+     * @param meterRegistry the registry the metrics are published to, resolved on first use.
+     */
+    public UseCaseMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Wraps use case beans in a metering proxy and returns any other bean unchanged.
+     *
+     * @param bean     the initialized bean.
+     * @param beanName the name of the bean.
+     * @return the proxy, or the bean itself if it is not a use case.
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = bean.getClass();
+        if (!type.isAnnotationPresent(UseCase.class)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(new MeteringInterceptor(type.getSimpleName()));
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+
+    /**
+     * Times the calls of one use case bean.
+     */
+    private final class MeteringInterceptor implements MethodInterceptor {
+
+        private final String useCase;
+        private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+        private MeteringInterceptor(String useCase) {
+            this.useCase = useCase;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            MethodMeters methodMeters = meters.computeIfAbsent(method, m -> new MethodMeters(meterRegistry.getObject(), useCase, m.getName()));
+            Class<?> returnType = method.getReturnType();
+            if (Mono.class.isAssignableFrom(returnType)) {
+                return Mono.defer(() -> {
+                    Call call = methodMeters.start();
+                    return proceed(invocation, Mono.class)
+                            .doOnError(call::failed)
+                            .doFinally(call::finish);
+                });
+            }
+            if (Flux.class.isAssignableFrom(returnType)) {
+                return Flux.defer(() -> {
+                    Call call = methodMeters.start();
+                    return proceed(invocation, Flux.class)
+                            .doOnError(call::failed)
+                            .doFinally(call::finish);
+                });
+            }
+            Call call = methodMeters.start();
+            try {
+                return invocation.proceed();
+            } catch (Throwable ex) {
+                call.failed(ex);
+                throw ex;
+            } finally {
+                call.finish(SignalType.ON_COMPLETE);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <P> P proceed(MethodInvocation invocation, Class<P> publisherType) {
+            try {
+                return (P) invocation.proceed();
+            } catch (Throwable ex) {
+                return (P) (publisherType == Mono.class ? Mono.error(ex) : Flux.error(ex));
+            }
+        }
+    }
+
+    /**
+     * The meters of one use case method.
+     */
+    private static final class MethodMeters {
+
+        private final MeterRegistry registry;
+        private final Meter.MeterProvider<Timer> timers;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private MethodMeters(MeterRegistry registry, String useCase, String method) {
+            Tags tags = Tags.of("usecase", useCase, "method", method);
+            this.registry = registry;
+            this.timers = Timer.builder(EXECUTION_METRIC)
+                    .description("Time spent in use case calls")
+                    .tags(tags)
+                    .withRegistry(registry);
+            Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get)
+                    .description("Use case calls currently running")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        private Call start() {
+            inFlight.incrementAndGet();
+            return new Call(this, Timer.start(registry));
+        }
+    }
+
+    /**
+     * A single running call.
+     */
+    private static final class Call {
+
+        private final MethodMeters meters;
+        private final Timer.Sample sample;
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Call(MethodMeters meters, Timer.Sample sample) {
+            this.meters = meters;
+            this.sample = sample;
+        }
+
+        private void failed(Throwable ex) {
+            error.set(ex);
+        }
+
+        private void finish(SignalType signal) {
+            meters.inFlight.decrementAndGet();
+            Throwable ex = error.get();
+            String outcome = ex != null ? "error" : signal == SignalType.CANCEL ? "cancelled" : "success";
+            sample.stop(meters.timers.withTags("outcome", outcome, "error_code", errorCode(ex)));
+        }
+
+        private static String errorCode(Throwable ex) {
+            if (ex == null) {
+                return NO_ERROR;
+            }
+            return ex instanceof BaseException baseException ? baseException.getErrorCode() : UNEXPECTED_ERROR;
+        }
+    }
+}